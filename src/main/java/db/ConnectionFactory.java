@@ -1,9 +1,7 @@
 package db;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.Statement;
 
 /**
  * Classe responsável por gerenciar a conexão com o banco de dados SQLite
@@ -11,72 +9,164 @@ import java.sql.Statement;
  * sejam criadas automaticamente ao iniciar a aplicação.
  *
  * <p>A classe utiliza o padrão de fábrica (Factory Pattern) para
- * fornecer conexões prontas para uso.</p>
+ * fornecer conexões prontas para uso. O acesso segue a topologia de
+ * escritor único e múltiplos leitores recomendada para o SQLite:</p>
+ * <ul>
+ *   <li>{@link #getReadConnection()} – conexões somente leitura de um
+ *       {@link ConnectionPool}; em modo WAL, nunca esperam pelo escritor;</li>
+ *   <li>{@link #executeWrite(SqlWork)} – escritas serializadas pelo
+ *       {@link SingleWriter}, dono da única conexão de escrita;</li>
+ *   <li>{@link #getConnection()} – conexões de uso geral, com leitura e
+ *       escrita, para ferramentas e rotinas administrativas.</li>
+ * </ul>
+ *
+ * <p>Os pools são dimensionados por {@link PoolConfig#fromSystemProperties()}.
+ * Antes de criá-los, o esquema é atualizado uma única vez pelo
+ * {@link SchemaManager}; depois disso nenhuma conexão executa DDL. Cada
+ * conexão física recebe os <code>PRAGMA</code>s do
+ * {@link PerformanceProfile} escolhido pela propriedade <code>db.profile</code>.</p>
  */
 public class ConnectionFactory {
-    
-    /** Caminho do banco de dados SQLite utilizado pelo sistema. */
-    private static final String DB_URL = "jdbc:sqlite:db_escola.db";
-    
+
+    /**
+     * Caminho do banco de dados SQLite utilizado pelo sistema. Pode ser
+     * trocado pela propriedade de sistema <code>db.url</code> (por exemplo,
+     * para apontar benchmarks para um arquivo temporário).
+     */
+    private static final String DB_URL = System.getProperty("db.url", "jdbc:sqlite:db_escola.db");
+
+    /** Pool de uso geral, criado no primeiro pedido de conexão. */
+    private static volatile ConnectionPool pool;
+
+    /** Pool de conexões somente leitura. */
+    private static ConnectionPool readPool;
+
+    /** Escritor único da aplicação. */
+    private static SingleWriter writer;
+
+    /** Sonda de alterações, com conexão própria fora dos pools. */
+    private static DataVersionProbe versionProbe;
+
     /**
      * Obtém uma conexão ativa com o banco de dados SQLite.
-     * 
-     * <p>Ao estabelecer a conexão, o método também chama
-     * {@link #initializeTables(Connection)} para garantir que as tabelas
-     * essenciais existam.</p>
+     *
+     * <p>A conexão é emprestada do pool de uso geral; ao ser fechada, ela
+     * é devolvida ao pool em vez de encerrada. Os repositórios devem
+     * preferir {@link #getReadConnection()} e {@link #executeWrite(SqlWork)}.</p>
      *
      * @return uma conexão válida com o banco de dados.
-     * @throws SQLException se ocorrer erro ao abrir a conexão.
+     * @throws SQLException se ocorrer erro ao abrir a conexão ou ao
+     *         preparar o esquema na primeira chamada.
      */
     public static Connection getConnection() throws SQLException {
         try {
-            Connection connection = DriverManager.getConnection(DB_URL);
-            initializeTables(connection);
-            return connection;
+            return getPool().getConnection();
         } catch (SQLException e) {
             System.err.println("Erro ao conectar ao banco de dados SQLite: " + e.getMessage());
             throw e;
         }
     }
-    
+
     /**
-     * Cria as tabelas necessárias no banco de dados caso elas ainda não existam.
-     * 
-     * <p>Atualmente, este método garante a existência das tabelas:</p>
-     * <ul>
-     *   <li><b>tb_alunos</b> – Armazena dados dos alunos.</li>
-     *   <li><b>tb_professores</b> – Armazena dados dos professores.</li>
-     * </ul>
+     * Obtém uma conexão somente leitura do pool de leitores.
      *
-     * @param connection conexão ativa usada para executar comandos SQL.
+     * <p>Qualquer tentativa de escrita nessa conexão falha. Fechá-la a
+     * devolve ao pool.</p>
+     *
+     * @return conexão de leitura.
+     * @throws SQLException se ocorrer erro ao abrir a conexão.
      */
-    private static void initializeTables(Connection connection) {
-        try (Statement stmt = connection.createStatement()) {
-            String createAlunosTable = 
-                "CREATE TABLE IF NOT EXISTS tb_alunos (" +
-                "id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, " +
-                "nome VARCHAR(250), " +
-                "idade INTEGER, " +
-                "curso VARCHAR(45), " +
-                "fase INTEGER" +
-                ")";
-            
-            String createProfessoresTable = 
-                "CREATE TABLE IF NOT EXISTS tb_professores (" +
-                "id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, " +
-                "nome VARCHAR(250), " +
-                "idade INTEGER, " +
-                "campus VARCHAR(45), " +
-                "cpf VARCHAR(14), " +
-                "contato VARCHAR(16), " +
-                "titulo VARCHAR(45), " +
-                "salario REAL" +
-                ")";
-            
-            stmt.execute(createAlunosTable);
-            stmt.execute(createProfessoresTable);
+    public static Connection getReadConnection() throws SQLException {
+        getPool();
+        try {
+            return readPool.getConnection();
         } catch (SQLException e) {
-            System.err.println("Erro ao inicializar tabelas: " + e.getMessage());
+            System.err.println("Erro ao conectar ao banco de dados SQLite: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Executa um trabalho de escrita no escritor único, dentro de uma
+     * transação própria, e aguarda o resultado.
+     *
+     * @param work trabalho a executar
+     * @param <T> tipo do resultado
+     * @return resultado do trabalho
+     * @throws SQLException se o trabalho falhar; nesse caso a transação é desfeita
+     */
+    public static <T> T executeWrite(SqlWork<T> work) throws SQLException {
+        getPool();
+        return writer.execute(work);
+    }
+
+    /**
+     * Retorna a versão atual dos dados (<code>PRAGMA data_version</code>),
+     * lida por uma conexão dedicada que nunca escreve.
+     *
+     * <p>O valor muda sempre que alguma escrita é confirmada no banco, por
+     * esta aplicação ou por outro processo; só a igualdade entre duas
+     * leituras tem significado. Usado para revalidar caches sem reler as
+     * tabelas.</p>
+     *
+     * @return versão opaca dos dados
+     * @throws SQLException se não for possível consultar a versão
+     */
+    public static long getDataVersion() throws SQLException {
+        getPool();
+        return versionProbe.currentVersion();
+    }
+
+    /**
+     * Retorna as estatísticas atuais do pool de conexões de uso geral.
+     *
+     * @return fotografia dos contadores do pool.
+     * @throws SQLException se o pool ainda não existir e não puder ser criado.
+     */
+    public static PoolStats getPoolStats() throws SQLException {
+        return getPool().getStats();
+    }
+
+    /**
+     * Retorna as estatísticas atuais do pool de conexões de leitura.
+     *
+     * @return fotografia dos contadores do pool de leitura.
+     * @throws SQLException se o pool ainda não existir e não puder ser criado.
+     */
+    public static PoolStats getReadPoolStats() throws SQLException {
+        getPool();
+        return readPool.getStats();
+    }
+
+    /**
+     * Retorna o pool de uso geral, criando na primeira chamada toda a
+     * topologia de acesso (pools e escritor).
+     *
+     * <p>A criação aplica as migrações pendentes do esquema. Caso falhe, a
+     * exceção é propagada e a próxima chamada tenta novamente.</p>
+     *
+     * @return pool de conexões de uso geral.
+     * @throws SQLException se não for possível preparar o esquema.
+     */
+    private static ConnectionPool getPool() throws SQLException {
+        ConnectionPool atual = pool;
+        if (atual == null) {
+            synchronized (ConnectionFactory.class) {
+                atual = pool;
+                if (atual == null) {
+                    SchemaManager.padrao().migrate(DB_URL);
+
+                    PoolConfig config = PoolConfig.fromSystemProperties();
+                    PerformanceProfile perfil = PerformanceProfile.fromSystemProperties();
+
+                    writer = new SingleWriter(DB_URL, perfil, SingleWriter.DEFAULT_QUEUE_CAPACITY);
+                    readPool = new ConnectionPool(DB_URL, config, perfil.andThen(ConnectionInitializer.queryOnly()));
+                    versionProbe = new DataVersionProbe(DB_URL, ConnectionInitializer.queryOnly());
+                    atual = new ConnectionPool(DB_URL, config, perfil);
+                    pool = atual;
+                }
+            }
         }
+        return atual;
     }
 }
@@ -0,0 +1,48 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Rotina de preparação aplicada a cada conexão física logo após sua
+ * abertura pelo {@link ConnectionPool}, antes do primeiro empréstimo.
+ */
+@FunctionalInterface
+public interface ConnectionInitializer {
+
+    /**
+     * Prepara a conexão recém-criada.
+     *
+     * @param connection conexão física recém-aberta
+     * @throws SQLException se a preparação falhar; nesse caso a conexão é descartada
+     */
+    void initialize(Connection connection) throws SQLException;
+
+    /**
+     * Retorna uma preparação que executa esta e, em seguida, a informada.
+     *
+     * @param proxima preparação executada depois desta
+     * @return preparação composta
+     */
+    default ConnectionInitializer andThen(ConnectionInitializer proxima) {
+        return connection -> {
+            initialize(connection);
+            proxima.initialize(connection);
+        };
+    }
+
+    /**
+     * Preparação que torna a conexão somente leitura
+     * (<code>PRAGMA query_only = ON</code>): qualquer tentativa de escrita falha.
+     *
+     * @return preparação de conexões de leitura
+     */
+    static ConnectionInitializer queryOnly() {
+        return connection -> {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA query_only = ON");
+            }
+        };
+    }
+}
@@ -0,0 +1,352 @@
+package db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool de conexões JDBC limitado e seguro para uso concorrente.
+ *
+ * <p>O número de conexões emprestadas simultaneamente nunca ultrapassa
+ * {@link PoolConfig#getMaxSize()}. As conexões devolvidas ficam ociosas
+ * em uma pilha (LIFO), de modo que as mais recentes sejam reaproveitadas
+ * primeiro e as antigas expirem por ociosidade.</p>
+ *
+ * <p>As conexões entregues ao chamador são <i>proxies</i>: chamar
+ * {@link Connection#close()} não fecha a conexão física, apenas a devolve
+ * ao pool. Assim, os repositórios continuam usando
+ * <code>try-with-resources</code> normalmente.</p>
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final String url;
+    private final PoolConfig config;
+    private final ConnectionInitializer initializer;
+    private final Semaphore permits;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private final ScheduledExecutorService evictor;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Cria um pool para a URL informada.
+     *
+     * @param url URL JDBC usada para abrir as conexões físicas
+     * @param config parâmetros de dimensionamento, validação e ociosidade
+     * @param initializer rotina executada uma única vez em cada conexão física
+     *        recém-criada; pode ser {@code null}
+     */
+    public ConnectionPool(String url, PoolConfig config, ConnectionInitializer initializer) {
+        this.url = url;
+        this.config = config;
+        this.initializer = initializer;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+
+        if (config.getIdleTimeoutMillis() > 0) {
+            this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "connection-pool-evictor");
+                t.setDaemon(true);
+                return t;
+            });
+            long intervalo = Math.max(1000L, config.getIdleTimeoutMillis() / 2);
+            this.evictor.scheduleWithFixedDelay(this::evictIdle, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        } else {
+            this.evictor = null;
+        }
+    }
+
+    /**
+     * Empresta uma conexão do pool, aguardando no máximo
+     * {@link PoolConfig#getBorrowTimeoutMillis()} caso todas estejam em uso.
+     *
+     * <p>Conexões ociosas são validadas antes de serem entregues; as que
+     * falharem na validação ou estiverem expiradas são descartadas e
+     * substituídas por novas.</p>
+     *
+     * @return conexão pronta para uso; fechá-la a devolve ao pool
+     * @throws SQLException se o pool estiver fechado, se o tempo de espera
+     *         esgotar ou se não for possível abrir uma nova conexão
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Pool de conexões encerrado.");
+        }
+
+        try {
+            if (!permits.tryAcquire(config.getBorrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                throw new SQLException("Tempo esgotado aguardando conexão livre no pool ("
+                        + config.getBorrowTimeoutMillis() + " ms).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido aguardando conexão do pool.", e);
+        }
+
+        try {
+            Connection fisica = takeValidIdle();
+            if (fisica == null) {
+                fisica = createPhysical();
+            }
+            borrowed.incrementAndGet();
+            return wrap(fisica);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Retira da pilha de ociosas a primeira conexão ainda válida.
+     *
+     * @return conexão física válida ou {@code null} se nenhuma estiver disponível
+     */
+    private Connection takeValidIdle() {
+        while (true) {
+            IdleConnection candidata;
+            synchronized (idle) {
+                candidata = idle.pollFirst();
+            }
+            if (candidata == null) {
+                return null;
+            }
+            if (isExpired(candidata, System.currentTimeMillis())) {
+                evicted.incrementAndGet();
+                closeQuietly(candidata.connection);
+                continue;
+            }
+            if (config.isValidateOnBorrow() && !isValid(candidata.connection)) {
+                validationFailures.incrementAndGet();
+                closeQuietly(candidata.connection);
+                continue;
+            }
+            return candidata.connection;
+        }
+    }
+
+    private Connection createPhysical() throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+        try {
+            if (initializer != null) {
+                initializer.initialize(connection);
+            }
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        created.incrementAndGet();
+        return connection;
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(IdleConnection conexao, long agora) {
+        return config.getIdleTimeoutMillis() > 0
+                && agora - conexao.idleSince >= config.getIdleTimeoutMillis();
+    }
+
+    /**
+     * Devolve uma conexão física ao pool. Transações pendentes são
+     * desfeitas e o modo <i>auto-commit</i> é restaurado antes que a
+     * conexão volte a ficar disponível.
+     *
+     * @param connection conexão física emprestada anteriormente
+     */
+    private void release(Connection connection) {
+        try {
+            boolean reutilizavel = !closed && !connection.isClosed();
+            if (reutilizavel) {
+                try {
+                    if (!connection.getAutoCommit()) {
+                        connection.rollback();
+                        connection.setAutoCommit(true);
+                    }
+                    connection.clearWarnings();
+                } catch (SQLException e) {
+                    reutilizavel = false;
+                }
+            }
+
+            if (reutilizavel) {
+                synchronized (idle) {
+                    idle.offerFirst(new IdleConnection(connection, System.currentTimeMillis()));
+                }
+            } else {
+                closeQuietly(connection);
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Fecha as conexões que estão ociosas há mais tempo que
+     * {@link PoolConfig#getIdleTimeoutMillis()}, preservando ao menos
+     * {@link PoolConfig#getMinIdle()} conexões abertas.
+     *
+     * <p>É executado periodicamente por uma thread de manutenção, mas pode
+     * ser chamado manualmente.</p>
+     *
+     * @return quantidade de conexões removidas
+     */
+    public int evictIdle() {
+        long agora = System.currentTimeMillis();
+        int removidas = 0;
+        synchronized (idle) {
+            // As mais antigas ficam no fim da pilha.
+            Iterator<IdleConnection> it = idle.descendingIterator();
+            while (it.hasNext() && idle.size() > config.getMinIdle()) {
+                IdleConnection conexao = it.next();
+                if (!isExpired(conexao, agora)) {
+                    break;
+                }
+                it.remove();
+                closeQuietly(conexao.connection);
+                removidas++;
+            }
+        }
+        evicted.addAndGet(removidas);
+        return removidas;
+    }
+
+    /**
+     * Retorna uma fotografia dos contadores do pool.
+     *
+     * @return estatísticas atuais
+     */
+    public PoolStats getStats() {
+        int ociosas;
+        synchronized (idle) {
+            ociosas = idle.size();
+        }
+        int ativas = config.getMaxSize() - permits.availablePermits();
+        return new PoolStats(config.getMaxSize(), ativas, ociosas, created.get(), borrowed.get(),
+                evicted.get(), validationFailures.get(), timeouts.get());
+    }
+
+    /**
+     * Retorna a configuração utilizada por este pool.
+     *
+     * @return configuração do pool
+     */
+    public PoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Encerra o pool, fechando todas as conexões ociosas. Conexões ainda
+     * emprestadas são fechadas fisicamente quando forem devolvidas.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        synchronized (idle) {
+            for (IdleConnection conexao : idle) {
+                closeQuietly(conexao.connection);
+            }
+            idle.clear();
+        }
+    }
+
+    private Connection wrap(Connection fisica) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(fisica));
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Conexão já está sendo descartada; nada a fazer.
+        }
+    }
+
+    /**
+     * Conexão ociosa e o instante em que foi devolvida ao pool.
+     */
+    private static final class IdleConnection {
+        private final Connection connection;
+        private final long idleSince;
+
+        IdleConnection(Connection connection, long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    /**
+     * Intercepta as chamadas feitas à conexão emprestada, transformando
+     * {@code close()} em devolução ao pool e impedindo o uso após a devolução.
+     */
+    private final class PooledConnectionHandler implements InvocationHandler {
+
+        private final Connection fisica;
+        private boolean devolvida;
+
+        PooledConnectionHandler(Connection fisica) {
+            this.fisica = fisica;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String nome = method.getName();
+            if ("equals".equals(nome)) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(nome)) {
+                return System.identityHashCode(proxy);
+            }
+            synchronized (this) {
+                if ("close".equals(nome)) {
+                    if (!devolvida) {
+                        devolvida = true;
+                        release(fisica);
+                    }
+                    return null;
+                }
+                if ("isClosed".equals(nome)) {
+                    return devolvida || fisica.isClosed();
+                }
+                if (devolvida) {
+                    throw new SQLException("Conexão já foi devolvida ao pool.");
+                }
+            }
+            try {
+                return method.invoke(fisica, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
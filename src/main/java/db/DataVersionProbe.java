@@ -0,0 +1,93 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sonda de alterações no banco baseada em <code>PRAGMA data_version</code>.
+ *
+ * <p>O SQLite muda o valor de <code>data_version</code> de uma conexão
+ * sempre que <b>outra</b> conexão confirma uma alteração no arquivo. Por isso
+ * a sonda mantém uma conexão própria, que nunca escreve: qualquer escrita do
+ * {@link SingleWriter}, do pool de uso geral ou de outro processo é
+ * percebida. A consulta não lê nenhuma tabela e custa alguns microssegundos.</p>
+ *
+ * <p>O valor retornado por {@link #currentVersion()} é opaco: só a igualdade
+ * entre duas leituras tem significado. Se a conexão precisar ser reaberta, o
+ * valor passa a incluir um contador de aberturas, para que uma leitura feita
+ * na conexão nova nunca seja confundida com uma feita na anterior.</p>
+ */
+public class DataVersionProbe implements AutoCloseable {
+
+    private final String url;
+    private final ConnectionInitializer initializer;
+
+    private Connection connection;
+    private long aberturas;
+
+    /**
+     * Cria a sonda; a conexão só é aberta na primeira leitura.
+     *
+     * @param url URL JDBC do banco observado
+     * @param initializer preparação aplicada à conexão da sonda; pode ser {@code null}
+     */
+    public DataVersionProbe(String url, ConnectionInitializer initializer) {
+        this.url = url;
+        this.initializer = initializer;
+    }
+
+    /**
+     * Lê a versão atual dos dados.
+     *
+     * @return valor que muda sempre que outra conexão confirma uma alteração
+     * @throws SQLException se não for possível abrir a conexão ou consultar a versão;
+     *         nesse caso a conexão é descartada e reaberta na próxima chamada
+     */
+    public synchronized long currentVersion() throws SQLException {
+        if (connection == null) {
+            connection = abrir();
+            aberturas++;
+        }
+        try (Statement stmt = connection.createStatement();
+             ResultSet res = stmt.executeQuery("PRAGMA data_version")) {
+            res.next();
+            return (aberturas << 32) | (res.getLong(1) & 0xFFFFFFFFL);
+        } catch (SQLException e) {
+            fechar();
+            throw e;
+        }
+    }
+
+    /** Fecha a conexão da sonda. */
+    @Override
+    public synchronized void close() {
+        fechar();
+    }
+
+    private Connection abrir() throws SQLException {
+        Connection nova = DriverManager.getConnection(url);
+        try {
+            if (initializer != null) {
+                initializer.initialize(nova);
+            }
+            return nova;
+        } catch (SQLException e) {
+            nova.close();
+            throw e;
+        }
+    }
+
+    private void fechar() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignorada) {
+                // a conexão será reaberta na próxima leitura
+            }
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representa uma migração numerada do esquema do banco de dados.
+ *
+ * <p>Cada migração possui uma versão única e crescente e um conjunto de
+ * comandos SQL que levam o esquema da versão anterior para a sua versão.
+ * As migrações são aplicadas pelo {@link SchemaManager}.</p>
+ */
+public final class Migration {
+
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+
+    /**
+     * Cria uma migração.
+     *
+     * @param version número da versão que o esquema passa a ter (maior que zero)
+     * @param description breve descrição da alteração
+     * @param statements comandos SQL executados, na ordem informada
+     * @throws IllegalArgumentException se a versão não for positiva
+     */
+    public Migration(int version, String description, String... statements) {
+        if (version <= 0) {
+            throw new IllegalArgumentException("Versão de migração deve ser positiva: " + version);
+        }
+        this.version = version;
+        this.description = description;
+        this.statements = Collections.unmodifiableList(Arrays.asList(statements));
+    }
+
+    /** @return versão que o esquema passa a ter após a migração. */
+    public int getVersion() {
+        return version;
+    }
+
+    /** @return descrição da migração. */
+    public String getDescription() {
+        return description;
+    }
+
+    /** @return comandos SQL da migração, na ordem de execução. */
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Executa os comandos da migração na conexão informada. O controle
+     * transacional fica a cargo do {@link SchemaManager}.
+     *
+     * @param connection conexão com transação já iniciada
+     * @throws SQLException se algum comando falhar
+     */
+    void apply(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+    }
+}
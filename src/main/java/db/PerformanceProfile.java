@@ -0,0 +1,204 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Conjunto de <code>PRAGMA</code>s de desempenho aplicados pelo
+ * {@link ConnectionPool} a cada conexão SQLite recém-criada.
+ *
+ * <p>Há três perfis pré-definidos:</p>
+ * <ul>
+ *   <li><b>durable</b> – WAL com <code>synchronous=FULL</code>: nenhuma
+ *       transação confirmada é perdida nem em queda de energia;</li>
+ *   <li><b>balanced</b> (padrão) – WAL com <code>synchronous=NORMAL</code>,
+ *       cache de 16 MiB e mmap de 256 MiB: leitores não bloqueiam durante
+ *       escritas e cada commit dispensa o <i>fsync</i> do banco;</li>
+ *   <li><b>bulk-load</b> – WAL com <code>synchronous=OFF</code> e cache
+ *       maior, para cargas em massa que podem ser refeitas em caso de falha.</li>
+ * </ul>
+ *
+ * <p>O perfil ativo é escolhido pela propriedade de sistema
+ * <code>db.profile</code>, e cada valor pode ser sobrescrito individualmente
+ * (veja {@link #fromSystemProperties()}).</p>
+ */
+public final class PerformanceProfile implements ConnectionInitializer {
+
+    /** Modos de journal suportados pelo SQLite. */
+    public enum JournalMode { DELETE, TRUNCATE, PERSIST, MEMORY, WAL, OFF }
+
+    /** Níveis de sincronização com o disco. */
+    public enum Synchronous { OFF, NORMAL, FULL, EXTRA }
+
+    /** Local de armazenamento de tabelas e índices temporários. */
+    public enum TempStore { DEFAULT, FILE, MEMORY }
+
+    /** Perfil que prioriza a durabilidade. */
+    public static final PerformanceProfile DURABLE = new PerformanceProfile(
+            "durable", JournalMode.WAL, Synchronous.FULL, -8_000, 0L, TempStore.DEFAULT, 5_000);
+
+    /** Perfil padrão, equilibrando desempenho e segurança. */
+    public static final PerformanceProfile BALANCED = new PerformanceProfile(
+            "balanced", JournalMode.WAL, Synchronous.NORMAL, -16_000, 268_435_456L, TempStore.MEMORY, 5_000);
+
+    /** Perfil para cargas em massa. */
+    public static final PerformanceProfile BULK_LOAD = new PerformanceProfile(
+            "bulk-load", JournalMode.WAL, Synchronous.OFF, -64_000, 268_435_456L, TempStore.MEMORY, 30_000);
+
+    private final String name;
+    private final JournalMode journalMode;
+    private final Synchronous synchronous;
+    private final int cacheSize;
+    private final long mmapSize;
+    private final TempStore tempStore;
+    private final int busyTimeoutMillis;
+
+    /**
+     * Cria um perfil de desempenho personalizado.
+     *
+     * @param name nome do perfil, usado em mensagens
+     * @param journalMode valor de <code>journal_mode</code>
+     * @param synchronous valor de <code>synchronous</code>
+     * @param cacheSize valor de <code>cache_size</code>; positivo em páginas,
+     *        negativo em KiB (convenção do SQLite)
+     * @param mmapSize valor de <code>mmap_size</code> em bytes (0 desativa)
+     * @param tempStore valor de <code>temp_store</code>
+     * @param busyTimeoutMillis valor de <code>busy_timeout</code> em milissegundos
+     * @throws IllegalArgumentException se algum valor for inválido
+     */
+    public PerformanceProfile(String name, JournalMode journalMode, Synchronous synchronous,
+                              int cacheSize, long mmapSize, TempStore tempStore, int busyTimeoutMillis) {
+        if (journalMode == null || synchronous == null || tempStore == null) {
+            throw new IllegalArgumentException("Modos do perfil de desempenho não podem ser nulos.");
+        }
+        if (mmapSize < 0 || busyTimeoutMillis < 0) {
+            throw new IllegalArgumentException("mmap_size e busy_timeout não podem ser negativos.");
+        }
+        this.name = name;
+        this.journalMode = journalMode;
+        this.synchronous = synchronous;
+        this.cacheSize = cacheSize;
+        this.mmapSize = mmapSize;
+        this.tempStore = tempStore;
+        this.busyTimeoutMillis = busyTimeoutMillis;
+    }
+
+    /**
+     * Retorna o perfil pré-definido com o nome informado.
+     *
+     * @param nome "durable", "balanced" ou "bulk-load" (sem diferenciar maiúsculas)
+     * @return perfil correspondente
+     * @throws IllegalArgumentException se o nome for desconhecido
+     */
+    public static PerformanceProfile porNome(String nome) {
+        String chave = nome == null ? "" : nome.trim().toLowerCase(Locale.ROOT);
+        switch (chave) {
+            case "durable":
+                return DURABLE;
+            case "balanced":
+                return BALANCED;
+            case "bulk-load":
+                return BULK_LOAD;
+            default:
+                throw new IllegalArgumentException("Perfil de desempenho desconhecido: " + nome);
+        }
+    }
+
+    /**
+     * Monta o perfil a partir das propriedades de sistema.
+     *
+     * <p><code>db.profile</code> escolhe o perfil base (padrão "balanced").
+     * Os valores podem então ser sobrescritos por <code>db.sqlite.journalMode</code>,
+     * <code>db.sqlite.synchronous</code>, <code>db.sqlite.cacheSize</code>,
+     * <code>db.sqlite.mmapSize</code>, <code>db.sqlite.tempStore</code> e
+     * <code>db.sqlite.busyTimeout</code>.</p>
+     *
+     * @return perfil resultante
+     * @throws IllegalArgumentException se alguma propriedade for inválida
+     */
+    public static PerformanceProfile fromSystemProperties() {
+        PerformanceProfile base = porNome(System.getProperty("db.profile", "balanced"));
+        return new PerformanceProfile(
+                base.name,
+                JournalMode.valueOf(System.getProperty("db.sqlite.journalMode", base.journalMode.name()).toUpperCase(Locale.ROOT)),
+                Synchronous.valueOf(System.getProperty("db.sqlite.synchronous", base.synchronous.name()).toUpperCase(Locale.ROOT)),
+                Integer.parseInt(System.getProperty("db.sqlite.cacheSize", String.valueOf(base.cacheSize))),
+                Long.parseLong(System.getProperty("db.sqlite.mmapSize", String.valueOf(base.mmapSize))),
+                TempStore.valueOf(System.getProperty("db.sqlite.tempStore", base.tempStore.name()).toUpperCase(Locale.ROOT)),
+                Integer.parseInt(System.getProperty("db.sqlite.busyTimeout", String.valueOf(base.busyTimeoutMillis))));
+    }
+
+    /**
+     * Aplica os <code>PRAGMA</code>s do perfil na conexão.
+     *
+     * <p><code>busy_timeout</code> é aplicado primeiro, para que a troca do
+     * modo de journal aguarde outras conexões em vez de falhar de imediato.</p>
+     *
+     * @param connection conexão recém-aberta
+     * @throws SQLException se algum <code>PRAGMA</code> falhar
+     */
+    @Override
+    public void initialize(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + busyTimeoutMillis);
+            stmt.execute("PRAGMA journal_mode = " + journalMode.name());
+            stmt.execute("PRAGMA synchronous = " + synchronous.name());
+            stmt.execute("PRAGMA cache_size = " + cacheSize);
+            stmt.execute("PRAGMA mmap_size = " + mmapSize);
+            stmt.execute("PRAGMA temp_store = " + tempStore.name());
+        }
+    }
+
+    /** @return nome do perfil. */
+    public String getName() {
+        return name;
+    }
+
+    /** @return modo de journal. */
+    public JournalMode getJournalMode() {
+        return journalMode;
+    }
+
+    /** @return nível de sincronização. */
+    public Synchronous getSynchronous() {
+        return synchronous;
+    }
+
+    /** @return tamanho do cache (páginas se positivo, KiB se negativo). */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /** @return tamanho do mapeamento em memória, em bytes. */
+    public long getMmapSize() {
+        return mmapSize;
+    }
+
+    /** @return local dos temporários. */
+    public TempStore getTempStore() {
+        return tempStore;
+    }
+
+    /** @return tempo de espera por bloqueios, em milissegundos. */
+    public int getBusyTimeoutMillis() {
+        return busyTimeoutMillis;
+    }
+
+    /**
+     * Retorna uma representação textual do perfil.
+     *
+     * @return resumo dos valores configurados
+     */
+    @Override
+    public String toString() {
+        return "PerformanceProfile[" + name
+                + ", journal_mode=" + journalMode
+                + ", synchronous=" + synchronous
+                + ", cache_size=" + cacheSize
+                + ", mmap_size=" + mmapSize
+                + ", temp_store=" + tempStore
+                + ", busy_timeout=" + busyTimeoutMillis + "]";
+    }
+}
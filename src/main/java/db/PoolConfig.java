@@ -0,0 +1,124 @@
+package db;
+
+/**
+ * Parâmetros de configuração do {@link ConnectionPool}.
+ *
+ * <p>Os valores padrão podem ser sobrescritos por propriedades de sistema
+ * (por exemplo <code>-Ddb.pool.maxSize=8</code>) através de
+ * {@link #fromSystemProperties()}.</p>
+ */
+public final class PoolConfig {
+
+    /** Quantidade máxima padrão de conexões simultâneas. */
+    public static final int DEFAULT_MAX_SIZE = 4;
+
+    /** Quantidade mínima padrão de conexões ociosas preservadas na remoção por ociosidade. */
+    public static final int DEFAULT_MIN_IDLE = 1;
+
+    /** Tempo padrão de espera por uma conexão livre, em milissegundos. */
+    public static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 30_000L;
+
+    /** Tempo padrão de ociosidade antes do descarte, em milissegundos. */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 300_000L;
+
+    /** Tempo padrão da validação no empréstimo, em segundos. */
+    public static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final int maxSize;
+    private final int minIdle;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final boolean validateOnBorrow;
+    private final int validationTimeoutSeconds;
+
+    /**
+     * Cria uma configuração completa do pool.
+     *
+     * @param maxSize quantidade máxima de conexões emprestadas ao mesmo tempo (mínimo 1)
+     * @param minIdle conexões ociosas preservadas durante a remoção por ociosidade
+     * @param borrowTimeoutMillis tempo máximo de espera por uma conexão livre
+     * @param idleTimeoutMillis tempo de ociosidade após o qual a conexão é fechada;
+     *        0 desativa a remoção
+     * @param validateOnBorrow se conexões ociosas devem ser validadas antes do empréstimo
+     * @param validationTimeoutSeconds tempo limite da validação, em segundos
+     * @throws IllegalArgumentException se algum valor estiver fora do intervalo permitido
+     */
+    public PoolConfig(int maxSize, int minIdle, long borrowTimeoutMillis, long idleTimeoutMillis,
+                      boolean validateOnBorrow, int validationTimeoutSeconds) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Tamanho máximo do pool deve ser ao menos 1: " + maxSize);
+        }
+        if (minIdle < 0 || minIdle > maxSize) {
+            throw new IllegalArgumentException("Mínimo de conexões ociosas inválido: " + minIdle);
+        }
+        if (borrowTimeoutMillis < 0 || idleTimeoutMillis < 0 || validationTimeoutSeconds < 0) {
+            throw new IllegalArgumentException("Tempos de espera não podem ser negativos.");
+        }
+        this.maxSize = maxSize;
+        this.minIdle = minIdle;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validateOnBorrow = validateOnBorrow;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    /**
+     * Retorna a configuração padrão do sistema.
+     *
+     * @return configuração com os valores padrão
+     */
+    public static PoolConfig padrao() {
+        return new PoolConfig(DEFAULT_MAX_SIZE, DEFAULT_MIN_IDLE, DEFAULT_BORROW_TIMEOUT_MILLIS,
+                DEFAULT_IDLE_TIMEOUT_MILLIS, true, DEFAULT_VALIDATION_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Monta a configuração a partir das propriedades de sistema
+     * <code>db.pool.maxSize</code>, <code>db.pool.minIdle</code>,
+     * <code>db.pool.borrowTimeoutMillis</code>, <code>db.pool.idleTimeoutMillis</code>,
+     * <code>db.pool.validateOnBorrow</code> e <code>db.pool.validationTimeoutSeconds</code>,
+     * usando os valores padrão para as ausentes.
+     *
+     * @return configuração resultante
+     * @throws IllegalArgumentException se alguma propriedade numérica for inválida
+     */
+    public static PoolConfig fromSystemProperties() {
+        return new PoolConfig(
+                Integer.parseInt(System.getProperty("db.pool.maxSize", String.valueOf(DEFAULT_MAX_SIZE))),
+                Integer.parseInt(System.getProperty("db.pool.minIdle", String.valueOf(DEFAULT_MIN_IDLE))),
+                Long.parseLong(System.getProperty("db.pool.borrowTimeoutMillis", String.valueOf(DEFAULT_BORROW_TIMEOUT_MILLIS))),
+                Long.parseLong(System.getProperty("db.pool.idleTimeoutMillis", String.valueOf(DEFAULT_IDLE_TIMEOUT_MILLIS))),
+                Boolean.parseBoolean(System.getProperty("db.pool.validateOnBorrow", "true")),
+                Integer.parseInt(System.getProperty("db.pool.validationTimeoutSeconds", String.valueOf(DEFAULT_VALIDATION_TIMEOUT_SECONDS))));
+    }
+
+    /** @return quantidade máxima de conexões emprestadas simultaneamente. */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** @return conexões ociosas preservadas durante a remoção por ociosidade. */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /** @return tempo máximo de espera por uma conexão livre, em milissegundos. */
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    /** @return tempo de ociosidade antes do descarte, em milissegundos (0 = desativado). */
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    /** @return se as conexões ociosas são validadas no empréstimo. */
+    public boolean isValidateOnBorrow() {
+        return validateOnBorrow;
+    }
+
+    /** @return tempo limite da validação, em segundos. */
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+}
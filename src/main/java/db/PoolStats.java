@@ -0,0 +1,97 @@
+package db;
+
+/**
+ * Fotografia imutável dos contadores de um {@link ConnectionPool}.
+ */
+public final class PoolStats {
+
+    private final int maxSize;
+    private final int active;
+    private final int idle;
+    private final long created;
+    private final long borrowed;
+    private final long evicted;
+    private final long validationFailures;
+    private final long timeouts;
+
+    /**
+     * Cria uma fotografia das estatísticas do pool.
+     *
+     * @param maxSize capacidade máxima do pool
+     * @param active conexões emprestadas no momento
+     * @param idle conexões ociosas disponíveis
+     * @param created total de conexões físicas abertas
+     * @param borrowed total de empréstimos realizados
+     * @param evicted total de conexões descartadas por ociosidade
+     * @param validationFailures total de conexões descartadas na validação
+     * @param timeouts total de empréstimos que esgotaram o tempo de espera
+     */
+    public PoolStats(int maxSize, int active, int idle, long created, long borrowed,
+                     long evicted, long validationFailures, long timeouts) {
+        this.maxSize = maxSize;
+        this.active = active;
+        this.idle = idle;
+        this.created = created;
+        this.borrowed = borrowed;
+        this.evicted = evicted;
+        this.validationFailures = validationFailures;
+        this.timeouts = timeouts;
+    }
+
+    /** @return capacidade máxima do pool. */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** @return conexões emprestadas no momento. */
+    public int getActive() {
+        return active;
+    }
+
+    /** @return conexões ociosas disponíveis. */
+    public int getIdle() {
+        return idle;
+    }
+
+    /** @return total de conexões físicas abertas desde a criação do pool. */
+    public long getCreated() {
+        return created;
+    }
+
+    /** @return total de empréstimos realizados. */
+    public long getBorrowed() {
+        return borrowed;
+    }
+
+    /** @return total de conexões descartadas por ociosidade. */
+    public long getEvicted() {
+        return evicted;
+    }
+
+    /** @return total de conexões descartadas por falha na validação. */
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+
+    /** @return total de empréstimos que esgotaram o tempo de espera. */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Retorna uma representação textual das estatísticas.
+     *
+     * @return resumo dos contadores
+     */
+    @Override
+    public String toString() {
+        return "PoolStats[max=" + maxSize
+                + ", ativas=" + active
+                + ", ociosas=" + idle
+                + ", criadas=" + created
+                + ", emprestimos=" + borrowed
+                + ", removidas=" + evicted
+                + ", falhasValidacao=" + validationFailures
+                + ", timeouts=" + timeouts + "]";
+    }
+}
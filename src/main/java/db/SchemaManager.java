@@ -0,0 +1,227 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Responsável por criar e evoluir o esquema do banco de dados SQLite.
+ *
+ * <p>A versão atual do esquema fica registrada em <code>PRAGMA user_version</code>.
+ * Ao ser executado, o gerenciador aplica, em ordem, apenas as {@link Migration}
+ * com versão maior que a registrada, cada uma em sua própria transação.
+ * A {@link ConnectionFactory} o executa uma única vez por processo, antes
+ * de criar o pool de conexões, de modo que nenhuma instrução DDL seja
+ * executada durante as operações dos repositórios.</p>
+ */
+public class SchemaManager {
+
+    private final List<Migration> migrations;
+
+    /**
+     * Cria um gerenciador com as migrações informadas.
+     *
+     * @param migrations migrações conhecidas; são ordenadas pela versão
+     * @throws IllegalArgumentException se houver versões repetidas
+     */
+    public SchemaManager(List<Migration> migrations) {
+        List<Migration> ordenadas = new ArrayList<>(migrations);
+        ordenadas.sort(Comparator.comparingInt(Migration::getVersion));
+        for (int i = 1; i < ordenadas.size(); i++) {
+            if (ordenadas.get(i).getVersion() == ordenadas.get(i - 1).getVersion()) {
+                throw new IllegalArgumentException("Versão de migração repetida: " + ordenadas.get(i).getVersion());
+            }
+        }
+        this.migrations = Collections.unmodifiableList(ordenadas);
+    }
+
+    /**
+     * Cria o gerenciador com as migrações do sistema.
+     *
+     * @return gerenciador com o esquema padrão da aplicação
+     */
+    public static SchemaManager padrao() {
+        return new SchemaManager(migracoesDoSistema());
+    }
+
+    /**
+     * Migrações do esquema da aplicação, em ordem de versão.
+     *
+     * <p>A versão 1 corresponde às tabelas originalmente criadas a cada
+     * conexão; por usar <code>IF NOT EXISTS</code>, ela também é segura para
+     * bancos criados antes do versionamento (que estão na versão 0).</p>
+     *
+     * <p>A versão 2 cria os índices usados pelas buscas e ordenações dos
+     * repositórios. O índice de <code>cpf</code> é único: bancos que já tenham
+     * CPFs repetidos precisam ser corrigidos antes da atualização, caso
+     * contrário a migração falha e o esquema permanece na versão 1.</p>
+     *
+     * <p>A versão 3 cria as tabelas de busca textual <code>fts_alunos</code> e
+     * <code>fts_professores</code> (FTS5 com conteúdo externo, apontando para
+     * as tabelas principais), mantidas em sincronia por gatilhos e
+     * preenchidas com os registros já existentes. O tokenizador ignora
+     * maiúsculas e acentos; os índices de prefixo aceleram buscas por
+     * partes do nome.</p>
+     *
+     * <p>A versão 4 indexa as demais colunas exibidas nas telas de
+     * gerenciamento, para que a ordenação pelo cabeçalho da tabela siga um
+     * índice em vez de ordenar a tabela inteira. O índice composto de
+     * curso e fase não serve para ordenar apenas por curso (a ordem seria
+     * curso, fase, id), por isso <code>curso</code> ganha um índice próprio.</p>
+     *
+     * @return lista de migrações
+     */
+    static List<Migration> migracoesDoSistema() {
+        return Arrays.asList(
+                new Migration(1, "Tabelas de alunos e professores",
+                        "CREATE TABLE IF NOT EXISTS tb_alunos ("
+                        + "id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, "
+                        + "nome VARCHAR(250), "
+                        + "idade INTEGER, "
+                        + "curso VARCHAR(45), "
+                        + "fase INTEGER"
+                        + ")",
+                        "CREATE TABLE IF NOT EXISTS tb_professores ("
+                        + "id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, "
+                        + "nome VARCHAR(250), "
+                        + "idade INTEGER, "
+                        + "campus VARCHAR(45), "
+                        + "cpf VARCHAR(14), "
+                        + "contato VARCHAR(16), "
+                        + "titulo VARCHAR(45), "
+                        + "salario REAL"
+                        + ")"),
+                new Migration(2, "Índices secundários de alunos e professores",
+                        "CREATE UNIQUE INDEX IF NOT EXISTS ux_professores_cpf ON tb_professores(cpf)",
+                        "CREATE INDEX IF NOT EXISTS idx_professores_nome ON tb_professores(nome)",
+                        "CREATE INDEX IF NOT EXISTS idx_professores_campus ON tb_professores(campus)",
+                        "CREATE INDEX IF NOT EXISTS idx_professores_titulo ON tb_professores(titulo)",
+                        "CREATE INDEX IF NOT EXISTS idx_alunos_nome ON tb_alunos(nome)",
+                        "CREATE INDEX IF NOT EXISTS idx_alunos_curso_fase ON tb_alunos(curso, fase)"),
+                new Migration(3, "Busca textual por nome (FTS5)",
+                        "CREATE VIRTUAL TABLE IF NOT EXISTS fts_alunos USING fts5("
+                        + "nome, content='tb_alunos', content_rowid='id', "
+                        + "tokenize='unicode61 remove_diacritics 2', prefix='2 3')",
+                        "CREATE TRIGGER IF NOT EXISTS fts_alunos_ai AFTER INSERT ON tb_alunos BEGIN "
+                        + "INSERT INTO fts_alunos(rowid, nome) VALUES (new.id, new.nome); END",
+                        "CREATE TRIGGER IF NOT EXISTS fts_alunos_ad AFTER DELETE ON tb_alunos BEGIN "
+                        + "INSERT INTO fts_alunos(fts_alunos, rowid, nome) VALUES ('delete', old.id, old.nome); END",
+                        "CREATE TRIGGER IF NOT EXISTS fts_alunos_au AFTER UPDATE OF nome ON tb_alunos BEGIN "
+                        + "INSERT INTO fts_alunos(fts_alunos, rowid, nome) VALUES ('delete', old.id, old.nome); "
+                        + "INSERT INTO fts_alunos(rowid, nome) VALUES (new.id, new.nome); END",
+                        "INSERT INTO fts_alunos(fts_alunos) VALUES ('rebuild')",
+                        "CREATE VIRTUAL TABLE IF NOT EXISTS fts_professores USING fts5("
+                        + "nome, content='tb_professores', content_rowid='id', "
+                        + "tokenize='unicode61 remove_diacritics 2', prefix='2 3')",
+                        "CREATE TRIGGER IF NOT EXISTS fts_professores_ai AFTER INSERT ON tb_professores BEGIN "
+                        + "INSERT INTO fts_professores(rowid, nome) VALUES (new.id, new.nome); END",
+                        "CREATE TRIGGER IF NOT EXISTS fts_professores_ad AFTER DELETE ON tb_professores BEGIN "
+                        + "INSERT INTO fts_professores(fts_professores, rowid, nome) VALUES ('delete', old.id, old.nome); END",
+                        "CREATE TRIGGER IF NOT EXISTS fts_professores_au AFTER UPDATE OF nome ON tb_professores BEGIN "
+                        + "INSERT INTO fts_professores(fts_professores, rowid, nome) VALUES ('delete', old.id, old.nome); "
+                        + "INSERT INTO fts_professores(rowid, nome) VALUES (new.id, new.nome); END",
+                        "INSERT INTO fts_professores(fts_professores) VALUES ('rebuild')"),
+                new Migration(4, "Índices para ordenação das telas de gerenciamento",
+                        "CREATE INDEX IF NOT EXISTS idx_alunos_idade ON tb_alunos(idade)",
+                        "CREATE INDEX IF NOT EXISTS idx_alunos_curso ON tb_alunos(curso)",
+                        "CREATE INDEX IF NOT EXISTS idx_alunos_fase ON tb_alunos(fase)",
+                        "CREATE INDEX IF NOT EXISTS idx_professores_idade ON tb_professores(idade)",
+                        "CREATE INDEX IF NOT EXISTS idx_professores_contato ON tb_professores(contato)",
+                        "CREATE INDEX IF NOT EXISTS idx_professores_salario ON tb_professores(salario)")
+        );
+    }
+
+    /**
+     * Retorna as migrações conhecidas por este gerenciador.
+     *
+     * @return migrações ordenadas por versão
+     */
+    public List<Migration> getMigrations() {
+        return migrations;
+    }
+
+    /**
+     * Retorna a versão mais recente conhecida por este gerenciador.
+     *
+     * @return versão da última migração, ou 0 se não houver migrações
+     */
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+    }
+
+    /**
+     * Abre uma conexão dedicada para a URL informada e aplica as migrações pendentes.
+     *
+     * @param url URL JDBC do banco
+     * @return versão do esquema após a migração
+     * @throws SQLException se a conexão ou alguma migração falhar
+     */
+    public int migrate(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url)) {
+            return migrate(connection);
+        }
+    }
+
+    /**
+     * Aplica, em ordem, as migrações com versão maior que a registrada em
+     * <code>PRAGMA user_version</code>.
+     *
+     * <p>Cada migração roda em uma transação <code>BEGIN IMMEDIATE</code>, que
+     * reserva a escrita antes de reler a versão; assim, dois processos
+     * iniciando ao mesmo tempo não aplicam a mesma migração duas vezes. Se uma
+     * migração falhar, sua transação é desfeita e as seguintes não são aplicadas.</p>
+     *
+     * @param connection conexão em modo <i>auto-commit</i>
+     * @return versão do esquema após a migração
+     * @throws SQLException se alguma migração falhar
+     */
+    public int migrate(Connection connection) throws SQLException {
+        int versaoAtual = readVersion(connection);
+
+        for (Migration migration : migrations) {
+            if (migration.getVersion() <= versaoAtual) {
+                continue;
+            }
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("BEGIN IMMEDIATE");
+                try {
+                    versaoAtual = readVersion(connection);
+                    if (migration.getVersion() > versaoAtual) {
+                        migration.apply(connection);
+                        stmt.execute("PRAGMA user_version = " + migration.getVersion());
+                        versaoAtual = migration.getVersion();
+                    }
+                    stmt.execute("COMMIT");
+                } catch (SQLException | RuntimeException e) {
+                    stmt.execute("ROLLBACK");
+                    throw new SQLException("Erro ao aplicar migração " + migration.getVersion()
+                            + " (" + migration.getDescription() + "): " + e.getMessage(), e);
+                }
+            }
+        }
+
+        return versaoAtual;
+    }
+
+    /**
+     * Lê a versão do esquema registrada no banco.
+     *
+     * @param connection conexão ativa
+     * @return valor de <code>PRAGMA user_version</code>
+     * @throws SQLException se a leitura falhar
+     */
+    public static int readVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet res = stmt.executeQuery("PRAGMA user_version")) {
+            return res.next() ? res.getInt(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Escritor único do banco SQLite.
+ *
+ * <p>O SQLite permite apenas um escritor por vez. Em vez de deixar várias
+ * conexões disputarem o bloqueio de escrita (e receberem
+ * <code>SQLITE_BUSY</code>), todas as escritas da aplicação são
+ * enfileiradas e executadas, uma após a outra, por uma thread dedicada que
+ * mantém a única conexão de escrita. Cada trabalho roda em sua própria
+ * transação <code>BEGIN IMMEDIATE</code>, confirmada ao final ou desfeita
+ * em caso de erro.</p>
+ *
+ * <p>A fila é limitada: quando cheia, quem envia uma escrita aguarda, o que
+ * impõe contrapressão aos produtores. Trabalhos que, já dentro da thread
+ * de escrita, enviam outra escrita são executados imediatamente na mesma
+ * transação.</p>
+ */
+public class SingleWriter implements AutoCloseable {
+
+    /** Capacidade padrão da fila de escritas pendentes. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /** Marcador que, ao ser retirado da fila, encerra a thread de escrita. */
+    private static final FutureTask<Void> PARADA = new FutureTask<>(() -> null);
+
+    private final String url;
+    private final ConnectionInitializer initializer;
+    private final BlockingQueue<FutureTask<?>> fila;
+    private final Thread thread;
+    private final AtomicLong executadas = new AtomicLong();
+
+    private Connection connection;
+    private volatile boolean closed;
+
+    /**
+     * Cria o escritor e inicia sua thread dedicada.
+     *
+     * @param url URL JDBC do banco
+     * @param initializer preparação aplicada à conexão de escrita; pode ser {@code null}
+     * @param capacidadeFila quantidade máxima de escritas aguardando execução
+     */
+    public SingleWriter(String url, ConnectionInitializer initializer, int capacidadeFila) {
+        this.url = url;
+        this.initializer = initializer;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.thread = new Thread(this::loop, "sqlite-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Executa um trabalho de escrita na conexão dedicada e aguarda o resultado.
+     *
+     * @param work trabalho a executar
+     * @param <T> tipo do resultado
+     * @return resultado produzido pelo trabalho
+     * @throws SQLException se o trabalho falhar (a transação é desfeita), se o
+     *         escritor estiver encerrado ou se a espera for interrompida
+     */
+    public <T> T execute(SqlWork<T> work) throws SQLException {
+        if (Thread.currentThread() == thread) {
+            return work.execute(connection);
+        }
+        FutureTask<T> tarefa = new FutureTask<>(() -> executarEmTransacao(work));
+        try {
+            synchronized (fila) {
+                if (closed) {
+                    throw new SQLException("Escritor do banco de dados encerrado.");
+                }
+                fila.put(tarefa);
+            }
+            return tarefa.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tarefa.cancel(false);
+            throw new SQLException("Interrompido aguardando a escrita no banco.", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof SQLException) {
+                throw (SQLException) causa;
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw new SQLException("Erro na escrita: " + causa.getMessage(), causa);
+        }
+    }
+
+    private <T> T executarEmTransacao(SqlWork<T> work) throws SQLException {
+        Connection conn = conexao();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("BEGIN IMMEDIATE");
+            try {
+                T resultado = work.execute(conn);
+                stmt.execute("COMMIT");
+                executadas.incrementAndGet();
+                return resultado;
+            } catch (SQLException | RuntimeException | Error e) {
+                try {
+                    stmt.execute("ROLLBACK");
+                } catch (SQLException rollback) {
+                    e.addSuppressed(rollback);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private Connection conexao() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            Connection nova = DriverManager.getConnection(url);
+            try {
+                if (initializer != null) {
+                    initializer.initialize(nova);
+                }
+            } catch (SQLException | RuntimeException e) {
+                nova.close();
+                throw e;
+            }
+            connection = nova;
+        }
+        return connection;
+    }
+
+    private void loop() {
+        while (true) {
+            FutureTask<?> tarefa;
+            try {
+                tarefa = fila.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (tarefa == PARADA) {
+                break;
+            }
+            tarefa.run();
+        }
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // Encerrando; nada a fazer.
+            }
+        }
+    }
+
+    /**
+     * Retorna a quantidade de escritas aguardando execução.
+     *
+     * @return tamanho atual da fila
+     */
+    public int getPendingCount() {
+        return fila.size();
+    }
+
+    /**
+     * Retorna o total de escritas confirmadas desde a criação do escritor.
+     *
+     * @return quantidade de transações confirmadas
+     */
+    public long getCommittedCount() {
+        return executadas.get();
+    }
+
+    /**
+     * Encerra o escritor. Escritas já enfileiradas são concluídas antes que a
+     * conexão seja fechada; novas escritas passam a ser recusadas.
+     */
+    @Override
+    public void close() {
+        synchronized (fila) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                fila.put(PARADA);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        try {
+            thread.join(5_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Unidade de trabalho JDBC executada sobre uma conexão fornecida pela
+ * infraestrutura, como a conexão de escrita do {@link SingleWriter}.
+ *
+ * @param <T> tipo do resultado produzido
+ */
+@FunctionalInterface
+public interface SqlWork<T> {
+
+    /**
+     * Executa o trabalho usando a conexão informada. A conexão não deve
+     * ser fechada nem ter sua transação controlada pelo trabalho.
+     *
+     * @param connection conexão em uso
+     * @return resultado do trabalho
+     * @throws SQLException se alguma operação no banco falhar
+     */
+    T execute(Connection connection) throws SQLException;
+}
@@ -0,0 +1,82 @@
+package exportacao;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Escreve registros em CSV, com cabeçalho e linhas terminadas em CRLF.
+ *
+ * <p>Campos de texto que contêm o delimitador, aspas ou quebras de linha são
+ * envolvidos em aspas, com as aspas internas duplicadas; os demais são
+ * escritos como estão. Valores nulos viram campos vazios.</p>
+ */
+class EscritorCsv implements EscritorDeRegistros {
+
+    private final Writer saida;
+    private final List<String> colunas;
+    private final char delimitador;
+
+    EscritorCsv(Writer saida, List<String> colunas, char delimitador) {
+        if (delimitador == '"' || delimitador == '\r' || delimitador == '\n') {
+            throw new IllegalArgumentException("Delimitador inválido para CSV: " + delimitador);
+        }
+        this.saida = saida;
+        this.colunas = colunas;
+        this.delimitador = delimitador;
+    }
+
+    @Override
+    public void iniciar() throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                saida.write(delimitador);
+            }
+            escreverTexto(colunas.get(i));
+        }
+        saida.write("\r\n");
+    }
+
+    @Override
+    public void escrever(Object[] valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                saida.write(delimitador);
+            }
+            Object valor = valores[i];
+            if (valor instanceof String) {
+                escreverTexto((String) valor);
+            } else if (valor != null) {
+                saida.write(valor.toString());
+            }
+        }
+        saida.write("\r\n");
+    }
+
+    private void escreverTexto(String texto) throws IOException {
+        if (!precisaDeAspas(texto)) {
+            saida.write(texto);
+            return;
+        }
+        saida.write('"');
+        int inicio = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) == '"') {
+                saida.write(texto, inicio, i + 1 - inicio);
+                inicio = i;
+            }
+        }
+        saida.write(texto, inicio, texto.length() - inicio);
+        saida.write('"');
+    }
+
+    private boolean precisaDeAspas(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == delimitador || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
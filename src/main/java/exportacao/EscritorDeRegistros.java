@@ -0,0 +1,27 @@
+package exportacao;
+
+import java.io.IOException;
+
+/**
+ * Escreve registros, um de cada vez, no formato de saída.
+ *
+ * <p>O mesmo vetor de valores é reaproveitado entre as chamadas; a
+ * implementação não deve guardá-lo.</p>
+ */
+interface EscritorDeRegistros {
+
+    /**
+     * Escreve o que precede os registros, como a linha de cabeçalho.
+     *
+     * @throws IOException se a escrita falhar
+     */
+    void iniciar() throws IOException;
+
+    /**
+     * Escreve um registro.
+     *
+     * @param valores valores das colunas, na ordem da exportação; nulos são permitidos
+     * @throws IOException se a escrita falhar
+     */
+    void escrever(Object[] valores) throws IOException;
+}
@@ -0,0 +1,95 @@
+package exportacao;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Escreve cada registro como um objeto JSON em uma linha.
+ *
+ * <p>Os nomes das colunas são convertidos em chaves uma única vez. Números
+ * são escritos sem aspas, textos com o escape exigido pela RFC 8259 e
+ * valores nulos como <code>null</code>.</p>
+ */
+class EscritorNdjson implements EscritorDeRegistros {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer saida;
+    private final String[] chaves;
+
+    EscritorNdjson(Writer saida, List<String> colunas) {
+        this.saida = saida;
+        this.chaves = new String[colunas.size()];
+        for (int i = 0; i < chaves.length; i++) {
+            StringBuilder chave = new StringBuilder(i == 0 ? "{" : ",");
+            chave.append('"').append(colunas.get(i)).append("\":");
+            chaves[i] = chave.toString();
+        }
+    }
+
+    @Override
+    public void iniciar() {
+        // NDJSON não tem cabeçalho
+    }
+
+    @Override
+    public void escrever(Object[] valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            saida.write(chaves[i]);
+            Object valor = valores[i];
+            if (valor == null) {
+                saida.write("null");
+            } else if (valor instanceof Number) {
+                escreverNumero((Number) valor);
+            } else {
+                escreverTexto(valor.toString());
+            }
+        }
+        saida.write("}\n");
+    }
+
+    private void escreverNumero(Number numero) throws IOException {
+        if (numero instanceof Double && !Double.isFinite(numero.doubleValue())) {
+            saida.write("null");
+        } else {
+            saida.write(numero.toString());
+        }
+    }
+
+    private void escreverTexto(String texto) throws IOException {
+        saida.write('"');
+        int inicio = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            saida.write(texto, inicio, i - inicio);
+            inicio = i + 1;
+            switch (c) {
+                case '"':
+                    saida.write("\\\"");
+                    break;
+                case '\\':
+                    saida.write("\\\\");
+                    break;
+                case '\n':
+                    saida.write("\\n");
+                    break;
+                case '\r':
+                    saida.write("\\r");
+                    break;
+                case '\t':
+                    saida.write("\\t");
+                    break;
+                default:
+                    saida.write("\\u00");
+                    saida.write(HEX[c >> 4]);
+                    saida.write(HEX[c & 0xF]);
+            }
+        }
+        saida.write(texto, inicio, texto.length() - inicio);
+        saida.write('"');
+    }
+}
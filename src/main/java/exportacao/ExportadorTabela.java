@@ -0,0 +1,275 @@
+package exportacao;
+
+import db.ConnectionFactory;
+import repository.AbstractRepository;
+import repository.exception.DataAccessException;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exporta <code>tb_alunos</code> ou <code>tb_professores</code> para CSV ou
+ * NDJSON, lendo as linhas sob demanda.
+ *
+ * <p>A consulta é percorrida em um {@link ResultSet} somente para frente, na
+ * ordem do ID, e cada linha é escrita assim que lida, sem ser convertida em
+ * entidade nem guardada em lista: o consumo de memória depende apenas do
+ * tamanho do buffer de saída, não do tamanho da tabela. A leitura usa o pool
+ * somente leitura e, em modo WAL, enxerga um retrato consistente da tabela
+ * sem bloquear as escritas.</p>
+ *
+ * <p>Por padrão, todas as colunas são exportadas; {@link #comColunas(String...)}
+ * escolhe um subconjunto e a ordem delas. Com {@link #comGzip(boolean)}, a
+ * saída é compactada.</p>
+ */
+public final class ExportadorTabela {
+
+    /** Tamanho padrão, em bytes, dos buffers de saída. */
+    public static final int DEFAULT_TAMANHO_DO_BUFFER = 256 * 1024;
+
+    private static final List<String> COLUNAS_ALUNOS =
+            Collections.unmodifiableList(Arrays.asList("id", "nome", "idade", "curso", "fase"));
+    private static final List<String> COLUNAS_PROFESSORES = Collections.unmodifiableList(
+            Arrays.asList("id", "nome", "idade", "campus", "cpf", "contato", "titulo", "salario"));
+
+    private final String tabela;
+    private final List<String> colunasDisponiveis;
+
+    private List<String> colunas;
+    private FormatoExportacao formato = FormatoExportacao.CSV;
+    private char delimitador = ',';
+    private boolean gzip;
+    private int tamanhoDoBuffer = DEFAULT_TAMANHO_DO_BUFFER;
+
+    private ExportadorTabela(String tabela, List<String> colunasDisponiveis) {
+        this.tabela = tabela;
+        this.colunasDisponiveis = colunasDisponiveis;
+        this.colunas = colunasDisponiveis;
+    }
+
+    /**
+     * Cria um exportador da tabela de alunos.
+     *
+     * @return exportador com todas as colunas, em CSV
+     */
+    public static ExportadorTabela alunos() {
+        return new ExportadorTabela("tb_alunos", COLUNAS_ALUNOS);
+    }
+
+    /**
+     * Cria um exportador da tabela de professores.
+     *
+     * @return exportador com todas as colunas, em CSV
+     */
+    public static ExportadorTabela professores() {
+        return new ExportadorTabela("tb_professores", COLUNAS_PROFESSORES);
+    }
+
+    /**
+     * Retorna as colunas que podem ser exportadas desta tabela.
+     *
+     * @return nomes das colunas, na ordem padrão
+     */
+    public List<String> getColunasDisponiveis() {
+        return colunasDisponiveis;
+    }
+
+    /**
+     * Define o formato da saída. O padrão é CSV.
+     *
+     * @param formato formato da saída
+     * @return este exportador
+     * @throws IllegalArgumentException se o formato for nulo
+     */
+    public ExportadorTabela comFormato(FormatoExportacao formato) {
+        if (formato == null) {
+            throw new IllegalArgumentException("Formato de exportação não pode ser nulo.");
+        }
+        this.formato = formato;
+        return this;
+    }
+
+    /**
+     * Escolhe as colunas exportadas e a ordem delas, sem diferenciar maiúsculas.
+     *
+     * @param colunas nomes das colunas
+     * @return este exportador
+     * @throws IllegalArgumentException se nenhuma coluna for informada, ou se
+     *         alguma não existir na tabela ou estiver repetida
+     */
+    public ExportadorTabela comColunas(String... colunas) {
+        if (colunas == null || colunas.length == 0) {
+            throw new IllegalArgumentException("Informe ao menos uma coluna para exportação.");
+        }
+        List<String> escolhidas = new ArrayList<>(colunas.length);
+        for (String coluna : colunas) {
+            String nome = coluna == null ? "" : coluna.trim().toLowerCase(Locale.ROOT);
+            if (!colunasDisponiveis.contains(nome)) {
+                throw new IllegalArgumentException("Coluna desconhecida em " + tabela + ": " + coluna);
+            }
+            if (escolhidas.contains(nome)) {
+                throw new IllegalArgumentException("Coluna repetida na exportação: " + coluna);
+            }
+            escolhidas.add(nome);
+        }
+        this.colunas = Collections.unmodifiableList(escolhidas);
+        return this;
+    }
+
+    /**
+     * Define o separador de campos do CSV. O padrão é a vírgula.
+     *
+     * @param delimitador separador de campos
+     * @return este exportador
+     * @throws IllegalArgumentException se o delimitador for aspas ou quebra de
+     *         linha, que o CSV usa para delimitar valores e registros
+     */
+    public ExportadorTabela comDelimitador(char delimitador) {
+        if (delimitador == '"' || delimitador == '\r' || delimitador == '\n') {
+            throw new IllegalArgumentException("Delimitador não pode ser aspas nem quebra de linha.");
+        }
+        this.delimitador = delimitador;
+        return this;
+    }
+
+    /**
+     * Ativa ou desativa a compactação gzip da saída.
+     *
+     * @param gzip <code>true</code> para compactar
+     * @return este exportador
+     */
+    public ExportadorTabela comGzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    /**
+     * Define o tamanho dos buffers de saída.
+     *
+     * @param tamanhoDoBuffer tamanho em bytes
+     * @return este exportador
+     * @throws IllegalArgumentException se o tamanho não for positivo
+     */
+    public ExportadorTabela comTamanhoDoBuffer(int tamanhoDoBuffer) {
+        if (tamanhoDoBuffer <= 0) {
+            throw new IllegalArgumentException("Tamanho do buffer deve ser positivo: " + tamanhoDoBuffer);
+        }
+        this.tamanhoDoBuffer = tamanhoDoBuffer;
+        return this;
+    }
+
+    /**
+     * Exporta para um arquivo, em UTF-8.
+     *
+     * <p>A saída é escrita em um arquivo temporário ao lado do destino e
+     * renomeada sobre ele apenas ao final, para que quem lê o arquivo nunca
+     * encontre uma exportação pela metade.</p>
+     *
+     * @param destino caminho do arquivo
+     * @return quantidade de registros exportados
+     * @throws IOException se o arquivo não puder ser escrito
+     * @throws DataAccessException se ocorrer erro ao consultar a tabela
+     */
+    public long exportar(Path destino) throws IOException {
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        long registros;
+        try {
+            registros = exportar(Files.newOutputStream(temporario));
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temporario);
+            } catch (IOException falhaAoRemover) {
+                e.addSuppressed(falhaAoRemover);
+            }
+            throw e;
+        }
+        try {
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return registros;
+    }
+
+    /**
+     * Exporta para o fluxo informado, em UTF-8, e o fecha ao final.
+     *
+     * @param saida destino dos bytes
+     * @return quantidade de registros exportados
+     * @throws IOException se a escrita falhar
+     * @throws DataAccessException se ocorrer erro ao consultar a tabela
+     */
+    public long exportar(OutputStream saida) throws IOException {
+        try (Writer texto = abrirTexto(saida)) {
+            EscritorDeRegistros escritor = formato.criarEscritor(texto, colunas, delimitador);
+            escritor.iniciar();
+            return escreverLinhas(escritor);
+        }
+    }
+
+    /**
+     * Monta a cadeia de buffers, gzip e UTF-8 sobre a saída. Se a montagem
+     * falhar (o cabeçalho gzip já é escrito aqui), fecha a saída antes de
+     * propagar o erro, já que ela ainda não está protegida por nenhum
+     * <i>try-with-resources</i>.
+     */
+    private Writer abrirTexto(OutputStream saida) throws IOException {
+        try {
+            OutputStream bytes = new BufferedOutputStream(saida, tamanhoDoBuffer);
+            if (gzip) {
+                bytes = new GZIPOutputStream(bytes, tamanhoDoBuffer);
+            }
+            return new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8), tamanhoDoBuffer);
+        } catch (IOException | RuntimeException e) {
+            try {
+                saida.close();
+            } catch (IOException falhaAoFechar) {
+                e.addSuppressed(falhaAoFechar);
+            }
+            throw e;
+        }
+    }
+
+    private long escreverLinhas(EscritorDeRegistros escritor) throws IOException {
+        String sql = "SELECT " + String.join(", ", colunas) + " FROM " + tabela + " ORDER BY id";
+        Object[] valores = new Object[colunas.size()];
+        long registros = 0;
+
+        try (Connection conn = ConnectionFactory.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                     ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(AbstractRepository.DEFAULT_FETCH_SIZE);
+            try (ResultSet res = stmt.executeQuery()) {
+                while (res.next()) {
+                    for (int i = 0; i < valores.length; i++) {
+                        valores[i] = res.getObject(i + 1);
+                    }
+                    escritor.escrever(valores);
+                    registros++;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao exportar " + tabela + ": " + e.getMessage(), e);
+        }
+        return registros;
+    }
+}
@@ -0,0 +1,43 @@
+package exportacao;
+
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Formatos de arquivo aceitos pelo {@link ExportadorTabela}.
+ */
+public enum FormatoExportacao {
+
+    /** Texto separado por delimitador, com cabeçalho, conforme a RFC 4180. */
+    CSV(".csv") {
+        @Override
+        EscritorDeRegistros criarEscritor(Writer saida, List<String> colunas, char delimitador) {
+            return new EscritorCsv(saida, colunas, delimitador);
+        }
+    },
+
+    /** Um objeto JSON por linha (<i>newline-delimited JSON</i>), sem cabeçalho. */
+    NDJSON(".ndjson") {
+        @Override
+        EscritorDeRegistros criarEscritor(Writer saida, List<String> colunas, char delimitador) {
+            return new EscritorNdjson(saida, colunas);
+        }
+    };
+
+    private final String extensao;
+
+    FormatoExportacao(String extensao) {
+        this.extensao = extensao;
+    }
+
+    /**
+     * Retorna a extensão usual dos arquivos neste formato.
+     *
+     * @return extensão com o ponto, como <code>.csv</code>
+     */
+    public String getExtensao() {
+        return extensao;
+    }
+
+    abstract EscritorDeRegistros criarEscritor(Writer saida, List<String> colunas, char delimitador);
+}
@@ -0,0 +1,75 @@
+package importacao;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Arquivo que guarda quantos registros de uma importação já foram tratados,
+ * permitindo retomá-la após uma interrupção.
+ *
+ * <p>O valor é gravado depois de cada lote confirmado no banco, em um arquivo
+ * temporário renomeado sobre o anterior, de modo que uma queda durante a
+ * gravação nunca deixa o checkpoint pela metade. Se a queda ocorrer entre a
+ * confirmação do lote e a gravação do checkpoint, esse lote é tratado de novo
+ * na retomada.</p>
+ */
+public class CheckpointImportacao {
+
+    private final Path arquivo;
+
+    /**
+     * Cria o checkpoint.
+     *
+     * @param arquivo caminho do arquivo de checkpoint
+     */
+    public CheckpointImportacao(Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    /**
+     * Lê a quantidade de registros já tratados.
+     *
+     * @return registros tratados, ou zero se não houver checkpoint
+     * @throws IOException se o arquivo existir e não puder ser lido
+     */
+    public long ler() throws IOException {
+        if (!Files.exists(arquivo)) {
+            return 0;
+        }
+        String conteudo = new String(Files.readAllBytes(arquivo), StandardCharsets.UTF_8).trim();
+        try {
+            return Long.parseLong(conteudo);
+        } catch (NumberFormatException e) {
+            throw new IOException("Checkpoint de importação inválido em " + arquivo + ": " + conteudo, e);
+        }
+    }
+
+    /**
+     * Grava a quantidade de registros já tratados.
+     *
+     * @param processados registros tratados desde o início do arquivo
+     * @throws IOException se não for possível gravar
+     */
+    public void gravar(long processados) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        Files.write(temporario, Long.toString(processados).getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Remove o checkpoint, ao concluir a importação.
+     *
+     * @throws IOException se não for possível remover
+     */
+    public void remover() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+}
@@ -0,0 +1,36 @@
+package importacao;
+
+/**
+ * Registro do CSV recusado na importação.
+ */
+public final class ErroDeImportacao {
+
+    private final long linha;
+    private final String mensagem;
+
+    /**
+     * Cria o erro.
+     *
+     * @param linha linha do arquivo em que o registro começa, a partir de 1
+     * @param mensagem motivo da recusa
+     */
+    public ErroDeImportacao(long linha, String mensagem) {
+        this.linha = linha;
+        this.mensagem = mensagem;
+    }
+
+    /** @return linha do arquivo em que o registro começa, a partir de 1. */
+    public long getLinha() {
+        return linha;
+    }
+
+    /** @return motivo da recusa. */
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    @Override
+    public String toString() {
+        return "Linha " + linha + ": " + mensagem;
+    }
+}
@@ -0,0 +1,373 @@
+package importacao;
+
+import model.Aluno;
+import model.Professor;
+import service.AlunoService;
+import service.ProfessorService;
+import service.RelatorioImportacao;
+import service.exception.ValidacaoException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Importa alunos ou professores de um arquivo CSV, lendo-o sob demanda.
+ *
+ * <p>A primeira linha do arquivo é o cabeçalho; as colunas são localizadas
+ * pelo nome, sem diferenciar maiúsculas, em qualquer ordem:</p>
+ * <ul>
+ *   <li>alunos: <code>nome, idade, curso, fase</code>;</li>
+ *   <li>professores: <code>nome, idade, campus, cpf, contato, titulo, salario</code>.</li>
+ * </ul>
+ *
+ * <p>Uma <i>thread</i> leitora converte os registros e os agrupa em lotes,
+ * colocados em uma fila limitada. A <i>thread</i> que chamou
+ * {@link #importar(Reader)} retira cada lote e o grava pelo
+ * <code>salvarTodos</code> do serviço, que valida os registros e os insere
+ * em uma transação. Quando o banco fica para trás, a fila enche e a leitura
+ * espera: no máximo {@link #comLotesPendentes(int)} lotes ficam em memória,
+ * qualquer que seja o tamanho do arquivo.</p>
+ *
+ * <p>Com {@link #comCheckpoint(Path)}, o total de registros tratados é salvo
+ * após cada lote; se a importação for interrompida, a próxima execução com o
+ * mesmo arquivo de checkpoint pula esses registros. O checkpoint é removido
+ * ao final de uma importação completa.</p>
+ *
+ * @param <T> tipo da entidade importada
+ */
+public final class ImportadorCsv<T> {
+
+    /** Registros por lote; cada lote é gravado em uma transação. */
+    public static final int DEFAULT_TAMANHO_DO_LOTE = 5000;
+
+    /** Lotes lidos que podem aguardar gravação. */
+    public static final int DEFAULT_LOTES_PENDENTES = 2;
+
+    /** Quantidade máxima de erros guardados em {@link ResultadoImportacao#getErros()}. */
+    public static final int MAX_ERROS_GUARDADOS = 1000;
+
+    private static final Object FIM_DA_LEITURA = new Object();
+
+    private final MapeadorDeLinha<T> mapeador;
+    private final List<String> colunasObrigatorias;
+    private final Function<List<T>, RelatorioImportacao<T>> gravador;
+
+    private char delimitador = ',';
+    private int tamanhoDoLote = DEFAULT_TAMANHO_DO_LOTE;
+    private int lotesPendentes = DEFAULT_LOTES_PENDENTES;
+    private ProgressoImportacao progresso;
+    private CheckpointImportacao checkpoint;
+
+    /**
+     * Cria um importador.
+     *
+     * @param mapeador converte cada registro na entidade
+     * @param colunasObrigatorias colunas que o cabeçalho deve conter, em minúsculas
+     * @param gravador valida e grava um lote, como <code>AlunoService::salvarTodos</code>
+     */
+    public ImportadorCsv(MapeadorDeLinha<T> mapeador, List<String> colunasObrigatorias,
+                         Function<List<T>, RelatorioImportacao<T>> gravador) {
+        this.mapeador = mapeador;
+        this.colunasObrigatorias = colunasObrigatorias;
+        this.gravador = gravador;
+    }
+
+    /**
+     * Cria um importador de alunos.
+     *
+     * @param servico serviço que valida e grava os alunos
+     * @return importador configurado com os valores padrão
+     */
+    public static ImportadorCsv<Aluno> alunos(AlunoService servico) {
+        return new ImportadorCsv<>(linha -> new Aluno(linha.texto("curso"), linha.inteiro("fase"), 0,
+                linha.texto("nome"), linha.inteiro("idade")),
+                Arrays.asList("nome", "idade", "curso", "fase"), servico::salvarTodos);
+    }
+
+    /**
+     * Cria um importador de professores.
+     *
+     * @param servico serviço que valida e grava os professores
+     * @return importador configurado com os valores padrão
+     */
+    public static ImportadorCsv<Professor> professores(ProfessorService servico) {
+        return new ImportadorCsv<>(linha -> new Professor(linha.texto("campus"), linha.texto("cpf"),
+                linha.texto("contato"), linha.texto("titulo"), linha.decimal("salario"), 0,
+                linha.texto("nome"), linha.inteiro("idade")),
+                Arrays.asList("nome", "idade", "campus", "cpf", "contato", "titulo", "salario"),
+                servico::salvarTodos);
+    }
+
+    /**
+     * Define o separador de campos. O padrão é a vírgula; planilhas em
+     * português costumam exportar com ponto e vírgula.
+     *
+     * @param delimitador separador de campos
+     * @return este importador
+     */
+    public ImportadorCsv<T> comDelimitador(char delimitador) {
+        this.delimitador = delimitador;
+        return this;
+    }
+
+    /**
+     * Define quantos registros são gravados por transação.
+     *
+     * @param tamanhoDoLote registros por lote
+     * @return este importador
+     * @throws IllegalArgumentException se o tamanho não for positivo
+     */
+    public ImportadorCsv<T> comTamanhoDoLote(int tamanhoDoLote) {
+        if (tamanhoDoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo: " + tamanhoDoLote);
+        }
+        this.tamanhoDoLote = tamanhoDoLote;
+        return this;
+    }
+
+    /**
+     * Define quantos lotes lidos podem aguardar gravação antes de a leitura
+     * esperar.
+     *
+     * @param lotesPendentes capacidade da fila entre leitura e gravação
+     * @return este importador
+     * @throws IllegalArgumentException se a capacidade não for positiva
+     */
+    public ImportadorCsv<T> comLotesPendentes(int lotesPendentes) {
+        if (lotesPendentes <= 0) {
+            throw new IllegalArgumentException("Quantidade de lotes pendentes deve ser positiva: " + lotesPendentes);
+        }
+        this.lotesPendentes = lotesPendentes;
+        return this;
+    }
+
+    /**
+     * Define quem recebe o andamento da importação.
+     *
+     * @param progresso receptor do andamento
+     * @return este importador
+     */
+    public ImportadorCsv<T> comProgresso(ProgressoImportacao progresso) {
+        this.progresso = progresso;
+        return this;
+    }
+
+    /**
+     * Ativa a retomada da importação pelo arquivo de checkpoint informado.
+     *
+     * @param arquivo caminho do arquivo de checkpoint
+     * @return este importador
+     */
+    public ImportadorCsv<T> comCheckpoint(Path arquivo) {
+        this.checkpoint = new CheckpointImportacao(arquivo);
+        return this;
+    }
+
+    /**
+     * Importa um arquivo CSV codificado em UTF-8.
+     *
+     * @param arquivo caminho do arquivo
+     * @return totais da importação
+     * @throws IOException se o arquivo ou o checkpoint não puderem ser lidos ou gravados
+     * @throws ValidacaoException se o cabeçalho não tiver as colunas obrigatórias
+     */
+    public ResultadoImportacao importar(Path arquivo) throws IOException {
+        return importar(Files.newBufferedReader(arquivo, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Importa o CSV lido do texto informado, que é fechado ao final.
+     *
+     * <p>Registros com campos numéricos inválidos ou recusados pelas regras
+     * do serviço não interrompem a importação; são contados e informados
+     * com o número da linha. Falhas de leitura ou de acesso ao banco
+     * interrompem a importação; os lotes já gravados permanecem e, com
+     * checkpoint, não são repetidos na retomada.</p>
+     *
+     * @param origem texto CSV
+     * @return totais da importação
+     * @throws IOException se o texto ou o checkpoint não puderem ser lidos ou gravados
+     * @throws ValidacaoException se o cabeçalho não tiver as colunas obrigatórias
+     */
+    public ResultadoImportacao importar(Reader origem) throws IOException {
+        try (LeitorCsv leitor = new LeitorCsv(origem, delimitador)) {
+            String[] cabecalho = leitor.proximo();
+            if (cabecalho == null) {
+                return new ResultadoImportacao(0, 0, 0, Collections.<ErroDeImportacao>emptyList());
+            }
+            Map<String, Integer> colunas = indexar(cabecalho);
+            long jaProcessados = checkpoint != null ? checkpoint.ler() : 0;
+
+            BlockingQueue<Object> fila = new ArrayBlockingQueue<>(lotesPendentes);
+            Thread leitura = new Thread(() -> produzir(leitor, colunas, jaProcessados, fila), "importacao-csv-leitor");
+            leitura.setDaemon(true);
+            leitura.start();
+            try {
+                ResultadoImportacao resultado = consumir(fila, jaProcessados);
+                if (checkpoint != null) {
+                    checkpoint.remover();
+                }
+                return resultado;
+            } finally {
+                leitura.interrupt();
+                aguardar(leitura);
+            }
+        }
+    }
+
+    private Map<String, Integer> indexar(String[] cabecalho) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.length; i++) {
+            colunas.putIfAbsent(cabecalho[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String obrigatoria : colunasObrigatorias) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new ValidacaoException("Coluna obrigatória ausente no cabeçalho do CSV: " + obrigatoria + ".");
+            }
+        }
+        return colunas;
+    }
+
+    /**
+     * Lê os registros, pula os já tratados, converte os demais e enfileira
+     * os lotes. Termina sempre com {@link #FIM_DA_LEITURA}, precedido da
+     * falha de leitura, se houver.
+     */
+    private void produzir(LeitorCsv leitor, Map<String, Integer> colunas, long jaProcessados,
+                          BlockingQueue<Object> fila) {
+        try {
+            try {
+                for (long i = 0; i < jaProcessados; i++) {
+                    if (leitor.proximo() == null) {
+                        break;
+                    }
+                }
+                Lote<T> lote = new Lote<>(tamanhoDoLote);
+                String[] campos;
+                while ((campos = leitor.proximo()) != null) {
+                    lote.registros++;
+                    try {
+                        lote.itens.add(mapeador.mapear(new Linha(colunas, campos)));
+                        lote.linhas.add(leitor.getLinhaDoRegistro());
+                    } catch (ValidacaoException e) {
+                        lote.erros.add(new ErroDeImportacao(leitor.getLinhaDoRegistro(), e.getMessage()));
+                    }
+                    if (lote.registros == tamanhoDoLote) {
+                        fila.put(lote);
+                        lote = new Lote<>(tamanhoDoLote);
+                    }
+                }
+                if (lote.registros > 0) {
+                    fila.put(lote);
+                }
+            } catch (IOException | RuntimeException e) {
+                fila.put(e);
+            }
+            fila.put(FIM_DA_LEITURA);
+        } catch (InterruptedException e) {
+            // a gravação foi interrompida e não consome mais a fila
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResultadoImportacao consumir(BlockingQueue<Object> fila, long jaProcessados) throws IOException {
+        long processados = jaProcessados;
+        long gravados = 0;
+        long rejeitados = 0;
+        List<ErroDeImportacao> erros = new ArrayList<>();
+
+        while (true) {
+            Object item = tomar(fila);
+            if (item == FIM_DA_LEITURA) {
+                return new ResultadoImportacao(jaProcessados, gravados, rejeitados, erros);
+            }
+            if (item instanceof IOException) {
+                throw (IOException) item;
+            }
+            if (item instanceof RuntimeException) {
+                throw (RuntimeException) item;
+            }
+
+            Lote<T> lote = (Lote<T>) item;
+            List<ErroDeImportacao> errosDoLote = new ArrayList<>(lote.erros);
+            if (!lote.itens.isEmpty()) {
+                RelatorioImportacao<T> relatorio = gravador.apply(lote.itens);
+                if (relatorio.getFalha() != null) {
+                    throw relatorio.getFalha();
+                }
+                gravados += relatorio.getSalvos().size();
+                for (RelatorioImportacao.Rejeicao<T> rejeicao : relatorio.getRejeitados()) {
+                    errosDoLote.add(new ErroDeImportacao(lote.linhas.get(rejeicao.getIndice()), rejeicao.getMensagem()));
+                }
+            }
+            errosDoLote.sort(Comparator.comparingLong(ErroDeImportacao::getLinha));
+            rejeitados += errosDoLote.size();
+            processados += lote.registros;
+
+            if (checkpoint != null) {
+                checkpoint.gravar(processados);
+            }
+            for (ErroDeImportacao erro : errosDoLote) {
+                if (erros.size() < MAX_ERROS_GUARDADOS) {
+                    erros.add(erro);
+                }
+                if (progresso != null) {
+                    progresso.aoRejeitar(erro);
+                }
+            }
+            if (progresso != null) {
+                progresso.aoGravarLote(processados, gravados, rejeitados);
+            }
+        }
+    }
+
+    private static Object tomar(BlockingQueue<Object> fila) throws IOException {
+        try {
+            return fila.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importação interrompida.", e);
+        }
+    }
+
+    private static void aguardar(Thread leitura) {
+        boolean interrompida = false;
+        while (leitura.isAlive()) {
+            try {
+                leitura.join();
+            } catch (InterruptedException e) {
+                interrompida = true;
+            }
+        }
+        if (interrompida) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Registros lidos e ainda não gravados. */
+    private static final class Lote<T> {
+        final List<T> itens;
+        final List<Long> linhas;
+        final List<ErroDeImportacao> erros = new ArrayList<>();
+        int registros;
+
+        Lote(int capacidade) {
+            this.itens = new ArrayList<>(capacidade);
+            this.linhas = new ArrayList<>(capacidade);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package importacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV sob demanda, um registro por vez.
+ *
+ * <p>Segue o formato da RFC 4180: campos entre aspas podem conter o
+ * delimitador, quebras de linha e aspas duplicadas (<code>""</code>). As
+ * linhas podem terminar em <code>\n</code>, <code>\r\n</code> ou
+ * <code>\r</code>, e o BOM do UTF-8 no início do arquivo é ignorado.</p>
+ *
+ * <p>O texto é lido em um vetor de caracteres reutilizado; um campo sem
+ * aspas que cabe no vetor vira uma <code>String</code> copiada direto dele,
+ * sem passar por <code>StringBuilder</code>. Apenas o registro atual fica em
+ * memória, qualquer que seja o tamanho do arquivo.</p>
+ */
+public class LeitorCsv implements Closeable {
+
+    /** Tamanho padrão do vetor de leitura, em caracteres. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int FIM = -1;
+
+    private final Reader origem;
+    private final char delimitador;
+    private final char[] buffer;
+    private final StringBuilder parcial = new StringBuilder();
+    private final List<String> campos = new ArrayList<>();
+
+    private int posicao;
+    private int limite;
+    private boolean inicio = true;
+    private long linha = 1;
+    private long linhaDoRegistro;
+
+    /**
+     * Cria o leitor com o vetor de tamanho padrão.
+     *
+     * @param origem texto a ler; é fechado por {@link #close()}
+     * @param delimitador separador de campos, como <code>','</code> ou <code>';'</code>
+     */
+    public LeitorCsv(Reader origem, char delimitador) {
+        this(origem, delimitador, DEFAULT_BUFFER_SIZE);
+    }
+
+    LeitorCsv(Reader origem, char delimitador, int tamanhoDoBuffer) {
+        if (delimitador == '"' || delimitador == '\r' || delimitador == '\n') {
+            throw new IllegalArgumentException("Delimitador inválido: " + delimitador);
+        }
+        this.origem = origem;
+        this.delimitador = delimitador;
+        this.buffer = new char[tamanhoDoBuffer];
+    }
+
+    /**
+     * Lê o próximo registro, ignorando linhas em branco.
+     *
+     * @return campos do registro, ou <code>null</code> no fim do texto
+     * @throws IOException se a leitura falhar
+     */
+    public String[] proximo() throws IOException {
+        while (true) {
+            if (inicio) {
+                inicio = false;
+                if (espiar() == '\uFEFF') {
+                    posicao++;
+                }
+            }
+            if (espiar() == FIM) {
+                return null;
+            }
+            linhaDoRegistro = linha;
+            campos.clear();
+            lerRegistro();
+            if (campos.size() > 1 || !campos.get(0).isEmpty()) {
+                return campos.toArray(new String[0]);
+            }
+        }
+    }
+
+    /**
+     * Retorna a linha do texto em que começa o último registro lido,
+     * contando a partir de 1.
+     *
+     * @return número da linha
+     */
+    public long getLinhaDoRegistro() {
+        return linhaDoRegistro;
+    }
+
+    @Override
+    public void close() throws IOException {
+        origem.close();
+    }
+
+    private void lerRegistro() throws IOException {
+        while (true) {
+            campos.add(espiar() == '"' ? lerCampoEntreAspas() : lerCampoSimples());
+            int c = espiar();
+            if (c == delimitador) {
+                posicao++;
+            } else {
+                consumirFimDeLinha();
+                return;
+            }
+        }
+    }
+
+    private String lerCampoSimples() throws IOException {
+        parcial.setLength(0);
+        while (true) {
+            if (posicao == limite && !preencher()) {
+                return parcial.toString();
+            }
+            int inicioDoCampo = posicao;
+            while (posicao < limite) {
+                char c = buffer[posicao];
+                if (c == delimitador || c == '\n' || c == '\r') {
+                    if (parcial.length() == 0) {
+                        return new String(buffer, inicioDoCampo, posicao - inicioDoCampo);
+                    }
+                    return parcial.append(buffer, inicioDoCampo, posicao - inicioDoCampo).toString();
+                }
+                posicao++;
+            }
+            parcial.append(buffer, inicioDoCampo, posicao - inicioDoCampo);
+        }
+    }
+
+    private String lerCampoEntreAspas() throws IOException {
+        parcial.setLength(0);
+        posicao++;
+        while (true) {
+            int c = espiar();
+            if (c == FIM) {
+                return parcial.toString();
+            }
+            posicao++;
+            if (c == '"') {
+                if (espiar() == '"') {
+                    posicao++;
+                    parcial.append('"');
+                } else {
+                    break;
+                }
+            } else {
+                if (c == '\n' || (c == '\r' && espiar() != '\n')) {
+                    linha++;
+                }
+                parcial.append((char) c);
+            }
+        }
+        // texto após a aspa de fechamento é mantido, como fazem as planilhas
+        String conteudo = parcial.toString();
+        String restante = lerCampoSimples();
+        return restante.isEmpty() ? conteudo : conteudo + restante;
+    }
+
+    private void consumirFimDeLinha() throws IOException {
+        int c = espiar();
+        if (c == '\r') {
+            posicao++;
+            if (espiar() == '\n') {
+                posicao++;
+            }
+            linha++;
+        } else if (c == '\n') {
+            posicao++;
+            linha++;
+        }
+    }
+
+    private int espiar() throws IOException {
+        if (posicao == limite && !preencher()) {
+            return FIM;
+        }
+        return buffer[posicao];
+    }
+
+    private boolean preencher() throws IOException {
+        int lidos = origem.read(buffer, 0, buffer.length);
+        while (lidos == 0) {
+            lidos = origem.read(buffer, 0, buffer.length);
+        }
+        if (lidos < 0) {
+            limite = 0;
+            posicao = 0;
+            return false;
+        }
+        posicao = 0;
+        limite = lidos;
+        return true;
+    }
+}
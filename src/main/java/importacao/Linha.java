@@ -0,0 +1,69 @@
+package importacao;
+
+import service.exception.ValidacaoException;
+
+import java.util.Map;
+
+/**
+ * Registro de um arquivo CSV, com acesso aos campos pelo nome da coluna do
+ * cabeçalho.
+ */
+public final class Linha {
+
+    private final Map<String, Integer> colunas;
+    private final String[] campos;
+
+    Linha(Map<String, Integer> colunas, String[] campos) {
+        this.colunas = colunas;
+        this.campos = campos;
+    }
+
+    /**
+     * Retorna o texto da coluna, sem espaços nas extremidades.
+     *
+     * @param coluna nome da coluna no cabeçalho, em minúsculas
+     * @return texto do campo; vazio se o registro não tiver a coluna
+     */
+    public String texto(String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.length) {
+            return "";
+        }
+        return campos[indice].trim();
+    }
+
+    /**
+     * Retorna a coluna como número inteiro.
+     *
+     * @param coluna nome da coluna no cabeçalho, em minúsculas
+     * @return valor numérico
+     * @throws ValidacaoException se o campo não for um número inteiro
+     */
+    public int inteiro(String coluna) {
+        String valor = texto(coluna);
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new ValidacaoException("Coluna '" + coluna + "' deve conter um número inteiro: '" + valor + "'.");
+        }
+    }
+
+    /**
+     * Retorna a coluna como número decimal. Aceita o ponto ou a vírgula como
+     * separador decimal; se houver os dois, o ponto é tratado como separador
+     * de milhar (<code>8.500,00</code>).
+     *
+     * @param coluna nome da coluna no cabeçalho, em minúsculas
+     * @return valor numérico
+     * @throws ValidacaoException se o campo não for um número
+     */
+    public double decimal(String coluna) {
+        String valor = texto(coluna);
+        String normalizado = valor.indexOf(',') >= 0 ? valor.replace(".", "").replace(',', '.') : valor;
+        try {
+            return Double.parseDouble(normalizado);
+        } catch (NumberFormatException e) {
+            throw new ValidacaoException("Coluna '" + coluna + "' deve conter um número: '" + valor + "'.");
+        }
+    }
+}
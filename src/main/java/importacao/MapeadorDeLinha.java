@@ -0,0 +1,19 @@
+package importacao;
+
+/**
+ * Converte um registro do CSV na entidade importada.
+ *
+ * @param <T> tipo da entidade
+ */
+@FunctionalInterface
+public interface MapeadorDeLinha<T> {
+
+    /**
+     * Converte o registro.
+     *
+     * @param linha registro lido
+     * @return entidade com os dados do registro
+     * @throws service.exception.ValidacaoException se algum campo não puder ser convertido
+     */
+    T mapear(Linha linha);
+}
@@ -0,0 +1,28 @@
+package importacao;
+
+/**
+ * Recebe o andamento de uma importação. Os métodos são chamados na
+ * <i>thread</i> que executa {@link ImportadorCsv#importar(java.io.Reader)},
+ * depois que cada lote é gravado.
+ */
+@FunctionalInterface
+public interface ProgressoImportacao {
+
+    /**
+     * Informa os totais acumulados após a gravação de um lote.
+     *
+     * @param processados registros já tratados, incluindo os de execuções
+     *        anteriores retomadas pelo checkpoint
+     * @param gravados registros gravados nesta execução
+     * @param rejeitados registros recusados nesta execução
+     */
+    void aoGravarLote(long processados, long gravados, long rejeitados);
+
+    /**
+     * Informa um registro recusado.
+     *
+     * @param erro linha e motivo da recusa
+     */
+    default void aoRejeitar(ErroDeImportacao erro) {
+    }
+}
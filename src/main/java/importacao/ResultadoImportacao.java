@@ -0,0 +1,60 @@
+package importacao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Totais de uma importação de CSV.
+ *
+ * <p>Para manter a memória constante em arquivos grandes, apenas os primeiros
+ * {@link ImportadorCsv#MAX_ERROS_GUARDADOS} erros são guardados aqui; todos
+ * são entregues a {@link ProgressoImportacao#aoRejeitar(ErroDeImportacao)}.</p>
+ */
+public final class ResultadoImportacao {
+
+    private final long ignorados;
+    private final long gravados;
+    private final long rejeitados;
+    private final List<ErroDeImportacao> erros;
+
+    /**
+     * Cria o resultado.
+     *
+     * @param ignorados registros pulados por já terem sido tratados em uma execução anterior
+     * @param gravados registros gravados nesta execução
+     * @param rejeitados registros recusados nesta execução
+     * @param erros primeiros erros encontrados
+     */
+    public ResultadoImportacao(long ignorados, long gravados, long rejeitados, List<ErroDeImportacao> erros) {
+        this.ignorados = ignorados;
+        this.gravados = gravados;
+        this.rejeitados = rejeitados;
+        this.erros = Collections.unmodifiableList(erros);
+    }
+
+    /** @return registros pulados por já terem sido tratados em uma execução anterior. */
+    public long getIgnorados() {
+        return ignorados;
+    }
+
+    /** @return registros gravados nesta execução. */
+    public long getGravados() {
+        return gravados;
+    }
+
+    /** @return registros recusados nesta execução. */
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    /** @return primeiros erros encontrados, na ordem do arquivo. */
+    public List<ErroDeImportacao> getErros() {
+        return erros;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoImportacao{ignorados=" + ignorados + ", gravados=" + gravados
+                + ", rejeitados=" + rejeitados + "}";
+    }
+}
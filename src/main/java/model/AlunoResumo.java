@@ -0,0 +1,80 @@
+package model;
+
+/**
+ * Visão somente leitura de um aluno, com as colunas exibidas nas telas de
+ * listagem.
+ *
+ * <p>Diferente de {@link Aluno}, não mantém repositório nem oferece
+ * operações de persistência: é apenas a linha lida do banco. Isso torna a
+ * criação de milhares de linhas barata ao preencher tabelas da interface.</p>
+ */
+public final class AlunoResumo {
+
+    private final int id;
+    private final String nome;
+    private final int idade;
+    private final String curso;
+    private final int fase;
+
+    /**
+     * Cria a visão de um aluno.
+     *
+     * @param id    Identificador do aluno.
+     * @param nome  Nome do aluno.
+     * @param idade Idade do aluno.
+     * @param curso Curso do aluno.
+     * @param fase  Fase/semestre atual.
+     */
+    public AlunoResumo(int id, String nome, int idade, String curso, int fase) {
+        this.id = id;
+        this.nome = nome;
+        this.idade = idade;
+        this.curso = curso;
+        this.fase = fase;
+    }
+
+    /**
+     * Retorna o ID do aluno.
+     *
+     * @return ID.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retorna o nome do aluno.
+     *
+     * @return Nome.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Retorna a idade do aluno.
+     *
+     * @return Idade.
+     */
+    public int getIdade() {
+        return idade;
+    }
+
+    /**
+     * Retorna o curso do aluno.
+     *
+     * @return Curso.
+     */
+    public String getCurso() {
+        return curso;
+    }
+
+    /**
+     * Retorna a fase atual do aluno.
+     *
+     * @return Fase.
+     */
+    public int getFase() {
+        return fase;
+    }
+}
@@ -0,0 +1,117 @@
+package model;
+
+/**
+ * Visão somente leitura de um professor, com as colunas exibidas nas telas
+ * de listagem.
+ *
+ * <p>Diferente de {@link Professor}, não mantém repositório nem oferece
+ * operações de persistência: é apenas a linha lida do banco. Isso torna a
+ * criação de milhares de linhas barata ao preencher tabelas da interface.</p>
+ */
+public final class ProfessorResumo {
+
+    private final int id;
+    private final String nome;
+    private final int idade;
+    private final String campus;
+    private final String cpf;
+    private final String contato;
+    private final String titulo;
+    private final double salario;
+
+    /**
+     * Cria a visão de um professor.
+     *
+     * @param id      Identificador do professor.
+     * @param nome    Nome do professor.
+     * @param idade   Idade do professor.
+     * @param campus  Campus onde leciona.
+     * @param cpf     CPF do professor.
+     * @param contato Telefone de contato.
+     * @param titulo  Título acadêmico.
+     * @param salario Salário do professor.
+     */
+    public ProfessorResumo(int id, String nome, int idade, String campus, String cpf,
+                           String contato, String titulo, double salario) {
+        this.id = id;
+        this.nome = nome;
+        this.idade = idade;
+        this.campus = campus;
+        this.cpf = cpf;
+        this.contato = contato;
+        this.titulo = titulo;
+        this.salario = salario;
+    }
+
+    /**
+     * Retorna o ID do professor.
+     *
+     * @return ID.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retorna o nome do professor.
+     *
+     * @return Nome.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Retorna a idade do professor.
+     *
+     * @return Idade.
+     */
+    public int getIdade() {
+        return idade;
+    }
+
+    /**
+     * Retorna o campus do professor.
+     *
+     * @return Campus.
+     */
+    public String getCampus() {
+        return campus;
+    }
+
+    /**
+     * Retorna o CPF do professor.
+     *
+     * @return CPF.
+     */
+    public String getCpf() {
+        return cpf;
+    }
+
+    /**
+     * Retorna o contato do professor.
+     *
+     * @return Contato.
+     */
+    public String getContato() {
+        return contato;
+    }
+
+    /**
+     * Retorna o título acadêmico do professor.
+     *
+     * @return Título.
+     */
+    public String getTitulo() {
+        return titulo;
+    }
+
+    /**
+     * Retorna o salário do professor.
+     *
+     * @return Salário.
+     */
+    public double getSalario() {
+        return salario;
+    }
+}
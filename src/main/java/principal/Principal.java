@@ -3,6 +3,7 @@ package principal;
 import view.TelaPrincipal;
 import com.formdev.flatlaf.FlatDarkLaf;
 import db.ConnectionFactory;
+import repository.cache.CachedRepositories;
 import java.sql.Connection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -16,7 +17,8 @@ import javax.swing.JOptionPane;
  * <ol>
  *   <li>Configuração do FlatDarkLaf (tema escuro).</li>
  *   <li>Tentativa de conexão com o banco por meio de {@link ConnectionFactory}.</li>
- *   <li>Se a conexão for bem-sucedida, abre {@link TelaPrincipal}.</li>
+ *   <li>Se a conexão for bem-sucedida, inicia em segundo plano a carga do filtro de CPFs
+ *       ({@link CachedRepositories#professores()}) e abre {@link TelaPrincipal}.</li>
  *   <li>Se houver falha, exibe uma mensagem de erro e encerra a aplicação.</li>
  * </ol>
  *
@@ -55,6 +57,9 @@ public class Principal {
                     // Ignora erro ao fechar a conexão
                 }
 
+                // Inicia a carga do filtro de CPFs antes da primeira tela de professores
+                CachedRepositories.professores();
+
                 java.awt.EventQueue.invokeLater(new Runnable() {
                     @Override
                     public void run() {
@@ -1,11 +1,28 @@
 package repository;
 
 import db.ConnectionFactory;
+import db.SqlWork;
+import repository.criteria.CompiledQuery;
+import repository.criteria.Criteria;
+import repository.criteria.CriteriaCompiler;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
 import repository.exception.DataAccessException;
+import repository.exception.DuplicateKeyException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Classe base para repositórios de acesso a dados. <br><br>
@@ -13,8 +30,14 @@ import java.sql.Statement;
  * Fornece métodos utilitários comuns, como:
  * <ul>
  *   <li>Obter conexão com o banco;</li>
+ *   <li>Separar leituras (pool somente leitura) de escritas (escritor único);</li>
  *   <li>Executar consultas de maior ID;</li>
  *   <li>Executar operações de exclusão;</li>
+ *   <li>Executar inserções em lote;</li>
+ *   <li>Executar consultas paginadas por chave (keyset);</li>
+ *   <li>Contar os registros de uma tabela;</li>
+ *   <li>Executar consultas filtradas por critérios;</li>
+ *   <li>Percorrer resultados sob demanda, como {@link Stream};</li>
  *   <li>Validação de nomes de tabelas;</li>
  *   <li>Construção dinâmica de queries simples.</li>
  * </ul>
@@ -24,10 +47,19 @@ import java.sql.Statement;
  */
 public abstract class AbstractRepository {
 
+    /** Quantidade padrão de registros enviados a cada <code>executeBatch</code>. */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** Quantidade de linhas sugerida ao driver a cada busca em consultas percorridas sob demanda. */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
     /**
      * Obtém uma conexão ativa com o banco de dados utilizando a
      * {@link ConnectionFactory}.
      *
+     * <p>A conexão é emprestada do pool compartilhado; fechá-la (por exemplo
+     * ao final de um bloco <code>try-with-resources</code>) a devolve ao pool.</p>
+     *
      * @return uma instância de {@link Connection}
      * @throws SQLException caso a conexão não possa ser estabelecida
      */
@@ -35,6 +67,31 @@ public abstract class AbstractRepository {
         return ConnectionFactory.getConnection();
     }
 
+    /**
+     * Obtém uma conexão somente leitura do pool de leitores, usada pelas
+     * consultas. Em modo WAL, essas leituras não aguardam o escritor.
+     *
+     * @return uma conexão de leitura; fechá-la a devolve ao pool
+     * @throws SQLException caso a conexão não possa ser estabelecida
+     */
+    protected Connection getReadConnection() throws SQLException {
+        return ConnectionFactory.getReadConnection();
+    }
+
+    /**
+     * Executa uma escrita no escritor único da aplicação, em transação própria.
+     * As escritas de todos os repositórios são serializadas, evitando disputas
+     * pelo bloqueio de escrita do SQLite.
+     *
+     * @param work trabalho de escrita
+     * @param <T> tipo do resultado
+     * @return resultado do trabalho
+     * @throws SQLException caso a escrita falhe; a transação é desfeita
+     */
+    protected <T> T executeWrite(SqlWork<T> work) throws SQLException {
+        return ConnectionFactory.executeWrite(work);
+    }
+
     /**
      * Executa uma consulta SQL para buscar o maior valor de ID em uma tabela.
      * O nome da tabela é validado previamente para garantir segurança.
@@ -51,7 +108,7 @@ public abstract class AbstractRepository {
 
         String sql = buildMaxIdQuery(tableName);
 
-        try (Connection conn = getConnection();
+        try (Connection conn = getReadConnection();
              Statement stmt = conn.createStatement();
              java.sql.ResultSet res = stmt.executeQuery(sql)) {
 
@@ -82,6 +139,29 @@ public abstract class AbstractRepository {
         throw new IllegalArgumentException("Nome de tabela inválido: " + tableName);
     }
 
+    /**
+     * Converte uma falha de escrita na exceção da camada de repositório.
+     *
+     * <p>Violações de unicidade (<code>SQLITE_CONSTRAINT_UNIQUE</code> ou de
+     * chave primária) viram {@link DuplicateKeyException}, para que o serviço
+     * as trate como erro de validação; as demais viram
+     * {@link DataAccessException}.</p>
+     *
+     * @param mensagem descrição da operação que falhou, como "Erro ao salvar professor"
+     * @param e falha original do driver
+     * @return exceção a ser lançada pelo repositório
+     */
+    protected static DataAccessException translateWriteError(String mensagem, SQLException e) {
+        if (e instanceof SQLiteException) {
+            SQLiteErrorCode codigo = ((SQLiteException) e).getResultCode();
+            if (codigo == SQLiteErrorCode.SQLITE_CONSTRAINT_UNIQUE
+                    || codigo == SQLiteErrorCode.SQLITE_CONSTRAINT_PRIMARYKEY) {
+                return new DuplicateKeyException(mensagem + ": " + e.getMessage(), e);
+            }
+        }
+        return new DataAccessException(mensagem + ": " + e.getMessage(), e);
+    }
+
     /**
      * Verifica se o nome informado corresponde a uma tabela válida
      * do banco de dados.
@@ -110,13 +190,14 @@ public abstract class AbstractRepository {
 
         String sql = buildDeleteQuery(tableName);
 
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, id);
-            int rowsAffected = stmt.executeUpdate();
-            return rowsAffected > 0;
-
+        try {
+            return executeWrite(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, id);
+                    int rowsAffected = stmt.executeUpdate();
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
             throw new DataAccessException("Erro ao deletar registro: " + e.getMessage(), e);
         }
@@ -137,4 +218,437 @@ public abstract class AbstractRepository {
         }
         throw new IllegalArgumentException("Nome de tabela inválido: " + tableName);
     }
+
+    /**
+     * Insere vários registros em uma única transação, enviando-os ao banco em
+     * lotes de <code>chunkSize</code> comandos com
+     * {@link PreparedStatement#addBatch()}/{@link PreparedStatement#executeBatch()}.
+     *
+     * <p>Os IDs gerados são calculados a partir de <code>last_insert_rowid()</code>
+     * ao fim de cada lote: como a transação detém o bloqueio de escrita
+     * desde o início e as tabelas usam <code>AUTOINCREMENT</code>, os IDs de um
+     * lote são consecutivos.</p>
+     *
+     * @param sql comando INSERT parametrizado
+     * @param itens registros a inserir
+     * @param chunkSize quantidade de comandos por lote
+     * @param binder preenche os parâmetros do comando para cada registro
+     * @param <T> tipo dos registros
+     * @return IDs gerados, na mesma ordem de <code>itens</code>
+     * @throws IllegalArgumentException se a coleção for nula ou o lote não for positivo
+     * @throws SQLException se alguma inserção falhar; nesse caso nenhuma é mantida
+     */
+    protected <T> List<Integer> executeBatchInsert(String sql, Collection<? extends T> itens,
+                                                   int chunkSize, StatementBinder<T> binder) throws SQLException {
+        if (itens == null) {
+            throw new IllegalArgumentException("Coleção de registros não pode ser nula.");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo: " + chunkSize);
+        }
+        if (itens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return executeWrite(conn -> {
+            List<Integer> ids = new ArrayList<>(itens.size());
+            try (PreparedStatement stmt = conn.prepareStatement(sql);
+                 Statement lastId = conn.createStatement()) {
+                int pendentes = 0;
+                for (T item : itens) {
+                    binder.bind(stmt, item);
+                    stmt.addBatch();
+                    pendentes++;
+                    if (pendentes == chunkSize) {
+                        flushBatch(stmt, lastId, pendentes, ids);
+                        pendentes = 0;
+                    }
+                }
+                if (pendentes > 0) {
+                    flushBatch(stmt, lastId, pendentes, ids);
+                }
+            }
+            return ids;
+        });
+    }
+
+    private void flushBatch(PreparedStatement stmt, Statement lastId, int quantidade, List<Integer> ids)
+            throws SQLException {
+        stmt.executeBatch();
+        try (java.sql.ResultSet res = lastId.executeQuery("SELECT last_insert_rowid()")) {
+            res.next();
+            int ultimo = res.getInt(1);
+            for (int id = ultimo - quantidade + 1; id <= ultimo; id++) {
+                ids.add(id);
+            }
+        }
+    }
+
+    /**
+     * Busca uma página de registros com paginação por chave (keyset).
+     *
+     * <p>Em vez de <code>OFFSET</code>, a consulta filtra a partir da posição
+     * do cursor (<code>WHERE id &gt; ? ORDER BY id LIMIT ?</code>, ou a
+     * comparação do par <code>(coluna, id)</code> quando há coluna de
+     * ordenação). Assim, cada página custa o mesmo que a primeira e o
+     * resultado não salta nem repete registros quando há inserções entre
+     * uma página e outra.</p>
+     *
+     * <p>Valores nulos da coluna de ordenação seguem a regra do SQLite: vêm
+     * primeiro na ordem crescente e por último na decrescente. A página que
+     * atravessa a fronteira entre nulos e não nulos é lida com duas
+     * consultas, cada uma posicionada pelo índice.</p>
+     *
+     * @param tableName nome da tabela
+     * @param sortableColumns colunas aceitas para ordenação
+     * @param pedido tamanho, ordenação e posição da página
+     * @param mapper converte cada linha em entidade
+     * @param <T> tipo da entidade
+     * @return página com os registros e o cursor da próxima página
+     * @throws IllegalArgumentException se a tabela ou a coluna de ordenação forem inválidas
+     * @throws SQLException se a consulta falhar
+     */
+    protected <T> Page<T> executeKeysetPage(String tableName, Set<String> sortableColumns,
+                                            PageRequest pedido, RowMapper<T> mapper) throws SQLException {
+        return executeKeysetPage(tableName, "*", sortableColumns, pedido, mapper);
+    }
+
+    /**
+     * Busca uma página de registros com paginação por chave, lendo apenas as
+     * colunas informadas.
+     *
+     * <p>A lista de colunas deve incluir <code>id</code> e as colunas de
+     * ordenação aceitas, pois o cursor é montado a partir delas.</p>
+     *
+     * @param tableName nome da tabela
+     * @param colunas lista de colunas do <code>SELECT</code>, fixa no repositório
+     * @param sortableColumns colunas aceitas para ordenação
+     * @param pedido tamanho, ordenação e posição da página
+     * @param mapper converte cada linha em entidade
+     * @param <T> tipo da entidade
+     * @return página com os registros e o cursor da próxima página
+     * @throws IllegalArgumentException se a tabela ou a coluna de ordenação forem inválidas
+     * @throws SQLException se a consulta falhar
+     */
+    protected <T> Page<T> executeKeysetPage(String tableName, String colunas, Set<String> sortableColumns,
+                                            PageRequest pedido, RowMapper<T> mapper) throws SQLException {
+        if (!isValidTableName(tableName)) {
+            throw new IllegalArgumentException("Nome de tabela inválido: " + tableName);
+        }
+        if (pedido == null) {
+            throw new IllegalArgumentException("Pedido de página não pode ser nulo.");
+        }
+
+        String coluna = pedido.getSortColumn();
+        if (coluna != null && !sortableColumns.contains(coluna)) {
+            throw new IllegalArgumentException("Coluna de ordenação inválida: " + coluna);
+        }
+        if ("id".equals(coluna)) {
+            coluna = null;
+        }
+
+        boolean crescente = pedido.getDirection() == PageRequest.Direction.ASC;
+        int limite = pedido.getSize() + 1;
+        List<T> itens = new ArrayList<>(pedido.getSize());
+        Object ultimoValor = null;
+        int ultimoId = 0;
+        boolean haMais = false;
+
+        try (Connection conn = getReadConnection()) {
+            for (KeysetQuery consulta : buildKeysetQueries(tableName, colunas, coluna, crescente, pedido.getAfter())) {
+                int lidos = itens.size();
+                try (PreparedStatement stmt = conn.prepareStatement(consulta.sql)) {
+                    int indice = 1;
+                    for (Object parametro : consulta.parametros) {
+                        stmt.setObject(indice++, parametro);
+                    }
+                    stmt.setInt(indice, limite - lidos);
+
+                    try (java.sql.ResultSet res = stmt.executeQuery()) {
+                        while (res.next()) {
+                            if (itens.size() == pedido.getSize()) {
+                                haMais = true;
+                                break;
+                            }
+                            ultimoValor = coluna != null ? res.getObject(coluna) : null;
+                            ultimoId = res.getInt("id");
+                            itens.add(mapper.map(res));
+                        }
+                    }
+                }
+                if (haMais) {
+                    break;
+                }
+            }
+        }
+
+        return new Page<>(itens, haMais ? new PageCursor(ultimoValor, ultimoId) : null);
+    }
+
+    /**
+     * Busca a página que começa na posição informada da ordenação, usada
+     * quando a navegação salta para um ponto cujo cursor ainda não é
+     * conhecido (por exemplo, ao arrastar a barra de rolagem).
+     *
+     * <p>Primeiro localiza o registro anterior à posição com
+     * <code>LIMIT 1 OFFSET</code>, lendo apenas a coluna de ordenação e o
+     * ID, o que percorre só o índice quando a coluna é indexada. A página
+     * é então lida a partir desse registro como em
+     * {@link #executeKeysetPage(String, String, Set, PageRequest, RowMapper)},
+     * de modo que o cursor devolvido permite seguir sem <code>OFFSET</code>.
+     * O cursor do pedido é ignorado.</p>
+     *
+     * @param tableName nome da tabela
+     * @param colunas lista de colunas do <code>SELECT</code>, fixa no repositório
+     * @param sortableColumns colunas aceitas para ordenação
+     * @param pedido tamanho e ordenação da página
+     * @param posicao índice, a partir de zero, do primeiro registro da página
+     * @param mapper converte cada linha em entidade
+     * @param <T> tipo da entidade
+     * @return página a partir da posição; vazia se a posição passar do fim da tabela
+     * @throws IllegalArgumentException se a tabela, a coluna de ordenação ou a posição forem inválidas
+     * @throws SQLException se a consulta falhar
+     */
+    protected <T> Page<T> executeKeysetPageAt(String tableName, String colunas, Set<String> sortableColumns,
+                                              PageRequest pedido, int posicao, RowMapper<T> mapper)
+            throws SQLException {
+        if (pedido == null) {
+            throw new IllegalArgumentException("Pedido de página não pode ser nulo.");
+        }
+        if (posicao < 0) {
+            throw new IllegalArgumentException("Posição não pode ser negativa: " + posicao);
+        }
+        PageRequest inicio = new PageRequest(pedido.getSize(), pedido.getSortColumn(), pedido.getDirection(), null);
+        if (posicao == 0) {
+            return executeKeysetPage(tableName, colunas, sortableColumns, inicio, mapper);
+        }
+        if (!isValidTableName(tableName)) {
+            throw new IllegalArgumentException("Nome de tabela inválido: " + tableName);
+        }
+
+        String coluna = pedido.getSortColumn();
+        if (coluna != null && !sortableColumns.contains(coluna)) {
+            throw new IllegalArgumentException("Coluna de ordenação inválida: " + coluna);
+        }
+        if ("id".equals(coluna)) {
+            coluna = null;
+        }
+        String sentido = pedido.getDirection() == PageRequest.Direction.ASC ? " ASC" : " DESC";
+        String sql = coluna == null
+                ? "SELECT id FROM " + tableName + " ORDER BY id" + sentido + " LIMIT 1 OFFSET ?"
+                : "SELECT " + coluna + ", id FROM " + tableName + " ORDER BY " + coluna + sentido + ", id"
+                        + sentido + " LIMIT 1 OFFSET ?";
+
+        PageCursor anterior = null;
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, posicao - 1);
+            try (java.sql.ResultSet res = stmt.executeQuery()) {
+                if (res.next()) {
+                    anterior = new PageCursor(coluna != null ? res.getObject(coluna) : null, res.getInt("id"));
+                }
+            }
+        }
+        if (anterior == null) {
+            return new Page<>(new ArrayList<>(), null);
+        }
+        return executeKeysetPage(tableName, colunas, sortableColumns,
+                new PageRequest(pedido.getSize(), pedido.getSortColumn(), pedido.getDirection(), anterior), mapper);
+    }
+
+    /**
+     * Conta os registros de uma tabela.
+     *
+     * @param tableName nome da tabela
+     * @return quantidade de registros
+     * @throws IllegalArgumentException se o nome da tabela for inválido
+     * @throws DataAccessException se ocorrer um erro ao executar a consulta
+     */
+    protected int executeCount(String tableName) {
+        if (!isValidTableName(tableName)) {
+            throw new IllegalArgumentException("Nome de tabela inválido: " + tableName);
+        }
+
+        try (Connection conn = getReadConnection();
+             Statement stmt = conn.createStatement();
+             java.sql.ResultSet res = stmt.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+            return res.next() ? res.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao contar registros: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Monta as consultas que leem uma página por chave, em ordem. Cada uma
+     * termina em <code>LIMIT ?</code>, cujo valor não está nos parâmetros.
+     *
+     * <p>Com coluna de ordenação, os registros com valor nulo formam um
+     * trecho à parte (no início da ordem crescente e no fim da
+     * decrescente). Quando a página pode atravessar a fronteira entre os
+     * trechos, são devolvidas duas consultas: a primeira continua o trecho
+     * do cursor e a segunda começa o trecho seguinte. Juntar os dois em uma
+     * condição com <code>OR ... IS NULL</code> impediria o SQLite de
+     * posicionar a busca no índice, e cada página percorreria o índice
+     * desde o início.</p>
+     *
+     * @param tableName nome da tabela, já validado
+     * @param colunas lista de colunas do <code>SELECT</code>
+     * @param coluna coluna de ordenação, ou <code>null</code> para ordenar pelo ID
+     * @param crescente sentido da ordenação
+     * @param cursor posição do último registro entregue, ou <code>null</code> na primeira página
+     * @return uma ou duas consultas, a serem lidas em ordem até completar a página
+     */
+    static List<KeysetQuery> buildKeysetQueries(String tableName, String colunas, String coluna,
+                                                boolean crescente, PageCursor cursor) {
+        String sentido = crescente ? " ASC" : " DESC";
+        String ordem = (coluna != null ? " ORDER BY " + coluna + sentido + ", id" : " ORDER BY id") + sentido
+                + " LIMIT ?";
+        String select = "SELECT " + colunas + " FROM " + tableName;
+
+        List<KeysetQuery> consultas = new ArrayList<>(2);
+        if (cursor == null) {
+            consultas.add(new KeysetQuery(select + ordem));
+        } else if (coluna == null) {
+            consultas.add(new KeysetQuery(select + " WHERE id " + (crescente ? ">" : "<") + " ?" + ordem,
+                    cursor.getLastId()));
+        } else if (cursor.getSortValue() == null) {
+            consultas.add(new KeysetQuery(select + " WHERE " + coluna + " IS NULL AND id " + (crescente ? ">" : "<")
+                    + " ?" + ordem, cursor.getLastId()));
+            if (crescente) {
+                consultas.add(new KeysetQuery(select + " WHERE " + coluna + " IS NOT NULL" + ordem));
+            }
+        } else {
+            consultas.add(new KeysetQuery(select + " WHERE (" + coluna + ", id) " + (crescente ? ">" : "<")
+                    + " (?, ?)" + ordem, cursor.getSortValue(), cursor.getLastId()));
+            if (!crescente) {
+                consultas.add(new KeysetQuery(select + " WHERE " + coluna + " IS NULL" + ordem));
+            }
+        }
+        return consultas;
+    }
+
+    /** Consulta de um trecho da página por chave e seus parâmetros, sem o valor do <code>LIMIT</code>. */
+    static final class KeysetQuery {
+        final String sql;
+        final List<Object> parametros;
+
+        KeysetQuery(String sql, Object... parametros) {
+            this.sql = sql;
+            this.parametros = Arrays.asList(parametros);
+        }
+    }
+
+    /**
+     * Busca os registros que atendem ao critério, aplicando os filtros no
+     * próprio SQL. O comando é obtido de {@link CriteriaCompiler}, que o
+     * reaproveita para critérios com o mesmo formato.
+     *
+     * @param tableName nome da tabela
+     * @param criteria filtros a aplicar
+     * @param mapper converte cada linha em entidade
+     * @param <T> tipo da entidade
+     * @return registros encontrados, ordenados pelo ID
+     * @throws IllegalArgumentException se a tabela for inválida ou o critério for nulo
+     * @throws SQLException se a consulta falhar
+     */
+    protected <T> List<T> executeCriteriaQuery(String tableName, Criteria criteria, RowMapper<T> mapper)
+            throws SQLException {
+        if (!isValidTableName(tableName)) {
+            throw new IllegalArgumentException("Nome de tabela inválido: " + tableName);
+        }
+
+        CompiledQuery consulta = CriteriaCompiler.compile("SELECT * FROM " + tableName, criteria);
+        List<T> itens = new ArrayList<>();
+
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(consulta.getSql())) {
+            List<Object> parametros = consulta.getParameters();
+            for (int i = 0; i < parametros.size(); i++) {
+                stmt.setObject(i + 1, parametros.get(i));
+            }
+            try (java.sql.ResultSet res = stmt.executeQuery()) {
+                while (res.next()) {
+                    itens.add(mapper.map(res));
+                }
+            }
+        }
+        return itens;
+    }
+
+    /**
+     * Executa uma consulta e entrega as linhas sob demanda, como um
+     * {@link Stream}, sem materializar o resultado em uma lista.
+     *
+     * <p>A conexão de leitura, o comando e o {@link java.sql.ResultSet}
+     * permanecem abertos enquanto o stream é consumido e são liberados em
+     * {@link Stream#close()}; por isso o stream deve ser usado em um bloco
+     * <code>try-with-resources</code>. Cada linha é convertida apenas quando
+     * solicitada, de modo que o consumo de memória não depende do tamanho
+     * da tabela. Enquanto estiver aberto, o stream mantém uma leitura
+     * ativa no banco, o que impede o checkpoint completo do WAL: convém
+     * consumi-lo sem pausas longas.</p>
+     *
+     * @param sql consulta sem parâmetros
+     * @param fetchSize quantidade de linhas sugerida ao driver por busca
+     * @param mapper converte cada linha em entidade
+     * @param <T> tipo da entidade
+     * @return stream sequencial das entidades, na ordem da consulta
+     * @throws SQLException se a consulta não puder ser iniciada
+     * @throws DataAccessException se ocorrer erro ao avançar no resultado
+     */
+    protected <T> Stream<T> executeStream(String sql, int fetchSize, RowMapper<T> mapper) throws SQLException {
+        Connection conn = getReadConnection();
+        PreparedStatement stmt = null;
+        java.sql.ResultSet res;
+        try {
+            stmt = conn.prepareStatement(sql);
+            stmt.setFetchSize(fetchSize);
+            res = stmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            fecharSilenciosamente(stmt, e);
+            fecharSilenciosamente(conn, e);
+            throw e;
+        }
+
+        final PreparedStatement comando = stmt;
+        Spliterator<T> linhas = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!res.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(res));
+                    return true;
+                } catch (SQLException e) {
+                    throw new DataAccessException("Erro ao percorrer resultado: " + e.getMessage(), e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(linhas, false).onClose(() -> {
+            // fecha na ordem inversa da abertura; se um falhar, os demais ainda são fechados
+            try {
+                res.close();
+                comando.close();
+                conn.close();
+            } catch (SQLException e) {
+                fecharSilenciosamente(comando, e);
+                fecharSilenciosamente(conn, e);
+                throw new DataAccessException("Erro ao encerrar consulta: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private void fecharSilenciosamente(AutoCloseable recurso, Exception causa) {
+        if (recurso == null) {
+            return;
+        }
+        try {
+            recurso.close();
+        } catch (Exception e) {
+            causa.addSuppressed(e);
+        }
+    }
 }
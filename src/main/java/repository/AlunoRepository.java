@@ -1,7 +1,12 @@
 package repository;
 
 import model.Aluno;
+import model.AlunoResumo;
+import repository.criteria.AlunoCriteria;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Interface que define as operações de acesso a dados para a entidade {@link Aluno}. <br><br>
@@ -15,11 +20,33 @@ public interface AlunoRepository {
     /**
      * Salva um novo aluno no banco de dados.
      *
+     * <p>O ID gerado pelo banco é atribuído ao próprio objeto informado,
+     * sem necessidade de consultar {@link #getMaxId()} após a inserção.</p>
+     *
      * @param aluno objeto {@link Aluno} a ser persistido
      * @return true se a operação for bem-sucedida, false caso contrário
      */
     boolean save(Aluno aluno);
 
+    /**
+     * Salva vários alunos em uma única transação, usando inserções em lote
+     * com o tamanho de lote padrão.
+     *
+     * @param alunos alunos a serem persistidos
+     * @return IDs gerados, na ordem da coleção; cada aluno também recebe seu ID
+     */
+    List<Integer> saveAll(Collection<Aluno> alunos);
+
+    /**
+     * Salva vários alunos em uma única transação, enviando-os ao banco em
+     * lotes do tamanho informado.
+     *
+     * @param alunos alunos a serem persistidos
+     * @param chunkSize quantidade de inserções por lote
+     * @return IDs gerados, na ordem da coleção; cada aluno também recebe seu ID
+     */
+    List<Integer> saveAll(Collection<Aluno> alunos, int chunkSize);
+
     /**
      * Atualiza os dados de um aluno existente no banco de dados.
      *
@@ -51,10 +78,123 @@ public interface AlunoRepository {
      */
     List<Aluno> findAll();
 
+    /**
+     * Retorna todos os alunos na forma de {@link AlunoResumo}, lendo
+     * somente as colunas exibidas nas telas de listagem.
+     *
+     * @return lista de visões de alunos
+     */
+    List<AlunoResumo> findAllSummaries();
+
+    /**
+     * Retorna uma página de alunos na forma de {@link AlunoResumo}, com
+     * as mesmas regras de ordenação de {@link #findPage(PageRequest)}.
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de visões de alunos
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     */
+    Page<AlunoResumo> findSummaryPage(PageRequest pedido);
+
+    /**
+     * Retorna a página de {@link AlunoResumo} que começa na posição informada,
+     * para saltos em que o cursor da página ainda não é conhecido. Segue as
+     * mesmas regras de ordenação de {@link #findSummaryPage(PageRequest)};
+     * o cursor do pedido é ignorado.
+     *
+     * @param pedido tamanho e ordenação da página
+     * @param posicao índice, a partir de zero, do primeiro registro da página
+     * @return página a partir da posição; vazia se a posição passar do fim da tabela
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita ou a posição for negativa
+     */
+    Page<AlunoResumo> findSummaryPageAt(PageRequest pedido, int posicao);
+
+    /**
+     * Busca alunos pelo nome, usando o índice de texto completo.
+     *
+     * <p>Cada palavra informada é tratada como prefixo, sem diferenciar
+     * maiúsculas, minúsculas ou acentos: "jo sil" encontra "João da Silva".
+     * Os resultados vêm do mais para o menos relevante (BM25).</p>
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return alunos encontrados, do mais relevante ao menos relevante;
+     *         lista vazia se a consulta não tiver nenhuma palavra
+     * @throws IllegalArgumentException se o limite não for positivo
+     */
+    List<AlunoResumo> searchByName(String consulta, int limite);
+
+    /**
+     * Filtra alunos pelo nome, com as mesmas regras de correspondência de
+     * {@link #searchByName(String, int)}, mas em ordem de ID e sem calcular
+     * relevância. Indicado para a busca enquanto o usuário digita, em que
+     * prefixos curtos casam com muitos registros.
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return alunos encontrados, em ordem de ID; lista vazia se a consulta não
+     *         tiver nenhuma palavra
+     * @throws IllegalArgumentException se o limite não for positivo
+     */
+    List<AlunoResumo> filterByName(String consulta, int limite);
+
+    /**
+     * Percorre todos os alunos sob demanda, sem carregá-los de uma vez.
+     *
+     * <p>O stream mantém uma conexão aberta até ser fechado; use-o sempre
+     * em um bloco <code>try-with-resources</code>.</p>
+     *
+     * @return stream de alunos, que deve ser fechado após o uso
+     */
+    Stream<Aluno> streamAll();
+
+    /**
+     * Executa a ação informada para cada aluno cadastrado, lendo um
+     * registro por vez. Os recursos são liberados ao final, mesmo em caso
+     * de erro.
+     *
+     * @param acao ação aplicada a cada aluno
+     */
+    void forEach(Consumer<? super Aluno> acao);
+
+    /**
+     * Busca os alunos que atendem ao critério informado. Os filtros são
+     * aplicados pelo banco, sem carregar a tabela inteira.
+     *
+     * @param criteria filtros da consulta; sem filtros, retorna todos
+     * @return alunos encontrados, ordenados pelo ID
+     * @throws IllegalArgumentException se o critério for nulo
+     */
+    List<Aluno> findBy(AlunoCriteria criteria);
+
+    /**
+     * Retorna uma página de alunos, com paginação por chave.
+     *
+     * <p>Alternativa a {@link #findAll()} para tabelas grandes: apenas os
+     * registros da página são lidos e mantidos em memória. Colunas aceitas
+     * para ordenação: <code>id</code>, <code>nome</code>, <code>idade</code>, <code>curso</code>, <code>fase</code>.</p>
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de alunos e cursor da próxima página
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     */
+    Page<Aluno> findPage(PageRequest pedido);
+
     /**
      * Obtém o maior ID existente na tabela de alunos.
      *
+     * <p>Não deve ser usado para descobrir o ID de um aluno recém-inserido:
+     * sob inserções concorrentes o resultado pode pertencer a outro registro.
+     * Para isso, use o ID atribuído por {@link #save(Aluno)}.</p>
+     *
      * @return valor numérico do maior ID, ou 0 caso a tabela esteja vazia
      */
     int getMaxId();
+
+    /**
+     * Conta os registros da tabela <code>tb_alunos</code>.
+     *
+     * @return quantidade de alunos cadastrados
+     */
+    int count();
 }
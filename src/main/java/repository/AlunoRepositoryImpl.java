@@ -1,13 +1,23 @@
 package repository;
 
 import model.Aluno;
+import model.AlunoResumo;
+import repository.criteria.AlunoCriteria;
 import repository.exception.DataAccessException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementação concreta de {@link AlunoRepository} responsável por realizar
@@ -16,35 +26,100 @@ import java.util.List;
  *
  * Esta classe encapsula toda a lógica de acesso a dados da entidade {@link Aluno},
  * garantindo separação clara entre regras de negócio e persistência.
+ * Consultas usam conexões somente leitura e escritas passam pelo escritor
+ * único da aplicação.
  */
 public class AlunoRepositoryImpl extends AbstractRepository implements AlunoRepository {
     
+    private static final String INSERT_SQL = "INSERT INTO tb_alunos(nome, idade, curso, fase) VALUES(?, ?, ?, ?)";
+
+    /** Colunas aceitas como critério de ordenação em {@link #findPage(PageRequest)}. */
+    private static final Set<String> COLUNAS_ORDENAVEIS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("id", "nome", "idade", "curso", "fase")));
+
+    /** Colunas lidas pelas consultas de {@link AlunoResumo}, na ordem usada pelo mapeamento. */
+    private static final String COLUNAS_RESUMO = "id, nome, idade, curso, fase";
+    
     /**
      * Insere um novo aluno na tabela <code>tb_alunos</code>.
      *
+     * <p>O ID gerado é lido na mesma instrução (<code>RETURNING id</code>) e
+     * atribuído ao objeto, evitando uma consulta extra a <code>MAX(id)</code>.</p>
+     *
      * @param aluno objeto {@link Aluno} contendo os dados a serem salvos
      * @return true se o registro for inserido com sucesso
      * @throws DataAccessException caso ocorra algum erro na operação SQL
      */
     @Override
     public boolean save(Aluno aluno) {
-        String sql = "INSERT INTO tb_alunos(nome, idade, curso, fase) VALUES(?, ?, ?, ?)";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, aluno.getNome());
-            stmt.setInt(2, aluno.getIdade());
-            stmt.setString(3, aluno.getCurso());
-            stmt.setInt(4, aluno.getFase());
-            
-            stmt.execute();
-            return true;
+        try {
+            return executeWrite(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL + " RETURNING id")) {
+                    preencherInsert(stmt, aluno);
+                    
+                    try (ResultSet res = stmt.executeQuery()) {
+                        res.next();
+                        aluno.setId(res.getInt(1));
+                    }
+                    return true;
+                }
+            });
         } catch (SQLException e) {
             throw new DataAccessException("Erro ao salvar aluno: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Insere vários alunos na tabela <code>tb_alunos</code> em uma única
+     * transação, em lotes de {@link AbstractRepository#DEFAULT_BATCH_SIZE}.
+     *
+     * @param alunos alunos a serem inseridos
+     * @return IDs gerados, na ordem da coleção
+     * @throws DataAccessException caso alguma inserção falhe; nenhuma é mantida
+     */
+    @Override
+    public List<Integer> saveAll(Collection<Aluno> alunos) {
+        return saveAll(alunos, DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * Insere vários alunos na tabela <code>tb_alunos</code> em uma única
+     * transação, enviando-os em lotes de <code>chunkSize</code> comandos.
+     * Cada aluno recebe o ID gerado.
+     *
+     * @param alunos alunos a serem inseridos
+     * @param chunkSize quantidade de inserções por lote
+     * @return IDs gerados, na ordem da coleção
+     * @throws DataAccessException caso alguma inserção falhe; nenhuma é mantida
+     */
+    @Override
+    public List<Integer> saveAll(Collection<Aluno> alunos, int chunkSize) {
+        try {
+            List<Integer> ids = executeBatchInsert(INSERT_SQL, alunos, chunkSize, this::preencherInsert);
+            Iterator<Integer> id = ids.iterator();
+            for (Aluno aluno : alunos) {
+                aluno.setId(id.next());
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao salvar alunos em lote: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Preenche os parâmetros do INSERT de <code>tb_alunos</code>.
+     *
+     * @param stmt comando preparado a partir de {@link #INSERT_SQL}
+     * @param aluno aluno com os dados a inserir
+     * @throws SQLException caso algum parâmetro não possa ser definido
+     */
+    private void preencherInsert(PreparedStatement stmt, Aluno aluno) throws SQLException {
+        stmt.setString(1, aluno.getNome());
+        stmt.setInt(2, aluno.getIdade());
+        stmt.setString(3, aluno.getCurso());
+        stmt.setInt(4, aluno.getFase());
+    }
+    
     /**
      * Atualiza os dados de um aluno já cadastrado no banco.
      *
@@ -56,17 +131,19 @@ public class AlunoRepositoryImpl extends AbstractRepository implements AlunoRepo
     public boolean update(Aluno aluno) {
         String sql = "UPDATE tb_alunos SET nome = ?, idade = ?, curso = ?, fase = ? WHERE id = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, aluno.getNome());
-            stmt.setInt(2, aluno.getIdade());
-            stmt.setString(3, aluno.getCurso());
-            stmt.setInt(4, aluno.getFase());
-            stmt.setInt(5, aluno.getId());
-            
-            int rowsAffected = stmt.executeUpdate();
-            return rowsAffected > 0;
+        try {
+            return executeWrite(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, aluno.getNome());
+                    stmt.setInt(2, aluno.getIdade());
+                    stmt.setString(3, aluno.getCurso());
+                    stmt.setInt(4, aluno.getFase());
+                    stmt.setInt(5, aluno.getId());
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
             throw new DataAccessException("Erro ao atualizar aluno: " + e.getMessage(), e);
         }
@@ -94,7 +171,7 @@ public class AlunoRepositoryImpl extends AbstractRepository implements AlunoRepo
     public Aluno findById(int id) {
         String sql = "SELECT * FROM tb_alunos WHERE id = ?";
         
-        try (Connection conn = getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
@@ -139,7 +216,7 @@ public class AlunoRepositoryImpl extends AbstractRepository implements AlunoRepo
         List<Aluno> alunos = new ArrayList<>();
         String sql = "SELECT * FROM tb_alunos";
         
-        try (Connection conn = getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet res = stmt.executeQuery()) {
             
@@ -153,6 +230,224 @@ public class AlunoRepositoryImpl extends AbstractRepository implements AlunoRepo
         return alunos;
     }
     
+    /**
+     * Busca todos os alunos da tabela <code>tb_alunos</code>, lendo apenas
+     * as colunas de {@link AlunoResumo}.
+     *
+     * @return lista de visões de alunos
+     * @throws DataAccessException caso a consulta falhe
+     */
+    @Override
+    public List<AlunoResumo> findAllSummaries() {
+        List<AlunoResumo> resumos = new ArrayList<>();
+        String sql = "SELECT " + COLUNAS_RESUMO + " FROM tb_alunos";
+
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet res = stmt.executeQuery()) {
+
+            while (res.next()) {
+                resumos.add(criarResumoDoResultSet(res));
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar resumo de alunos: " + e.getMessage(), e);
+        }
+
+        return resumos;
+    }
+
+    /**
+     * Busca uma página de alunos da tabela <code>tb_alunos</code>, lendo
+     * apenas as colunas de {@link AlunoResumo}.
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de visões de alunos
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Page<AlunoResumo> findSummaryPage(PageRequest pedido) {
+        try {
+            return executeKeysetPage("tb_alunos", COLUNAS_RESUMO, COLUNAS_ORDENAVEIS, pedido, this::criarResumoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar página de alunos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca a página de alunos que começa na posição informada da ordenação,
+     * lendo apenas as colunas de {@link AlunoResumo}.
+     *
+     * @param pedido tamanho e ordenação da página
+     * @param posicao índice, a partir de zero, do primeiro registro da página
+     * @return página de visões de alunos
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita ou a posição for negativa
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Page<AlunoResumo> findSummaryPageAt(PageRequest pedido, int posicao) {
+        try {
+            return executeKeysetPageAt("tb_alunos", COLUNAS_RESUMO, COLUNAS_ORDENAVEIS, pedido, posicao,
+                    this::criarResumoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar página de alunos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Constrói um {@link AlunoResumo} a partir de uma linha lida com
+     * {@link #COLUNAS_RESUMO}. As colunas são lidas por posição.
+     *
+     * @param res resultado da consulta SQL
+     * @return visão do registro
+     * @throws SQLException caso o acesso aos campos falhe
+     */
+    private AlunoResumo criarResumoDoResultSet(ResultSet res) throws SQLException {
+        return new AlunoResumo(res.getInt(1), res.getString(2), res.getInt(3), res.getString(4), res.getInt(5));
+    }
+
+    /**
+     * Busca alunos pelo nome na tabela de texto completo <code>fts_alunos</code>,
+     * ordenando pela relevância calculada pelo FTS5.
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return visões dos alunos encontrados, em ordem de relevância
+     * @throws IllegalArgumentException se o limite não for positivo
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public List<AlunoResumo> searchByName(String consulta, int limite) {
+        return buscarNoIndiceTextual(consulta, limite, true);
+    }
+
+    /**
+     * Filtra alunos pelo nome na tabela de texto completo <code>fts_alunos</code>,
+     * em ordem de ID e sem calcular relevância.
+     *
+     * <p>Sem <code>ORDER BY rank</code>, o FTS5 para de ler assim que encontra
+     * <code>limite</code> registros, em vez de pontuar todos os que casam com
+     * o prefixo; com prefixos curtos, que casam com boa parte da tabela, a
+     * diferença é de uma ordem de grandeza.</p>
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return visões dos alunos encontrados, em ordem de ID
+     * @throws IllegalArgumentException se o limite não for positivo
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public List<AlunoResumo> filterByName(String consulta, int limite) {
+        return buscarNoIndiceTextual(consulta, limite, false);
+    }
+
+    /**
+     * Executa a consulta no índice de texto completo, com ou sem ordenação
+     * por relevância.
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @param porRelevancia <code>true</code> para ordenar pelo <code>rank</code>; <code>false</code> para o ID
+     * @return visões dos alunos encontrados
+     */
+    private List<AlunoResumo> buscarNoIndiceTextual(String consulta, int limite, boolean porRelevancia) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite da busca deve ser positivo: " + limite);
+        }
+
+        List<AlunoResumo> resumos = new ArrayList<>();
+        String expressao = FullTextQuery.prefixMatch(consulta);
+        if (expressao == null) {
+            return resumos;
+        }
+
+        String sql = porRelevancia
+                ? "SELECT " + COLUNAS_RESUMO + " FROM tb_alunos "
+                        + "JOIN (SELECT rowid, rank FROM fts_alunos WHERE fts_alunos MATCH ? ORDER BY rank LIMIT ?) f "
+                        + "ON tb_alunos.id = f.rowid ORDER BY f.rank"
+                : "SELECT " + COLUNAS_RESUMO + " FROM tb_alunos "
+                        + "WHERE id IN (SELECT rowid FROM fts_alunos WHERE fts_alunos MATCH ? ORDER BY rowid LIMIT ?) "
+                        + "ORDER BY id";
+
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, expressao);
+            stmt.setInt(2, limite);
+            try (ResultSet res = stmt.executeQuery()) {
+                while (res.next()) {
+                    resumos.add(criarResumoDoResultSet(res));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar alunos por nome: " + e.getMessage(), e);
+        }
+
+        return resumos;
+    }
+
+    /**
+     * Percorre a tabela <code>tb_alunos</code> sob demanda, lendo
+     * {@link #DEFAULT_FETCH_SIZE} linhas por busca.
+     *
+     * @return stream de alunos, que deve ser fechado após o uso
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Stream<Aluno> streamAll() {
+        try {
+            return executeStream("SELECT * FROM tb_alunos", DEFAULT_FETCH_SIZE, this::criarAlunoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao percorrer alunos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Aplica a ação a cada aluno da tabela <code>tb_alunos</code>.
+     *
+     * @param acao ação aplicada a cada aluno
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public void forEach(Consumer<? super Aluno> acao) {
+        try (Stream<Aluno> alunos = streamAll()) {
+            alunos.forEach(acao);
+        }
+    }
+
+    /**
+     * Busca na tabela <code>tb_alunos</code> os alunos que atendem ao critério.
+     *
+     * @param criteria filtros da consulta
+     * @return alunos encontrados, ordenados pelo ID
+     * @throws IllegalArgumentException se o critério for nulo
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public List<Aluno> findBy(AlunoCriteria criteria) {
+        try {
+            return executeCriteriaQuery("tb_alunos", criteria, this::criarAlunoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao filtrar alunos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca uma página de alunos da tabela <code>tb_alunos</code>.
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de alunos
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Page<Aluno> findPage(PageRequest pedido) {
+        try {
+            return executeKeysetPage("tb_alunos", COLUNAS_ORDENAVEIS, pedido, this::criarAlunoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar página de alunos: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Obtém o maior ID da tabela <code>tb_alunos</code>.
      *
@@ -162,4 +457,14 @@ public class AlunoRepositoryImpl extends AbstractRepository implements AlunoRepo
     public int getMaxId() {
         return executeMaxIdQuery("tb_alunos");
     }
+
+    /**
+     * Conta os registros da tabela <code>tb_alunos</code>.
+     *
+     * @return quantidade de alunos cadastrados
+     */
+    @Override
+    public int count() {
+        return executeCount("tb_alunos");
+    }
 }
@@ -0,0 +1,41 @@
+package repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte o texto digitado pelo usuário em uma expressão <code>MATCH</code>
+ * do FTS5.
+ *
+ * <p>O texto é quebrado em palavras (letras e dígitos); cada palavra vira um
+ * termo entre aspas com busca por prefixo, e os termos são combinados com
+ * E lógico. Assim, <code>"jo sil"</code> encontra "João da Silva", e
+ * caracteres com significado especial na sintaxe do FTS5 (aspas, asteriscos,
+ * parênteses, operadores) nunca chegam à consulta.</p>
+ */
+final class FullTextQuery {
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * Monta a expressão de busca por prefixo.
+     *
+     * @param texto texto digitado
+     * @return expressão para <code>MATCH</code>, ou <code>null</code> se o texto
+     *         não contiver nenhuma palavra
+     */
+    static String prefixMatch(String texto) {
+        if (texto == null) {
+            return null;
+        }
+
+        List<String> termos = new ArrayList<>();
+        for (String palavra : texto.split("[^\\p{L}\\p{N}]+")) {
+            if (!palavra.isEmpty()) {
+                termos.add("\"" + palavra + "\"*");
+            }
+        }
+        return termos.isEmpty() ? null : String.join(" ", termos);
+    }
+}
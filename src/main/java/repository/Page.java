@@ -0,0 +1,54 @@
+package repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Página de resultados de uma consulta paginada por chave.
+ *
+ * @param <T> tipo dos registros
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    /**
+     * Cria uma página.
+     *
+     * @param items registros da página, na ordem pedida
+     * @param nextCursor posição de continuação, ou <code>null</code> se esta for a última página
+     */
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Retorna os registros da página (lista imutável).
+     *
+     * @return registros da página
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Retorna a posição de continuação, usada para pedir a próxima página.
+     *
+     * @return cursor da próxima página, ou <code>null</code> se não houver
+     */
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Indica se existem registros depois desta página.
+     *
+     * @return true se houver próxima página
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
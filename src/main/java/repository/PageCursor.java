@@ -0,0 +1,50 @@
+package repository;
+
+/**
+ * Posição de continuação de uma consulta paginada por chave (keyset).
+ *
+ * <p>Guarda o valor da coluna de ordenação e o ID do último registro
+ * entregue. A próxima página começa logo depois dessa posição, sem
+ * <code>OFFSET</code>: o banco posiciona a busca diretamente pelo índice,
+ * e o custo de cada página não cresce com a profundidade da navegação.</p>
+ */
+public final class PageCursor {
+
+    private final Object sortValue;
+    private final int lastId;
+
+    /**
+     * Cria um cursor de continuação.
+     *
+     * @param sortValue valor da coluna de ordenação no último registro
+     *                  entregue (pode ser nulo; ignorado na ordenação por ID)
+     * @param lastId ID do último registro entregue
+     */
+    public PageCursor(Object sortValue, int lastId) {
+        this.sortValue = sortValue;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Retorna o valor da coluna de ordenação no último registro entregue.
+     *
+     * @return valor da coluna, possivelmente nulo
+     */
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    /**
+     * Retorna o ID do último registro entregue.
+     *
+     * @return ID do último registro
+     */
+    public int getLastId() {
+        return lastId;
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{sortValue=" + sortValue + ", lastId=" + lastId + "}";
+    }
+}
@@ -0,0 +1,107 @@
+package repository;
+
+/**
+ * Pedido de uma página de registros: tamanho, ordenação opcional e posição
+ * de continuação.
+ *
+ * <p>Sem coluna de ordenação, os registros seguem a ordem do ID. Com uma
+ * coluna, o ID é usado como critério de desempate, o que torna a ordem
+ * total e o cursor estável mesmo com valores repetidos. As colunas aceitas
+ * são definidas por cada repositório.</p>
+ *
+ * <p>Uso típico:</p>
+ * <pre>
+ * PageRequest pedido = PageRequest.of(50).sortBy("nome", PageRequest.Direction.ASC);
+ * Page&lt;Aluno&gt; pagina = repository.findPage(pedido);
+ * while (pagina.hasNext()) {
+ *     pagina = repository.findPage(pedido.next(pagina));
+ * }
+ * </pre>
+ */
+public final class PageRequest {
+
+    /** Sentido da ordenação. */
+    public enum Direction {
+        ASC, DESC
+    }
+
+    private final int size;
+    private final String sortColumn;
+    private final Direction direction;
+    private final PageCursor after;
+
+    /**
+     * Cria um pedido de página.
+     *
+     * @param size quantidade máxima de registros da página
+     * @param sortColumn coluna de ordenação, ou <code>null</code> para ordenar apenas pelo ID
+     * @param direction sentido da ordenação; <code>null</code> equivale a {@link Direction#ASC}
+     * @param after posição a partir da qual a página começa, ou <code>null</code> para a primeira página
+     * @throws IllegalArgumentException se o tamanho não for positivo
+     */
+    public PageRequest(int size, String sortColumn, Direction direction, PageCursor after) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser positivo: " + size);
+        }
+        this.size = size;
+        this.sortColumn = sortColumn;
+        this.direction = direction == null ? Direction.ASC : direction;
+        this.after = after;
+    }
+
+    /**
+     * Cria o pedido da primeira página, ordenada pelo ID.
+     *
+     * @param size quantidade máxima de registros da página
+     * @return pedido da primeira página
+     */
+    public static PageRequest of(int size) {
+        return new PageRequest(size, null, Direction.ASC, null);
+    }
+
+    /**
+     * Retorna uma cópia deste pedido com outra ordenação, a partir da primeira página.
+     *
+     * @param coluna coluna de ordenação
+     * @param sentido sentido da ordenação
+     * @return novo pedido
+     */
+    public PageRequest sortBy(String coluna, Direction sentido) {
+        return new PageRequest(size, coluna, sentido, null);
+    }
+
+    /**
+     * Retorna o pedido da página seguinte à informada, com o mesmo tamanho
+     * e a mesma ordenação.
+     *
+     * @param pagina página já obtida com este pedido
+     * @return pedido da próxima página
+     * @throws IllegalArgumentException se a página não tiver continuação
+     */
+    public PageRequest next(Page<?> pagina) {
+        if (!pagina.hasNext()) {
+            throw new IllegalArgumentException("A página informada é a última.");
+        }
+        return new PageRequest(size, sortColumn, direction, pagina.getNextCursor());
+    }
+
+    /** @return quantidade máxima de registros da página. */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return coluna de ordenação, ou <code>null</code> para ordenar pelo ID. */
+    public String getSortColumn() {
+        return sortColumn;
+    }
+
+    /** @return sentido da ordenação. */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /** @return posição de início da página, ou <code>null</code> na primeira página. */
+    public PageCursor getAfter() {
+        return after;
+    }
+}
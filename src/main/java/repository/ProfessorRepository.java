@@ -1,7 +1,13 @@
 package repository;
 
 import model.Professor;
+import model.ProfessorResumo;
+import repository.criteria.ProfessorCriteria;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Interface que define as operações de persistência da entidade {@link Professor}. <br>
@@ -12,11 +18,33 @@ public interface ProfessorRepository {
     /**
      * Salva um novo professor na base de dados.
      *
+     * <p>O ID gerado pelo banco é atribuído ao próprio objeto informado,
+     * sem necessidade de consultar {@link #getMaxId()} após a inserção.</p>
+     *
      * @param professor objeto {@link Professor} a ser persistido
      * @return true se o registro for inserido com sucesso
      */
     boolean save(Professor professor);
 
+    /**
+     * Salva vários professores em uma única transação, usando inserções em
+     * lote com o tamanho de lote padrão.
+     *
+     * @param professores professores a serem persistidos
+     * @return IDs gerados, na ordem da coleção; cada professor também recebe seu ID
+     */
+    List<Integer> saveAll(Collection<Professor> professores);
+
+    /**
+     * Salva vários professores em uma única transação, enviando-os ao banco
+     * em lotes do tamanho informado.
+     *
+     * @param professores professores a serem persistidos
+     * @param chunkSize quantidade de inserções por lote
+     * @return IDs gerados, na ordem da coleção; cada professor também recebe seu ID
+     */
+    List<Integer> saveAll(Collection<Professor> professores, int chunkSize);
+
     /**
      * Atualiza os dados de um professor já existente.
      *
@@ -25,6 +53,19 @@ public interface ProfessorRepository {
      */
     boolean update(Professor professor);
 
+    /**
+     * Insere o professor ou, se já houver um cadastro com o mesmo CPF,
+     * atualiza esse cadastro, em uma única operação atômica.
+     *
+     * <p>O CPF é comparado exatamente como informado, como em
+     * {@link #findByCpf(String)}. O ID do registro gravado é atribuído ao
+     * próprio objeto.</p>
+     *
+     * @param professor professor com os dados a gravar
+     * @return ID do registro inserido ou atualizado
+     */
+    int upsertByCpf(Professor professor);
+
     /**
      * Exclui um professor do repositório com base no seu ID.
      *
@@ -49,6 +90,16 @@ public interface ProfessorRepository {
      */
     Professor findByCpf(String cpf);
 
+    /**
+     * Informa quais dos CPFs passados já estão cadastrados, consultando o
+     * banco em poucas instruções <code>WHERE cpf IN (...)</code> em vez de
+     * uma busca por CPF.
+     *
+     * @param cpfs CPFs a verificar
+     * @return os CPFs da coleção que já pertencem a algum professor
+     */
+    Set<String> findExistingCpfs(Collection<String> cpfs);
+
     /**
      * Retorna todos os professores cadastrados.
      *
@@ -56,10 +107,124 @@ public interface ProfessorRepository {
      */
     List<Professor> findAll();
 
+    /**
+     * Retorna todos os professores na forma de {@link ProfessorResumo}, lendo
+     * somente as colunas exibidas nas telas de listagem.
+     *
+     * @return lista de visões de professores
+     */
+    List<ProfessorResumo> findAllSummaries();
+
+    /**
+     * Retorna uma página de professores na forma de {@link ProfessorResumo}, com
+     * as mesmas regras de ordenação de {@link #findPage(PageRequest)}.
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de visões de professores
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     */
+    Page<ProfessorResumo> findSummaryPage(PageRequest pedido);
+
+    /**
+     * Retorna a página de {@link ProfessorResumo} que começa na posição informada,
+     * para saltos em que o cursor da página ainda não é conhecido. Segue as
+     * mesmas regras de ordenação de {@link #findSummaryPage(PageRequest)};
+     * o cursor do pedido é ignorado.
+     *
+     * @param pedido tamanho e ordenação da página
+     * @param posicao índice, a partir de zero, do primeiro registro da página
+     * @return página a partir da posição; vazia se a posição passar do fim da tabela
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita ou a posição for negativa
+     */
+    Page<ProfessorResumo> findSummaryPageAt(PageRequest pedido, int posicao);
+
+    /**
+     * Busca professores pelo nome, usando o índice de texto completo.
+     *
+     * <p>Cada palavra informada é tratada como prefixo, sem diferenciar
+     * maiúsculas, minúsculas ou acentos: "jo sil" encontra "João da Silva".
+     * Os resultados vêm do mais para o menos relevante (BM25).</p>
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return professores encontrados, do mais relevante ao menos relevante;
+     *         lista vazia se a consulta não tiver nenhuma palavra
+     * @throws IllegalArgumentException se o limite não for positivo
+     */
+    List<ProfessorResumo> searchByName(String consulta, int limite);
+
+    /**
+     * Filtra professores pelo nome, com as mesmas regras de correspondência de
+     * {@link #searchByName(String, int)}, mas em ordem de ID e sem calcular
+     * relevância. Indicado para a busca enquanto o usuário digita, em que
+     * prefixos curtos casam com muitos registros.
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return professores encontrados, em ordem de ID; lista vazia se a consulta não
+     *         tiver nenhuma palavra
+     * @throws IllegalArgumentException se o limite não for positivo
+     */
+    List<ProfessorResumo> filterByName(String consulta, int limite);
+
+    /**
+     * Percorre todos os professores sob demanda, sem carregá-los de uma vez.
+     *
+     * <p>O stream mantém uma conexão aberta até ser fechado; use-o sempre
+     * em um bloco <code>try-with-resources</code>.</p>
+     *
+     * @return stream de professores, que deve ser fechado após o uso
+     */
+    Stream<Professor> streamAll();
+
+    /**
+     * Executa a ação informada para cada professor cadastrado, lendo um
+     * registro por vez. Os recursos são liberados ao final, mesmo em caso
+     * de erro.
+     *
+     * @param acao ação aplicada a cada professor
+     */
+    void forEach(Consumer<? super Professor> acao);
+
+    /**
+     * Busca os professores que atendem ao critério informado. Os filtros são
+     * aplicados pelo banco, sem carregar a tabela inteira.
+     *
+     * @param criteria filtros da consulta; sem filtros, retorna todos
+     * @return professores encontrados, ordenados pelo ID
+     * @throws IllegalArgumentException se o critério for nulo
+     */
+    List<Professor> findBy(ProfessorCriteria criteria);
+
+    /**
+     * Retorna uma página de professores, com paginação por chave.
+     *
+     * <p>Alternativa a {@link #findAll()} para tabelas grandes: apenas os
+     * registros da página são lidos e mantidos em memória. Colunas aceitas
+     * para ordenação: <code>id</code>, <code>nome</code>, <code>idade</code>,
+     * <code>campus</code>, <code>cpf</code>, <code>contato</code>, <code>titulo</code>, <code>salario</code>.</p>
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de professores e cursor da próxima página
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     */
+    Page<Professor> findPage(PageRequest pedido);
+
     /**
      * Obtém o maior ID registrado na tabela de professores.
      *
+     * <p>Não deve ser usado para descobrir o ID de um professor recém-inserido:
+     * sob inserções concorrentes o resultado pode pertencer a outro registro.
+     * Para isso, use o ID atribuído por {@link #save(Professor)}.</p>
+     *
      * @return o maior ID ou 0 caso a tabela esteja vazia
      */
     int getMaxId();
+
+    /**
+     * Conta os registros da tabela <code>tb_professores</code>.
+     *
+     * @return quantidade de professores cadastrados
+     */
+    int count();
 }
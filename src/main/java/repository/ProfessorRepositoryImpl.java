@@ -1,52 +1,173 @@
 package repository;
 
 import model.Professor;
+import model.ProfessorResumo;
+import repository.criteria.ProfessorCriteria;
 import repository.exception.DataAccessException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementação da interface {@link ProfessorRepository} utilizando JDBC para acesso
  * a dados no banco SQLite.
  * <p>
  * Esta classe realiza operações de CRUD para a entidade {@link Professor}.
- * Em caso de qualquer falha de acesso ao banco, lança {@link DataAccessException}.
+ * Consultas usam conexões somente leitura e escritas passam pelo escritor
+ * único da aplicação. Em caso de qualquer falha de acesso ao banco, lança {@link DataAccessException}.
  */
 public class ProfessorRepositoryImpl extends AbstractRepository implements ProfessorRepository {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO tb_professores(nome, idade, campus, cpf, contato, titulo, salario) VALUES(?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Insere o professor ou, se o CPF já existir, atualiza o registro
+     * existente. O conflito é detectado pelo índice único
+     * <code>ux_professores_cpf</code>.
+     */
+    private static final String UPSERT_SQL = INSERT_SQL
+            + " ON CONFLICT(cpf) DO UPDATE SET nome = excluded.nome, idade = excluded.idade,"
+            + " campus = excluded.campus, contato = excluded.contato, titulo = excluded.titulo,"
+            + " salario = excluded.salario RETURNING id";
+
+    /**
+     * Quantidade máxima de CPFs por instrução em {@link #findExistingCpfs},
+     * abaixo do limite de 999 parâmetros das versões antigas do SQLite.
+     */
+    private static final int CPFS_POR_CONSULTA = 500;
+
+    /** Colunas aceitas como critério de ordenação em {@link #findPage(PageRequest)}. */
+    private static final Set<String> COLUNAS_ORDENAVEIS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("id", "nome", "idade", "campus", "cpf", "contato", "titulo", "salario")));
+
+    /** Colunas lidas pelas consultas de {@link ProfessorResumo}, na ordem usada pelo mapeamento. */
+    private static final String COLUNAS_RESUMO = "id, nome, idade, campus, cpf, contato, titulo, salario";
+
     /**
      * Insere um novo professor no banco de dados.
      *
+     * <p>O ID gerado é lido na mesma instrução (<code>RETURNING id</code>) e
+     * atribuído ao objeto, evitando uma consulta extra a <code>MAX(id)</code>.</p>
+     *
      * @param professor Objeto {@link Professor} a ser salvo.
      * @return true se o professor foi salvo com sucesso.
      * @throws DataAccessException se ocorrer um erro durante a operação.
      */
     @Override
     public boolean save(Professor professor) {
-        String sql = "INSERT INTO tb_professores(nome, idade, campus, cpf, contato, titulo, salario) VALUES(?, ?, ?, ?, ?, ?, ?)";
+        try {
+            return executeWrite(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL + " RETURNING id")) {
+                    preencherInsert(stmt, professor);
 
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    try (ResultSet res = stmt.executeQuery()) {
+                        res.next();
+                        professor.setId(res.getInt(1));
+                    }
+                    return true;
+                }
+            });
+        } catch (SQLException e) {
+            throw translateWriteError("Erro ao salvar professor", e);
+        }
+    }
+
+    /**
+     * Insere vários professores em uma única transação, em lotes de
+     * {@link AbstractRepository#DEFAULT_BATCH_SIZE}.
+     *
+     * @param professores professores a serem inseridos.
+     * @return IDs gerados, na ordem da coleção.
+     * @throws DataAccessException se alguma inserção falhar; nenhuma é mantida.
+     */
+    @Override
+    public List<Integer> saveAll(Collection<Professor> professores) {
+        return saveAll(professores, DEFAULT_BATCH_SIZE);
+    }
 
-            stmt.setString(1, professor.getNome());
-            stmt.setInt(2, professor.getIdade());
-            stmt.setString(3, professor.getCampus());
-            stmt.setString(4, professor.getCpf());
-            stmt.setString(5, professor.getContato());
-            stmt.setString(6, professor.getTitulo());
-            stmt.setDouble(7, professor.getSalario());
+    /**
+     * Insere vários professores em uma única transação, enviando-os em lotes
+     * de <code>chunkSize</code> comandos. Cada professor recebe o ID gerado.
+     *
+     * @param professores professores a serem inseridos.
+     * @param chunkSize quantidade de inserções por lote.
+     * @return IDs gerados, na ordem da coleção.
+     * @throws DataAccessException se alguma inserção falhar; nenhuma é mantida.
+     */
+    @Override
+    public List<Integer> saveAll(Collection<Professor> professores, int chunkSize) {
+        try {
+            List<Integer> ids = executeBatchInsert(INSERT_SQL, professores, chunkSize, this::preencherInsert);
+            Iterator<Integer> id = ids.iterator();
+            for (Professor professor : professores) {
+                professor.setId(id.next());
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw translateWriteError("Erro ao salvar professores em lote", e);
+        }
+    }
 
-            stmt.execute();
-            return true;
+    /**
+     * Insere o professor ou atualiza o cadastro que já possui o mesmo CPF,
+     * em uma única instrução (<code>INSERT ... ON CONFLICT(cpf) DO UPDATE</code>).
+     *
+     * <p>Não há consulta prévia por CPF: a decisão é tomada pelo próprio
+     * banco, de forma atômica, mesmo com vários cadastros simultâneos. O ID
+     * do registro inserido ou atualizado é atribuído ao objeto.</p>
+     *
+     * @param professor professor com os dados a gravar.
+     * @return ID do registro inserido ou atualizado.
+     * @throws DataAccessException se ocorrer um erro durante a operação.
+     */
+    @Override
+    public int upsertByCpf(Professor professor) {
+        try {
+            int id = executeWrite(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(UPSERT_SQL)) {
+                    preencherInsert(stmt, professor);
+                    try (ResultSet res = stmt.executeQuery()) {
+                        res.next();
+                        return res.getInt(1);
+                    }
+                }
+            });
+            professor.setId(id);
+            return id;
         } catch (SQLException e) {
-            throw new DataAccessException("Erro ao salvar professor: " + e.getMessage(), e);
+            throw translateWriteError("Erro ao gravar professor por CPF", e);
         }
     }
 
+    /**
+     * Preenche os parâmetros do INSERT de <code>tb_professores</code>.
+     *
+     * @param stmt comando preparado a partir de {@link #INSERT_SQL}.
+     * @param professor professor com os dados a inserir.
+     * @throws SQLException se algum parâmetro não puder ser definido.
+     */
+    private void preencherInsert(PreparedStatement stmt, Professor professor) throws SQLException {
+        stmt.setString(1, professor.getNome());
+        stmt.setInt(2, professor.getIdade());
+        stmt.setString(3, professor.getCampus());
+        stmt.setString(4, professor.getCpf());
+        stmt.setString(5, professor.getContato());
+        stmt.setString(6, professor.getTitulo());
+        stmt.setDouble(7, professor.getSalario());
+    }
+
     /**
      * Atualiza os dados de um professor existente no banco.
      *
@@ -58,22 +179,24 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
     public boolean update(Professor professor) {
         String sql = "UPDATE tb_professores SET nome = ?, idade = ?, campus = ?, cpf = ?, contato = ?, titulo = ?, salario = ? WHERE id = ?";
 
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try {
+            return executeWrite(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, professor.getNome());
+                    stmt.setInt(2, professor.getIdade());
+                    stmt.setString(3, professor.getCampus());
+                    stmt.setString(4, professor.getCpf());
+                    stmt.setString(5, professor.getContato());
+                    stmt.setString(6, professor.getTitulo());
+                    stmt.setDouble(7, professor.getSalario());
+                    stmt.setInt(8, professor.getId());
 
-            stmt.setString(1, professor.getNome());
-            stmt.setInt(2, professor.getIdade());
-            stmt.setString(3, professor.getCampus());
-            stmt.setString(4, professor.getCpf());
-            stmt.setString(5, professor.getContato());
-            stmt.setString(6, professor.getTitulo());
-            stmt.setDouble(7, professor.getSalario());
-            stmt.setInt(8, professor.getId());
-
-            int rowsAffected = stmt.executeUpdate();
-            return rowsAffected > 0;
+                    int rowsAffected = stmt.executeUpdate();
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
-            throw new DataAccessException("Erro ao atualizar professor: " + e.getMessage(), e);
+            throw translateWriteError("Erro ao atualizar professor", e);
         }
     }
 
@@ -99,7 +222,7 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
     public Professor findById(int id) {
         String sql = "SELECT * FROM tb_professores WHERE id = ?";
 
-        try (Connection conn = getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, id);
@@ -127,7 +250,7 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
     public Professor findByCpf(String cpf) {
         String sql = "SELECT * FROM tb_professores WHERE cpf = ?";
 
-        try (Connection conn = getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, cpf);
@@ -144,6 +267,38 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
         return null;
     }
 
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        Set<String> existentes = new HashSet<>();
+        if (cpfs == null || cpfs.isEmpty()) {
+            return existentes;
+        }
+        List<String> pendentes = new ArrayList<>(new HashSet<>(cpfs));
+
+        try (Connection conn = getReadConnection()) {
+            for (int inicio = 0; inicio < pendentes.size(); inicio += CPFS_POR_CONSULTA) {
+                List<String> parte = pendentes.subList(inicio, Math.min(inicio + CPFS_POR_CONSULTA, pendentes.size()));
+                String sql = "SELECT cpf FROM tb_professores WHERE cpf IN ("
+                        + String.join(",", Collections.nCopies(parte.size(), "?")) + ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < parte.size(); i++) {
+                        stmt.setString(i + 1, parte.get(i));
+                    }
+                    try (ResultSet res = stmt.executeQuery()) {
+                        while (res.next()) {
+                            existentes.add(res.getString("cpf"));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar CPFs cadastrados: " + e.getMessage(), e);
+        }
+
+        return existentes;
+    }
+
     /**
      * Cria um objeto {@link Professor} a partir dos dados do {@link ResultSet}.
      *
@@ -175,7 +330,7 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
         List<Professor> professores = new ArrayList<>();
         String sql = "SELECT * FROM tb_professores";
 
-        try (Connection conn = getConnection();
+        try (Connection conn = getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet res = stmt.executeQuery()) {
 
@@ -189,6 +344,225 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
         return professores;
     }
 
+    /**
+     * Busca todos os professores da tabela <code>tb_professores</code>, lendo apenas
+     * as colunas de {@link ProfessorResumo}.
+     *
+     * @return lista de visões de professores
+     * @throws DataAccessException caso a consulta falhe
+     */
+    @Override
+    public List<ProfessorResumo> findAllSummaries() {
+        List<ProfessorResumo> resumos = new ArrayList<>();
+        String sql = "SELECT " + COLUNAS_RESUMO + " FROM tb_professores";
+
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet res = stmt.executeQuery()) {
+
+            while (res.next()) {
+                resumos.add(criarResumoDoResultSet(res));
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar resumo de professores: " + e.getMessage(), e);
+        }
+
+        return resumos;
+    }
+
+    /**
+     * Busca uma página de professores da tabela <code>tb_professores</code>, lendo
+     * apenas as colunas de {@link ProfessorResumo}.
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de visões de professores
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Page<ProfessorResumo> findSummaryPage(PageRequest pedido) {
+        try {
+            return executeKeysetPage("tb_professores", COLUNAS_RESUMO, COLUNAS_ORDENAVEIS, pedido, this::criarResumoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar página de professores: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca a página de professores que começa na posição informada da ordenação,
+     * lendo apenas as colunas de {@link ProfessorResumo}.
+     *
+     * @param pedido tamanho e ordenação da página
+     * @param posicao índice, a partir de zero, do primeiro registro da página
+     * @return página de visões de professores
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita ou a posição for negativa
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Page<ProfessorResumo> findSummaryPageAt(PageRequest pedido, int posicao) {
+        try {
+            return executeKeysetPageAt("tb_professores", COLUNAS_RESUMO, COLUNAS_ORDENAVEIS, pedido, posicao,
+                    this::criarResumoDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar página de professores: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Constrói um {@link ProfessorResumo} a partir de uma linha lida com
+     * {@link #COLUNAS_RESUMO}. As colunas são lidas por posição.
+     *
+     * @param res resultado da consulta SQL
+     * @return visão do registro
+     * @throws SQLException caso o acesso aos campos falhe
+     */
+    private ProfessorResumo criarResumoDoResultSet(ResultSet res) throws SQLException {
+        return new ProfessorResumo(res.getInt(1), res.getString(2), res.getInt(3), res.getString(4),
+                res.getString(5), res.getString(6), res.getString(7), res.getDouble(8));
+    }
+
+    /**
+     * Busca professores pelo nome na tabela de texto completo <code>fts_professores</code>,
+     * ordenando pela relevância calculada pelo FTS5.
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return visões dos professores encontrados, em ordem de relevância
+     * @throws IllegalArgumentException se o limite não for positivo
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public List<ProfessorResumo> searchByName(String consulta, int limite) {
+        return buscarNoIndiceTextual(consulta, limite, true);
+    }
+
+    /**
+     * Filtra professores pelo nome na tabela de texto completo <code>fts_professores</code>,
+     * em ordem de ID e sem calcular relevância.
+     *
+     * <p>Sem <code>ORDER BY rank</code>, o FTS5 para de ler assim que encontra
+     * <code>limite</code> registros, em vez de pontuar todos os que casam com
+     * o prefixo; com prefixos curtos, que casam com boa parte da tabela, a
+     * diferença é de uma ordem de grandeza.</p>
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @return visões dos professores encontrados, em ordem de ID
+     * @throws IllegalArgumentException se o limite não for positivo
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public List<ProfessorResumo> filterByName(String consulta, int limite) {
+        return buscarNoIndiceTextual(consulta, limite, false);
+    }
+
+    /**
+     * Executa a consulta no índice de texto completo, com ou sem ordenação
+     * por relevância.
+     *
+     * @param consulta texto digitado pelo usuário
+     * @param limite quantidade máxima de resultados
+     * @param porRelevancia <code>true</code> para ordenar pelo <code>rank</code>; <code>false</code> para o ID
+     * @return visões dos professores encontrados
+     */
+    private List<ProfessorResumo> buscarNoIndiceTextual(String consulta, int limite, boolean porRelevancia) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite da busca deve ser positivo: " + limite);
+        }
+
+        List<ProfessorResumo> resumos = new ArrayList<>();
+        String expressao = FullTextQuery.prefixMatch(consulta);
+        if (expressao == null) {
+            return resumos;
+        }
+
+        String sql = porRelevancia
+                ? "SELECT " + COLUNAS_RESUMO + " FROM tb_professores "
+                        + "JOIN (SELECT rowid, rank FROM fts_professores WHERE fts_professores MATCH ? ORDER BY rank LIMIT ?) f "
+                        + "ON tb_professores.id = f.rowid ORDER BY f.rank"
+                : "SELECT " + COLUNAS_RESUMO + " FROM tb_professores "
+                        + "WHERE id IN (SELECT rowid FROM fts_professores WHERE fts_professores MATCH ? ORDER BY rowid LIMIT ?) "
+                        + "ORDER BY id";
+
+        try (Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, expressao);
+            stmt.setInt(2, limite);
+            try (ResultSet res = stmt.executeQuery()) {
+                while (res.next()) {
+                    resumos.add(criarResumoDoResultSet(res));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar professores por nome: " + e.getMessage(), e);
+        }
+
+        return resumos;
+    }
+
+    /**
+     * Percorre a tabela <code>tb_professores</code> sob demanda, lendo
+     * {@link #DEFAULT_FETCH_SIZE} linhas por busca.
+     *
+     * @return stream de professores, que deve ser fechado após o uso
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Stream<Professor> streamAll() {
+        try {
+            return executeStream("SELECT * FROM tb_professores", DEFAULT_FETCH_SIZE, this::criarProfessorDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao percorrer professores: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Aplica a ação a cada professor da tabela <code>tb_professores</code>.
+     *
+     * @param acao ação aplicada a cada professor
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public void forEach(Consumer<? super Professor> acao) {
+        try (Stream<Professor> professores = streamAll()) {
+            professores.forEach(acao);
+        }
+    }
+
+    /**
+     * Busca na tabela <code>tb_professores</code> os professores que atendem ao critério.
+     *
+     * @param criteria filtros da consulta
+     * @return professores encontrados, ordenados pelo ID
+     * @throws IllegalArgumentException se o critério for nulo
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public List<Professor> findBy(ProfessorCriteria criteria) {
+        try {
+            return executeCriteriaQuery("tb_professores", criteria, this::criarProfessorDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao filtrar professores: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca uma página de professores da tabela <code>tb_professores</code>.
+     *
+     * @param pedido tamanho, ordenação e posição da página
+     * @return página de professores
+     * @throws IllegalArgumentException se a coluna de ordenação não for aceita
+     * @throws DataAccessException caso ocorra algum erro na operação SQL
+     */
+    @Override
+    public Page<Professor> findPage(PageRequest pedido) {
+        try {
+            return executeKeysetPage("tb_professores", COLUNAS_ORDENAVEIS, pedido, this::criarProfessorDoResultSet);
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao buscar página de professores: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Obtém o maior ID presente na tabela de professores.
      *
@@ -198,4 +572,14 @@ public class ProfessorRepositoryImpl extends AbstractRepository implements Profe
     public int getMaxId() {
         return executeMaxIdQuery("tb_professores");
     }
+
+    /**
+     * Conta os registros da tabela <code>tb_professores</code>.
+     *
+     * @return quantidade de professores cadastrados
+     */
+    @Override
+    public int count() {
+        return executeCount("tb_professores");
+    }
 }
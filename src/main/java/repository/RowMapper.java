@@ -0,0 +1,23 @@
+package repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Converte a linha atual de um {@link ResultSet} em uma entidade.
+ * Usado pelas consultas genéricas de {@link AbstractRepository}.
+ *
+ * @param <T> tipo da entidade
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Cria a entidade a partir da linha atual do resultado.
+     *
+     * @param res resultado posicionado na linha a converter
+     * @return entidade criada
+     * @throws SQLException se alguma coluna não puder ser lida
+     */
+    T map(ResultSet res) throws SQLException;
+}
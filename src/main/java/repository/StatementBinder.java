@@ -0,0 +1,23 @@
+package repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Preenche os parâmetros de um {@link PreparedStatement} com os dados de
+ * uma entidade. Usado pelas operações em lote de {@link AbstractRepository}.
+ *
+ * @param <T> tipo da entidade
+ */
+@FunctionalInterface
+public interface StatementBinder<T> {
+
+    /**
+     * Define os parâmetros do comando a partir da entidade.
+     *
+     * @param stmt comando preparado
+     * @param entidade entidade cujos dados serão usados
+     * @throws SQLException se algum parâmetro não puder ser definido
+     */
+    void bind(PreparedStatement stmt, T entidade) throws SQLException;
+}
@@ -0,0 +1,137 @@
+package repository.cache;
+
+/**
+ * Filtro de Bloom para chaves textuais, seguro para uso concorrente.
+ *
+ * <p>Responde se uma chave <b>pode</b> ter sido inserida: uma resposta
+ * negativa é definitiva, uma positiva precisa ser confirmada na fonte. Não
+ * há remoção; chaves apagadas continuam marcadas e apenas aumentam a taxa de
+ * falsos positivos.</p>
+ *
+ * <p>O tamanho é calculado a partir da quantidade esperada de chaves
+ * <code>n</code> e da taxa de falsos positivos desejada <code>p</code>:
+ * <code>m = -n ln p / (ln 2)²</code> bits e <code>k = m/n ln 2</code>
+ * funções de hash, obtidas por hash duplo de um único hash de 64 bits.</p>
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final int bitSize;
+    private final int hashFunctions;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private long insertions;
+
+    /**
+     * Cria um filtro vazio.
+     *
+     * @param expectedInsertions quantidade esperada de chaves
+     * @param falsePositiveRate taxa de falsos positivos desejada, entre 0 e 1 (exclusive)
+     * @throws IllegalArgumentException se algum parâmetro estiver fora do intervalo
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Quantidade esperada deve ser positiva: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Taxa de falsos positivos deve estar entre 0 e 1: " + falsePositiveRate);
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new long[(bitSize + 63) / 64];
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Marca a chave como presente.
+     *
+     * @param chave chave a inserir
+     */
+    public synchronized void put(String chave) {
+        long hash = hash64(chave);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int posicao = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+            bits[posicao >>> 6] |= 1L << posicao;
+        }
+        insertions++;
+    }
+
+    /**
+     * Informa se a chave pode estar presente.
+     *
+     * @param chave chave procurada
+     * @return false se a chave certamente não foi inserida
+     */
+    public synchronized boolean mightContain(String chave) {
+        long hash = hash64(chave);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int posicao = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+            if ((bits[posicao >>> 6] & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estima a taxa de falsos positivos atual, pela quantidade de inserções
+     * já feitas: <code>(1 - e^(-kn/m))^k</code>.
+     *
+     * @return taxa estimada entre 0 e 1
+     */
+    public synchronized double getEstimatedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions / bitSize), hashFunctions);
+    }
+
+    /** @return total de inserções feitas, contando repetições. */
+    public synchronized long getInsertions() {
+        return insertions;
+    }
+
+    /** @return tamanho do filtro em bits. */
+    public int getBitSize() {
+        return bitSize;
+    }
+
+    /** @return quantidade de funções de hash. */
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /** @return quantidade esperada de chaves informada na criação. */
+    public int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /** @return taxa de falsos positivos desejada informada na criação. */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /** @return memória ocupada pelo vetor de bits, em bytes. */
+    public long getMemoryBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre os caracteres, seguido da finalização do
+     * SplitMix64 para espalhar os bits entre as duas metades.
+     */
+    private static long hash64(String chave) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < chave.length(); i++) {
+            h ^= chave.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
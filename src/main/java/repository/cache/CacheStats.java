@@ -0,0 +1,79 @@
+package repository.cache;
+
+/**
+ * Fotografia imutável dos contadores de um {@link LruCache}.
+ */
+public final class CacheStats {
+
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    /**
+     * Cria uma fotografia das estatísticas do cache.
+     *
+     * @param size entradas armazenadas no momento
+     * @param maxSize capacidade máxima
+     * @param hits total de consultas atendidas pelo cache
+     * @param misses total de consultas não encontradas no cache
+     * @param evictions total de entradas removidas por falta de espaço
+     * @param expirations total de entradas descartadas por expiração
+     */
+    public CacheStats(int size, int maxSize, long hits, long misses, long evictions, long expirations) {
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    /** @return entradas armazenadas no momento. */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return capacidade máxima do cache. */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** @return total de consultas atendidas pelo cache. */
+    public long getHits() {
+        return hits;
+    }
+
+    /** @return total de consultas não encontradas (incluindo entradas expiradas). */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** @return total de entradas removidas por falta de espaço (LRU). */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** @return total de entradas descartadas por terem excedido o tempo de vida. */
+    public long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * Retorna a fração das consultas atendidas pelo cache.
+     *
+     * @return taxa de acerto entre 0 e 1, ou 0 se não houve consultas
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{size=" + size + ", maxSize=" + maxSize + ", hits=" + hits + ", misses=" + misses
+                + ", evictions=" + evictions + ", expirations=" + expirations + "}";
+    }
+}
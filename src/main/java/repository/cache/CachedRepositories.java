@@ -0,0 +1,129 @@
+package repository.cache;
+
+import db.ConnectionFactory;
+import repository.AlunoRepository;
+import repository.AlunoRepositoryImpl;
+import repository.ProfessorRepository;
+import repository.ProfessorRepositoryImpl;
+import repository.exception.DataAccessException;
+
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Instâncias compartilhadas dos repositórios com cache, usadas pelas telas.
+ *
+ * <p>O cache só é útil se todas as telas usarem a mesma instância: assim,
+ * a edição ou exclusão feita em uma tela invalida a entrada lida por outra.
+ * A capacidade e o tempo de vida podem ser ajustados pelas propriedades de
+ * sistema <code>repository.cache.maxSize</code> e
+ * <code>repository.cache.ttlMillis</code>.</p>
+ *
+ * <p>As listagens completas são revalidadas por
+ * {@link ConnectionFactory#getDataVersion()} e só são relidas depois de
+ * alguma escrita no banco.</p>
+ *
+ * <p>O repositório de professores também mantém o filtro de CPFs
+ * ({@link CachingProfessorRepository#enableCpfFilter(int, double)}),
+ * dimensionado por <code>repository.cpfFilter.expectedInsertions</code> e
+ * <code>repository.cpfFilter.falsePositiveRate</code>. O filtro é carregado
+ * em uma <i>thread</i> própria, iniciada na primeira chamada a
+ * {@link #professores()}; até terminar, as buscas por CPF vão ao banco.
+ * Assim, a primeira tela de professores não espera a leitura da tabela.</p>
+ */
+public final class CachedRepositories {
+
+    /** Capacidade padrão de cada cache. */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /** Tempo de vida padrão das entradas: 5 minutos. */
+    public static final long DEFAULT_TTL_MILLIS = 5 * 60 * 1000L;
+
+    /** Quantidade mínima de CPFs prevista no filtro. */
+    public static final int DEFAULT_CPF_FILTER_EXPECTED_INSERTIONS = 10000;
+
+    /** Taxa padrão de falsos positivos do filtro de CPFs: 1%. */
+    public static final double DEFAULT_CPF_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    private static final Logger LOGGER = Logger.getLogger(CachedRepositories.class.getName());
+
+    private static volatile CachingAlunoRepository alunos;
+    private static volatile CachingProfessorRepository professores;
+
+    private CachedRepositories() {
+    }
+
+    /**
+     * Retorna o repositório de alunos compartilhado, criando-o na primeira chamada.
+     *
+     * @return repositório de alunos com cache
+     */
+    public static CachingAlunoRepository alunos() {
+        CachingAlunoRepository atual = alunos;
+        if (atual == null) {
+            synchronized (CachedRepositories.class) {
+                atual = alunos;
+                if (atual == null) {
+                    AlunoRepository delegate = new AlunoRepositoryImpl();
+                    atual = new CachingAlunoRepository(delegate, maxSize(), ttlMillis(),
+                            CachedRepositories::versaoDosDados);
+                    alunos = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Retorna o repositório de professores compartilhado, criando-o na
+     * primeira chamada e iniciando a carga do filtro de CPFs em segundo plano.
+     *
+     * @return repositório de professores com cache
+     */
+    public static CachingProfessorRepository professores() {
+        CachingProfessorRepository atual = professores;
+        if (atual == null) {
+            synchronized (CachedRepositories.class) {
+                atual = professores;
+                if (atual == null) {
+                    ProfessorRepository delegate = new ProfessorRepositoryImpl();
+                    atual = new CachingProfessorRepository(delegate, maxSize(), ttlMillis(),
+                            CachedRepositories::versaoDosDados);
+                    atual.enableCpfFilterInBackground(
+                            Integer.parseInt(System.getProperty("repository.cpfFilter.expectedInsertions",
+                                    String.valueOf(DEFAULT_CPF_FILTER_EXPECTED_INSERTIONS))),
+                            Double.parseDouble(System.getProperty("repository.cpfFilter.falsePositiveRate",
+                                    String.valueOf(DEFAULT_CPF_FILTER_FALSE_POSITIVE_RATE))),
+                            tarefa -> {
+                                Thread thread = new Thread(tarefa, "filtro-de-cpfs");
+                                thread.setDaemon(true);
+                                thread.start();
+                            })
+                            .exceptionally(erro -> {
+                                LOGGER.log(Level.WARNING, "Filtro de CPFs não criado; buscas por CPF irão ao banco", erro);
+                                return null;
+                            });
+                    professores = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    private static long versaoDosDados() {
+        try {
+            return ConnectionFactory.getDataVersion();
+        } catch (SQLException e) {
+            throw new DataAccessException("Erro ao consultar a versão dos dados: " + e.getMessage(), e);
+        }
+    }
+
+    private static int maxSize() {
+        return Integer.parseInt(System.getProperty("repository.cache.maxSize", String.valueOf(DEFAULT_MAX_SIZE)));
+    }
+
+    private static long ttlMillis() {
+        return Long.parseLong(System.getProperty("repository.cache.ttlMillis", String.valueOf(DEFAULT_TTL_MILLIS)));
+    }
+}
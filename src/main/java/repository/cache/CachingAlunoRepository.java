@@ -0,0 +1,250 @@
+package repository.cache;
+
+import model.Aluno;
+import model.AlunoResumo;
+import repository.AlunoRepository;
+import repository.Page;
+import repository.PageRequest;
+import repository.criteria.AlunoCriteria;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link AlunoRepository} que guarda em cache os resultados de
+ * {@link #findById(int)}.
+ *
+ * <p>As demais operações são repassadas ao repositório decorado. Escritas
+ * feitas por este decorador invalidam a entrada afetada: {@link #update(Aluno)}
+ * e {@link #delete(int)} removem o ID correspondente. Escritas feitas por
+ * outros caminhos (outra instância ou outro processo) não são percebidas; o
+ * tempo de vida opcional limita por quanto tempo um valor desatualizado pode
+ * ser servido.</p>
+ *
+ * <p>O cache guarda cópias: o objeto devolvido pode ser alterado pelo
+ * chamador sem afetar as leituras seguintes.</p>
+ *
+ * <p>Quando recebe uma fonte de versão dos dados, o decorador também guarda
+ * {@link #findAll()} e {@link #findAllSummaries()} em um {@link SnapshotCache}:
+ * as listagens só são relidas quando alguma escrita foi confirmada no banco,
+ * por qualquer caminho.</p>
+ */
+public class CachingAlunoRepository implements AlunoRepository {
+
+    private final AlunoRepository delegate;
+    private final LruCache<Integer, Aluno> cache;
+    private final SnapshotCache<Aluno> todos;
+    private final SnapshotCache<AlunoResumo> resumos;
+
+    /**
+     * Cria o decorador.
+     *
+     * @param delegate repositório que acessa o banco
+     * @param maxSize quantidade máxima de alunos em cache
+     * @param ttlMillis tempo de vida de cada entrada em milissegundos; zero desativa a expiração
+     */
+    public CachingAlunoRepository(AlunoRepository delegate, int maxSize, long ttlMillis) {
+        this(delegate, new LruCache<>(maxSize, ttlMillis), null);
+    }
+
+    /**
+     * Cria o decorador com cache também para as listagens completas.
+     *
+     * @param delegate repositório que acessa o banco
+     * @param maxSize quantidade máxima de alunos em cache
+     * @param ttlMillis tempo de vida de cada entrada em milissegundos; zero desativa a expiração
+     * @param versaoDosDados fonte da versão atual dos dados, como
+     *        {@link db.ConnectionFactory#getDataVersion()}
+     */
+    public CachingAlunoRepository(AlunoRepository delegate, int maxSize, long ttlMillis,
+            LongSupplier versaoDosDados) {
+        this(delegate, new LruCache<>(maxSize, ttlMillis), versaoDosDados);
+    }
+
+    CachingAlunoRepository(AlunoRepository delegate, LruCache<Integer, Aluno> cache,
+            LongSupplier versaoDosDados) {
+        this.delegate = delegate;
+        this.cache = cache;
+        if (versaoDosDados != null) {
+            this.todos = new SnapshotCache<>(versaoDosDados, delegate::findAll);
+            this.resumos = new SnapshotCache<>(versaoDosDados, delegate::findAllSummaries);
+        } else {
+            this.todos = null;
+            this.resumos = null;
+        }
+    }
+
+    /**
+     * Retorna as estatísticas do cache de {@link #findById(int)}.
+     *
+     * @return fotografia dos contadores
+     */
+    public CacheStats getStats() {
+        return cache.getStats();
+    }
+
+    /** Descarta todas as entradas do cache, inclusive as listagens guardadas. */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        if (todos != null) {
+            todos.invalidate();
+            resumos.invalidate();
+        }
+    }
+
+    @Override
+    public boolean save(Aluno aluno) {
+        return delegate.save(aluno);
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<Aluno> alunos) {
+        return delegate.saveAll(alunos);
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<Aluno> alunos, int chunkSize) {
+        return delegate.saveAll(alunos, chunkSize);
+    }
+
+    /**
+     * Atualiza o registro e invalida sua entrada no cache.
+     *
+     * @param aluno objeto com os dados atualizados
+     * @return true se o registro foi atualizado
+     */
+    @Override
+    public boolean update(Aluno aluno) {
+        try {
+            return delegate.update(aluno);
+        } finally {
+            cache.invalidate(aluno.getId());
+        }
+    }
+
+    /**
+     * Remove o registro e invalida sua entrada no cache.
+     *
+     * @param id identificador do registro
+     * @return true se o registro foi removido
+     */
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Busca o registro no cache e, se ausente ou expirado, no repositório
+     * decorado. Registros não encontrados não são guardados, nem os lidos
+     * enquanto uma escrita invalidava o cache: a leitura pode ter visto a
+     * versão anterior à escrita.
+     *
+     * @param id identificador do registro
+     * @return cópia do registro, ou <code>null</code> se não existir
+     */
+    @Override
+    public Aluno findById(int id) {
+        Aluno emCache = cache.get(id);
+        if (emCache != null) {
+            return copiar(emCache);
+        }
+        long invalidacoes = cache.getInvalidationCount();
+        Aluno encontrado = delegate.findById(id);
+        if (encontrado != null) {
+            cache.putIfNotInvalidated(id, copiar(encontrado), invalidacoes);
+        }
+        return encontrado;
+    }
+
+    /**
+     * Retorna todos os registros, relendo a tabela apenas se os dados
+     * mudaram desde a última leitura.
+     *
+     * @return nova lista com cópias dos registros
+     */
+    @Override
+    public List<Aluno> findAll() {
+        if (todos == null) {
+            return delegate.findAll();
+        }
+        List<Aluno> fotografia = todos.get();
+        List<Aluno> copia = new ArrayList<>(fotografia.size());
+        for (Aluno item : fotografia) {
+            copia.add(copiar(item));
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna os resumos de todos os registros, relendo a tabela apenas se
+     * os dados mudaram desde a última leitura.
+     *
+     * @return lista imutável de resumos
+     */
+    @Override
+    public List<AlunoResumo> findAllSummaries() {
+        return resumos == null ? delegate.findAllSummaries() : resumos.get();
+    }
+
+    @Override
+    public Page<AlunoResumo> findSummaryPage(PageRequest pedido) {
+        return delegate.findSummaryPage(pedido);
+    }
+
+    @Override
+    public Page<AlunoResumo> findSummaryPageAt(PageRequest pedido, int posicao) {
+        return delegate.findSummaryPageAt(pedido, posicao);
+    }
+
+    @Override
+    public List<AlunoResumo> searchByName(String consulta, int limite) {
+        return delegate.searchByName(consulta, limite);
+    }
+
+    @Override
+    public List<AlunoResumo> filterByName(String consulta, int limite) {
+        return delegate.filterByName(consulta, limite);
+    }
+
+    @Override
+    public Stream<Aluno> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Aluno> acao) {
+        delegate.forEach(acao);
+    }
+
+    @Override
+    public List<Aluno> findBy(AlunoCriteria criteria) {
+        return delegate.findBy(criteria);
+    }
+
+    @Override
+    public Page<Aluno> findPage(PageRequest pedido) {
+        return delegate.findPage(pedido);
+    }
+
+    @Override
+    public int getMaxId() {
+        return delegate.getMaxId();
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    private static Aluno copiar(Aluno original) {
+        return new Aluno(original.getCurso(), original.getFase(), original.getId(), original.getNome(),
+                original.getIdade());
+    }
+}
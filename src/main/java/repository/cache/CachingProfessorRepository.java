@@ -0,0 +1,449 @@
+package repository.cache;
+
+import model.Professor;
+import model.ProfessorResumo;
+import repository.ProfessorRepository;
+import repository.Page;
+import repository.PageRequest;
+import repository.criteria.ProfessorCriteria;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link ProfessorRepository} que guarda em cache os resultados de
+ * {@link #findById(int)}.
+ *
+ * <p>As demais operações são repassadas ao repositório decorado. Escritas
+ * feitas por este decorador invalidam a entrada afetada: {@link #update(Professor)}
+ * e {@link #delete(int)} removem o ID correspondente. Escritas feitas por
+ * outros caminhos (outra instância ou outro processo) não são percebidas; o
+ * tempo de vida opcional limita por quanto tempo um valor desatualizado pode
+ * ser servido.</p>
+ *
+ * <p>O cache guarda cópias: o objeto devolvido pode ser alterado pelo
+ * chamador sem afetar as leituras seguintes.</p>
+ *
+ * <p>Quando recebe uma fonte de versão dos dados, o decorador também guarda
+ * {@link #findAll()} e {@link #findAllSummaries()} em um {@link SnapshotCache}:
+ * as listagens só são relidas quando alguma escrita foi confirmada no banco,
+ * por qualquer caminho.</p>
+ *
+ * <p>Opcionalmente, {@link #enableCpfFilter(int, double)} cria um
+ * {@link BloomFilter} com os CPFs já cadastrados (só os dígitos). A partir
+ * daí, {@link #findByCpf(String)} responde sem acessar o banco quando o CPF
+ * certamente não existe, o caso comum ao validar cadastros novos. Os CPFs
+ * gravados por este decorador são marcados antes da escrita; CPFs gravados
+ * por outros caminhos não são vistos pelo filtro, e a duplicidade passa a
+ * ser barrada apenas pelo índice único <code>ux_professores_cpf</code>.
+ * {@link #enableCpfFilterInBackground(int, double, Executor)} faz a mesma
+ * carga fora da <i>thread</i> que o chama.</p>
+ */
+public class CachingProfessorRepository implements ProfessorRepository {
+
+    private final ProfessorRepository delegate;
+    private final LruCache<Integer, Professor> cache;
+    private final SnapshotCache<Professor> todos;
+    private final SnapshotCache<ProfessorResumo> resumos;
+
+    private volatile BloomFilter cpfs;
+    private final Object marcacao = new Object();
+    private List<String> marcadosDuranteACarga;
+    private final AtomicLong buscasEvitadas = new AtomicLong();
+    private final AtomicLong buscasNoBanco = new AtomicLong();
+    private final AtomicLong falsosPositivos = new AtomicLong();
+
+    /**
+     * Cria o decorador.
+     *
+     * @param delegate repositório que acessa o banco
+     * @param maxSize quantidade máxima de professores em cache
+     * @param ttlMillis tempo de vida de cada entrada em milissegundos; zero desativa a expiração
+     */
+    public CachingProfessorRepository(ProfessorRepository delegate, int maxSize, long ttlMillis) {
+        this(delegate, new LruCache<>(maxSize, ttlMillis), null);
+    }
+
+    /**
+     * Cria o decorador com cache também para as listagens completas.
+     *
+     * @param delegate repositório que acessa o banco
+     * @param maxSize quantidade máxima de professores em cache
+     * @param ttlMillis tempo de vida de cada entrada em milissegundos; zero desativa a expiração
+     * @param versaoDosDados fonte da versão atual dos dados, como
+     *        {@link db.ConnectionFactory#getDataVersion()}
+     */
+    public CachingProfessorRepository(ProfessorRepository delegate, int maxSize, long ttlMillis,
+            LongSupplier versaoDosDados) {
+        this(delegate, new LruCache<>(maxSize, ttlMillis), versaoDosDados);
+    }
+
+    CachingProfessorRepository(ProfessorRepository delegate, LruCache<Integer, Professor> cache,
+            LongSupplier versaoDosDados) {
+        this.delegate = delegate;
+        this.cache = cache;
+        if (versaoDosDados != null) {
+            this.todos = new SnapshotCache<>(versaoDosDados, delegate::findAll);
+            this.resumos = new SnapshotCache<>(versaoDosDados, delegate::findAllSummaries);
+        } else {
+            this.todos = null;
+            this.resumos = null;
+        }
+    }
+
+    /**
+     * Cria o filtro de CPFs com todos os professores cadastrados, lendo a
+     * tabela inteira na <i>thread</i> atual.
+     *
+     * <p>Deve ser chamado antes de o repositório ser compartilhado: CPFs
+     * gravados por outra <i>thread</i> antes da chamada poderiam ficar fora
+     * do filtro. O filtro é dimensionado para o maior valor entre
+     * <code>expectedInsertions</code> e o dobro do maior ID atual, deixando
+     * espaço para crescimento.</p>
+     *
+     * @param expectedInsertions quantidade mínima de CPFs prevista
+     * @param falsePositiveRate taxa de falsos positivos desejada
+     * @throws IllegalArgumentException se algum parâmetro estiver fora do intervalo
+     */
+    public void enableCpfFilter(int expectedInsertions, double falsePositiveRate) {
+        iniciarCargaDoFiltro();
+        carregarFiltro(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Cria o filtro de CPFs como {@link #enableCpfFilter(int, double)}, mas
+     * lê a tabela no executor informado e retorna em seguida.
+     *
+     * <p>Até a carga terminar, {@link #findByCpf(String)} consulta sempre o
+     * banco. Os CPFs gravados por este decorador durante a carga são
+     * guardados e incluídos no filtro ao final, de modo que nenhum deles é
+     * dado como ausente. Se a carga falhar, o filtro não é criado e as
+     * buscas continuam indo ao banco.</p>
+     *
+     * @param expectedInsertions quantidade mínima de CPFs prevista
+     * @param falsePositiveRate taxa de falsos positivos desejada
+     * @param executor executa a leitura da tabela
+     * @return tarefa concluída quando o filtro estiver em uso
+     */
+    public CompletableFuture<Void> enableCpfFilterInBackground(int expectedInsertions, double falsePositiveRate,
+            Executor executor) {
+        iniciarCargaDoFiltro();
+        return CompletableFuture.runAsync(() -> carregarFiltro(expectedInsertions, falsePositiveRate), executor);
+    }
+
+    private void iniciarCargaDoFiltro() {
+        synchronized (marcacao) {
+            if (marcadosDuranteACarga == null) {
+                marcadosDuranteACarga = new ArrayList<>();
+            }
+        }
+    }
+
+    private void carregarFiltro(int expectedInsertions, double falsePositiveRate) {
+        try {
+            int capacidade = (int) Math.min(Integer.MAX_VALUE,
+                    Math.max(expectedInsertions, 2L * delegate.getMaxId()));
+            BloomFilter filtro = new BloomFilter(capacidade, falsePositiveRate);
+            delegate.forEach(professor -> {
+                String normalizado = normalizarCpf(professor.getCpf());
+                if (normalizado != null) {
+                    filtro.put(normalizado);
+                }
+            });
+            synchronized (marcacao) {
+                for (String cpf : marcadosDuranteACarga) {
+                    filtro.put(cpf);
+                }
+                marcadosDuranteACarga = null;
+                cpfs = filtro;
+            }
+        } catch (RuntimeException e) {
+            synchronized (marcacao) {
+                marcadosDuranteACarga = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna as estatísticas do filtro de CPFs.
+     *
+     * @return fotografia dos contadores, ou <code>null</code> se o filtro não foi criado
+     */
+    public CpfFilterStats getCpfFilterStats() {
+        BloomFilter filtro = cpfs;
+        if (filtro == null) {
+            return null;
+        }
+        return new CpfFilterStats(filtro.getMemoryBytes(), filtro.getHashFunctions(), filtro.getInsertions(),
+                filtro.getFalsePositiveRate(), filtro.getEstimatedFalsePositiveRate(), buscasEvitadas.get(),
+                buscasNoBanco.get(), falsosPositivos.get());
+    }
+
+    /**
+     * Retorna as estatísticas do cache de {@link #findById(int)}.
+     *
+     * @return fotografia dos contadores
+     */
+    public CacheStats getStats() {
+        return cache.getStats();
+    }
+
+    /** Descarta todas as entradas do cache, inclusive as listagens guardadas. */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        if (todos != null) {
+            todos.invalidate();
+            resumos.invalidate();
+        }
+    }
+
+    @Override
+    public boolean save(Professor professor) {
+        marcar(professor.getCpf());
+        return delegate.save(professor);
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<Professor> professores) {
+        marcarTodos(professores);
+        return delegate.saveAll(professores);
+    }
+
+    @Override
+    public List<Integer> saveAll(Collection<Professor> professores, int chunkSize) {
+        marcarTodos(professores);
+        return delegate.saveAll(professores, chunkSize);
+    }
+
+    /**
+     * Atualiza o registro e invalida sua entrada no cache.
+     *
+     * @param professor objeto com os dados atualizados
+     * @return true se o registro foi atualizado
+     */
+    @Override
+    public boolean update(Professor professor) {
+        marcar(professor.getCpf());
+        try {
+            return delegate.update(professor);
+        } finally {
+            cache.invalidate(professor.getId());
+        }
+    }
+
+    /**
+     * Grava o professor pelo CPF e invalida a entrada do registro afetado.
+     *
+     * @param professor professor com os dados a gravar
+     * @return ID do registro inserido ou atualizado
+     */
+    @Override
+    public int upsertByCpf(Professor professor) {
+        marcar(professor.getCpf());
+        int id = delegate.upsertByCpf(professor);
+        cache.invalidate(id);
+        return id;
+    }
+
+    /**
+     * Remove o registro e invalida sua entrada no cache.
+     *
+     * @param id identificador do registro
+     * @return true se o registro foi removido
+     */
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Busca o registro no cache e, se ausente ou expirado, no repositório
+     * decorado. Registros não encontrados não são guardados, nem os lidos
+     * enquanto uma escrita invalidava o cache: a leitura pode ter visto a
+     * versão anterior à escrita.
+     *
+     * @param id identificador do registro
+     * @return cópia do registro, ou <code>null</code> se não existir
+     */
+    @Override
+    public Professor findById(int id) {
+        Professor emCache = cache.get(id);
+        if (emCache != null) {
+            return copiar(emCache);
+        }
+        long invalidacoes = cache.getInvalidationCount();
+        Professor encontrado = delegate.findById(id);
+        if (encontrado != null) {
+            cache.putIfNotInvalidated(id, copiar(encontrado), invalidacoes);
+        }
+        return encontrado;
+    }
+
+    @Override
+    public Professor findByCpf(String cpf) {
+        BloomFilter filtro = cpfs;
+        if (filtro == null) {
+            return delegate.findByCpf(cpf);
+        }
+        String normalizado = normalizarCpf(cpf);
+        if (normalizado != null && !filtro.mightContain(normalizado)) {
+            buscasEvitadas.incrementAndGet();
+            return null;
+        }
+        buscasNoBanco.incrementAndGet();
+        Professor encontrado = delegate.findByCpf(cpf);
+        if (encontrado == null) {
+            falsosPositivos.incrementAndGet();
+        }
+        return encontrado;
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+
+    /**
+     * Retorna todos os registros, relendo a tabela apenas se os dados
+     * mudaram desde a última leitura.
+     *
+     * @return nova lista com cópias dos registros
+     */
+    @Override
+    public List<Professor> findAll() {
+        if (todos == null) {
+            return delegate.findAll();
+        }
+        List<Professor> fotografia = todos.get();
+        List<Professor> copia = new ArrayList<>(fotografia.size());
+        for (Professor item : fotografia) {
+            copia.add(copiar(item));
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna os resumos de todos os registros, relendo a tabela apenas se
+     * os dados mudaram desde a última leitura.
+     *
+     * @return lista imutável de resumos
+     */
+    @Override
+    public List<ProfessorResumo> findAllSummaries() {
+        return resumos == null ? delegate.findAllSummaries() : resumos.get();
+    }
+
+    @Override
+    public Page<ProfessorResumo> findSummaryPage(PageRequest pedido) {
+        return delegate.findSummaryPage(pedido);
+    }
+
+    @Override
+    public Page<ProfessorResumo> findSummaryPageAt(PageRequest pedido, int posicao) {
+        return delegate.findSummaryPageAt(pedido, posicao);
+    }
+
+    @Override
+    public List<ProfessorResumo> searchByName(String consulta, int limite) {
+        return delegate.searchByName(consulta, limite);
+    }
+
+    @Override
+    public List<ProfessorResumo> filterByName(String consulta, int limite) {
+        return delegate.filterByName(consulta, limite);
+    }
+
+    @Override
+    public Stream<Professor> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Professor> acao) {
+        delegate.forEach(acao);
+    }
+
+    @Override
+    public List<Professor> findBy(ProfessorCriteria criteria) {
+        return delegate.findBy(criteria);
+    }
+
+    @Override
+    public Page<Professor> findPage(PageRequest pedido) {
+        return delegate.findPage(pedido);
+    }
+
+    @Override
+    public int getMaxId() {
+        return delegate.getMaxId();
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    private void marcarTodos(Collection<Professor> professores) {
+        if (professores != null) {
+            for (Professor professor : professores) {
+                marcar(professor.getCpf());
+            }
+        }
+    }
+
+    /**
+     * Marca o CPF no filtro, ou o guarda para a inclusão no filtro se ele
+     * ainda estiver sendo carregado.
+     */
+    private void marcar(String cpf) {
+        String normalizado = normalizarCpf(cpf);
+        if (normalizado == null) {
+            return;
+        }
+        synchronized (marcacao) {
+            BloomFilter filtro = cpfs;
+            if (filtro != null) {
+                filtro.put(normalizado);
+            } else if (marcadosDuranteACarga != null) {
+                marcadosDuranteACarga.add(normalizado);
+            }
+        }
+    }
+
+    /**
+     * Mantém apenas os dígitos do CPF, para que formas com e sem máscara
+     * caiam na mesma posição do filtro.
+     *
+     * @return dígitos do CPF, ou <code>null</code> se não houver nenhum
+     */
+    static String normalizarCpf(String cpf) {
+        if (cpf == null) {
+            return null;
+        }
+        StringBuilder digitos = new StringBuilder(11);
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos.append(c);
+            }
+        }
+        return digitos.length() == 0 ? null : digitos.toString();
+    }
+
+    private static Professor copiar(Professor original) {
+        return new Professor(original.getCampus(), original.getCpf(), original.getContato(),
+                original.getTitulo(), original.getSalario(), original.getId(), original.getNome(), original.getIdade());
+    }
+}
@@ -0,0 +1,99 @@
+package repository.cache;
+
+/**
+ * Fotografia imutável do filtro de CPFs de um {@link CachingProfessorRepository}.
+ */
+public final class CpfFilterStats {
+
+    private final long memoryBytes;
+    private final int hashFunctions;
+    private final long insertions;
+    private final double configuredFalsePositiveRate;
+    private final double estimatedFalsePositiveRate;
+    private final long skippedLookups;
+    private final long databaseLookups;
+    private final long falsePositives;
+
+    /**
+     * Cria uma fotografia das estatísticas do filtro.
+     *
+     * @param memoryBytes memória ocupada pelo filtro
+     * @param hashFunctions quantidade de funções de hash
+     * @param insertions CPFs inseridos no filtro
+     * @param configuredFalsePositiveRate taxa de falsos positivos configurada
+     * @param estimatedFalsePositiveRate taxa estimada com as inserções atuais
+     * @param skippedLookups buscas respondidas pelo filtro, sem acessar o banco
+     * @param databaseLookups buscas repassadas ao banco
+     * @param falsePositives buscas repassadas ao banco que não encontraram o CPF
+     */
+    public CpfFilterStats(long memoryBytes, int hashFunctions, long insertions, double configuredFalsePositiveRate,
+                          double estimatedFalsePositiveRate, long skippedLookups, long databaseLookups,
+                          long falsePositives) {
+        this.memoryBytes = memoryBytes;
+        this.hashFunctions = hashFunctions;
+        this.insertions = insertions;
+        this.configuredFalsePositiveRate = configuredFalsePositiveRate;
+        this.estimatedFalsePositiveRate = estimatedFalsePositiveRate;
+        this.skippedLookups = skippedLookups;
+        this.databaseLookups = databaseLookups;
+        this.falsePositives = falsePositives;
+    }
+
+    /** @return memória ocupada pelo filtro, em bytes. */
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /** @return quantidade de funções de hash. */
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /** @return CPFs inseridos no filtro. */
+    public long getInsertions() {
+        return insertions;
+    }
+
+    /** @return taxa de falsos positivos configurada. */
+    public double getConfiguredFalsePositiveRate() {
+        return configuredFalsePositiveRate;
+    }
+
+    /** @return taxa de falsos positivos estimada com as inserções atuais. */
+    public double getEstimatedFalsePositiveRate() {
+        return estimatedFalsePositiveRate;
+    }
+
+    /** @return buscas por CPF respondidas pelo filtro, sem acessar o banco. */
+    public long getSkippedLookups() {
+        return skippedLookups;
+    }
+
+    /** @return buscas por CPF repassadas ao banco. */
+    public long getDatabaseLookups() {
+        return databaseLookups;
+    }
+
+    /** @return buscas repassadas ao banco que não encontraram o CPF. */
+    public long getFalsePositives() {
+        return falsePositives;
+    }
+
+    /**
+     * Retorna a fração das buscas repassadas ao banco que não encontraram o
+     * CPF: a taxa de falsos positivos observada (inclui CPFs já removidos).
+     *
+     * @return taxa observada entre 0 e 1, ou 0 se não houve buscas no banco
+     */
+    public double getObservedFalsePositiveRate() {
+        return databaseLookups == 0 ? 0 : (double) falsePositives / databaseLookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CpfFilterStats{memoryBytes=" + memoryBytes + ", hashFunctions=" + hashFunctions
+                + ", insertions=" + insertions + ", configuredFpp=" + configuredFalsePositiveRate
+                + ", estimatedFpp=" + estimatedFalsePositiveRate + ", skippedLookups=" + skippedLookups
+                + ", databaseLookups=" + databaseLookups + ", falsePositives=" + falsePositives + "}";
+    }
+}
@@ -0,0 +1,208 @@
+package repository.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache limitado com descarte do item usado há mais tempo (LRU) e tempo de
+ * vida opcional por entrada.
+ *
+ * <p>Usa um {@link LinkedHashMap} em ordem de acesso: cada leitura move a
+ * entrada para o fim, e ao exceder a capacidade a primeira (a menos usada
+ * recentemente) é removida. Todas as operações são sincronizadas, o que é
+ * suficiente para o volume de acessos das telas.</p>
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier relogio;
+    private final LinkedHashMap<K, Entrada<V>> entradas;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    /**
+     * Cria um cache.
+     *
+     * @param maxSize quantidade máxima de entradas
+     * @param ttlMillis tempo de vida de cada entrada em milissegundos; zero ou
+     *                  negativo desativa a expiração
+     * @throws IllegalArgumentException se a capacidade não for positiva
+     */
+    public LruCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::nanoTime);
+    }
+
+    /**
+     * Cria um cache com relógio próprio, usado nos testes de expiração.
+     *
+     * @param maxSize quantidade máxima de entradas
+     * @param ttlMillis tempo de vida de cada entrada em milissegundos
+     * @param relogio fonte de tempo em nanossegundos
+     */
+    LruCache(int maxSize, long ttlMillis, LongSupplier relogio) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Tamanho máximo do cache deve ser positivo: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : 0;
+        this.relogio = relogio;
+        this.entradas = new LinkedHashMap<K, Entrada<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> maisAntiga) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retorna o valor associado à chave, se presente e não expirado.
+     *
+     * @param chave chave procurada
+     * @return valor armazenado, ou <code>null</code> se ausente ou expirado
+     */
+    public synchronized V get(K chave) {
+        Entrada<V> entrada = entradas.get(chave);
+        if (entrada == null) {
+            misses++;
+            return null;
+        }
+        if (expirada(entrada)) {
+            entradas.remove(chave);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entrada.valor;
+    }
+
+    /**
+     * Armazena o valor, substituindo o anterior e renovando o tempo de vida.
+     * Se a capacidade for excedida, a entrada menos usada é descartada.
+     *
+     * @param chave chave do valor
+     * @param valor valor a armazenar; não pode ser nulo
+     */
+    public synchronized void put(K chave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor do cache não pode ser nulo.");
+        }
+        entradas.put(chave, new Entrada<>(valor, ttlNanos > 0 ? relogio.getAsLong() + ttlNanos : 0));
+    }
+
+    /**
+     * Armazena o valor apenas se nenhuma invalidação ocorreu desde a leitura
+     * de {@link #getInvalidationCount()} informada.
+     *
+     * <p>Usado por quem lê o valor de outra fonte antes de guardá-lo: se uma
+     * escrita invalidou o cache enquanto a leitura acontecia, o valor lido
+     * pode ser anterior à escrita e é descartado em vez de voltar ao cache.</p>
+     *
+     * @param chave chave do valor
+     * @param valor valor a armazenar; não pode ser nulo
+     * @param invalidacoesNaLeitura contagem obtida antes de ler o valor
+     * @return <code>true</code> se o valor foi armazenado
+     */
+    public synchronized boolean putIfNotInvalidated(K chave, V valor, long invalidacoesNaLeitura) {
+        if (invalidations != invalidacoesNaLeitura) {
+            return false;
+        }
+        put(chave, valor);
+        return true;
+    }
+
+    /**
+     * Retorna quantas invalidações já ocorreram, para uso com
+     * {@link #putIfNotInvalidated(Object, Object, long)}.
+     *
+     * @return total de chamadas a {@link #invalidate(Object)} e {@link #invalidateAll()}
+     */
+    public synchronized long getInvalidationCount() {
+        return invalidations;
+    }
+
+    /**
+     * Remove a entrada da chave informada, se existir.
+     *
+     * @param chave chave a invalidar
+     */
+    public synchronized void invalidate(K chave) {
+        entradas.remove(chave);
+        invalidations++;
+    }
+
+    /** Remove todas as entradas, mantendo os contadores. */
+    public synchronized void invalidateAll() {
+        entradas.clear();
+        invalidations++;
+    }
+
+    /**
+     * Remove as entradas já expiradas.
+     *
+     * @return quantidade de entradas removidas
+     */
+    public synchronized int purgeExpired() {
+        if (ttlNanos == 0) {
+            return 0;
+        }
+        int removidas = 0;
+        Iterator<Entrada<V>> it = entradas.values().iterator();
+        while (it.hasNext()) {
+            if (expirada(it.next())) {
+                it.remove();
+                removidas++;
+            }
+        }
+        expirations += removidas;
+        return removidas;
+    }
+
+    /**
+     * Retorna a quantidade de entradas armazenadas, incluindo as expiradas
+     * ainda não descartadas.
+     *
+     * @return quantidade de entradas
+     */
+    public synchronized int size() {
+        return entradas.size();
+    }
+
+    /**
+     * Retorna as estatísticas atuais do cache.
+     *
+     * @return fotografia dos contadores
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(entradas.size(), maxSize, hits, misses, evictions, expirations);
+    }
+
+    private boolean expirada(Entrada<V> entrada) {
+        return entrada.expiraEm != 0 && relogio.getAsLong() - entrada.expiraEm >= 0;
+    }
+
+    private static final class Entrada<V> {
+        private final V valor;
+        private final long expiraEm;
+
+        private Entrada(V valor, long expiraEm) {
+            this.valor = valor;
+            this.expiraEm = expiraEm;
+        }
+    }
+}
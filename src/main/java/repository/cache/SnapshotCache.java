@@ -0,0 +1,167 @@
+package repository.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cache de uma listagem completa, revalidado pela versão dos dados.
+ *
+ * <p>Guarda uma cópia imutável do resultado do carregador junto com a versão
+ * lida <b>antes</b> da carga. A cada {@link #get()}, a versão é lida de novo
+ * (por exemplo, com <code>PRAGMA data_version</code>); se não mudou, a cópia
+ * é devolvida sem acessar as tabelas. Se mudou, a listagem é recarregada.
+ * Como a versão é lida antes da carga, uma escrita concluída durante a
+ * recarga apenas provoca outra recarga na chamada seguinte.</p>
+ *
+ * <p>Chamadas concorrentes que precisam da mesma versão compartilham uma
+ * única recarga em andamento; quem chega com uma versão diferente aguarda
+ * o término dela e tenta novamente.</p>
+ *
+ * @param <T> tipo dos itens da listagem
+ */
+public class SnapshotCache<T> {
+
+    private final LongSupplier versaoDosDados;
+    private final Supplier<List<T>> carregador;
+
+    private volatile Fotografia<T> atual;
+    private Carga<T> emAndamento;
+
+    private long hits;
+    private long reloads;
+
+    /**
+     * Cria o cache.
+     *
+     * @param versaoDosDados fonte da versão atual dos dados; só a igualdade entre leituras é considerada
+     * @param carregador consulta que lê a listagem completa
+     */
+    public SnapshotCache(LongSupplier versaoDosDados, Supplier<List<T>> carregador) {
+        this.versaoDosDados = versaoDosDados;
+        this.carregador = carregador;
+    }
+
+    /**
+     * Retorna a listagem, recarregando-a apenas se os dados mudaram desde a
+     * última carga.
+     *
+     * @return lista imutável com os itens
+     */
+    public List<T> get() {
+        while (true) {
+            long versao = versaoDosDados.getAsLong();
+            Fotografia<T> fotografia = atual;
+            if (fotografia != null && fotografia.versao == versao) {
+                synchronized (this) {
+                    hits++;
+                }
+                return fotografia.itens;
+            }
+
+            Carga<T> carga;
+            boolean dono = false;
+            synchronized (this) {
+                carga = emAndamento;
+                if (carga == null) {
+                    carga = new Carga<>(versao, carregador);
+                    emAndamento = carga;
+                    reloads++;
+                    dono = true;
+                }
+            }
+
+            if (dono) {
+                try {
+                    carga.tarefa.run();
+                    Fotografia<T> nova = aguardar(carga);
+                    atual = nova;
+                    return nova.itens;
+                } finally {
+                    synchronized (this) {
+                        emAndamento = null;
+                    }
+                }
+            }
+
+            Fotografia<T> nova = aguardar(carga);
+            if (carga.versao == versao) {
+                return nova.itens;
+            }
+        }
+    }
+
+    /** Descarta a cópia atual; a próxima chamada a {@link #get()} recarrega a listagem. */
+    public void invalidate() {
+        atual = null;
+    }
+
+    /**
+     * Retorna quantas chamadas foram atendidas pela cópia em memória.
+     *
+     * @return total de acertos
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retorna quantas vezes a listagem foi lida do banco.
+     *
+     * @return total de recargas
+     */
+    public synchronized long getReloads() {
+        return reloads;
+    }
+
+    private static <T> Fotografia<T> aguardar(Carga<T> carga) {
+        boolean interrompida = false;
+        try {
+            while (true) {
+                try {
+                    return carga.tarefa.get();
+                } catch (InterruptedException e) {
+                    interrompida = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw new IllegalStateException(causa);
+        } finally {
+            if (interrompida) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Fotografia<T> {
+        final long versao;
+        final List<T> itens;
+
+        Fotografia(long versao, List<T> itens) {
+            this.versao = versao;
+            this.itens = itens;
+        }
+    }
+
+    private static final class Carga<T> {
+        final long versao;
+        final FutureTask<Fotografia<T>> tarefa;
+
+        Carga(long versao, Supplier<List<T>> carregador) {
+            this.versao = versao;
+            this.tarefa = new FutureTask<>(() ->
+                    new Fotografia<>(versao, Collections.unmodifiableList(new ArrayList<>(carregador.get()))));
+        }
+    }
+}
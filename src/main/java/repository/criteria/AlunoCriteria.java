@@ -0,0 +1,68 @@
+package repository.criteria;
+
+import java.util.List;
+
+/**
+ * Critério de consulta de alunos. Os filtros são opcionais e combinados
+ * com E lógico:
+ *
+ * <pre>
+ * List&lt;Aluno&gt; alunos = repository.findBy(new AlunoCriteria()
+ *         .curso("Direito")
+ *         .fase(3)
+ *         .idadeEntre(18, 25));
+ * </pre>
+ *
+ * <p>Curso e fase formam o índice <code>idx_alunos_curso_fase</code> e
+ * por isso são as primeiras condições da consulta.</p>
+ */
+public class AlunoCriteria extends Criteria {
+
+    private String curso;
+    private Integer fase;
+    private Integer idadeMinima;
+    private Integer idadeMaxima;
+
+    /**
+     * Filtra pelo curso exato.
+     *
+     * @param curso curso do aluno, ou <code>null</code> para não filtrar
+     * @return este critério
+     */
+    public AlunoCriteria curso(String curso) {
+        this.curso = curso;
+        return this;
+    }
+
+    /**
+     * Filtra pela fase exata.
+     *
+     * @param fase fase do aluno, ou <code>null</code> para não filtrar
+     * @return este critério
+     */
+    public AlunoCriteria fase(Integer fase) {
+        this.fase = fase;
+        return this;
+    }
+
+    /**
+     * Filtra pela faixa de idade, com os dois limites inclusivos.
+     *
+     * @param minima idade mínima, ou <code>null</code> para não limitar
+     * @param maxima idade máxima, ou <code>null</code> para não limitar
+     * @return este critério
+     */
+    public AlunoCriteria idadeEntre(Integer minima, Integer maxima) {
+        this.idadeMinima = minima;
+        this.idadeMaxima = maxima;
+        return this;
+    }
+
+    @Override
+    protected void collect(List<Condition> destino) {
+        add(destino, "curso", Condition.Operator.EQUAL, curso);
+        add(destino, "fase", Condition.Operator.EQUAL, fase);
+        add(destino, "idade", Condition.Operator.GREATER_OR_EQUAL, idadeMinima);
+        add(destino, "idade", Condition.Operator.LESS_OR_EQUAL, idadeMaxima);
+    }
+}
@@ -0,0 +1,29 @@
+package repository.criteria;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado da compilação de um {@link Criteria}: o SQL parametrizado e os
+ * valores a associar, na ordem dos parâmetros.
+ */
+public final class CompiledQuery {
+
+    private final String sql;
+    private final List<Object> parameters;
+
+    CompiledQuery(String sql, List<Object> parameters) {
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(parameters);
+    }
+
+    /** @return comando SQL com parâmetros <code>?</code>. */
+    public String getSql() {
+        return sql;
+    }
+
+    /** @return valores dos parâmetros, na ordem em que aparecem no SQL. */
+    public List<Object> getParameters() {
+        return parameters;
+    }
+}
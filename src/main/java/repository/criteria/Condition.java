@@ -0,0 +1,68 @@
+package repository.criteria;
+
+/**
+ * Condição simples sobre uma coluna, como <code>fase = ?</code> ou
+ * <code>salario &gt;= ?</code>. O valor é sempre enviado como parâmetro
+ * do comando, nunca concatenado ao SQL.
+ */
+public final class Condition {
+
+    /** Operadores de comparação aceitos. */
+    public enum Operator {
+        EQUAL("="),
+        GREATER_OR_EQUAL(">="),
+        LESS_OR_EQUAL("<=");
+
+        private final String sql;
+
+        Operator(String sql) {
+            this.sql = sql;
+        }
+
+        /** @return operador na sintaxe SQL. */
+        public String getSql() {
+            return sql;
+        }
+    }
+
+    private final String column;
+    private final Operator operator;
+    private final Object value;
+
+    /**
+     * Cria uma condição.
+     *
+     * @param column coluna comparada; definida pela classe de critérios, nunca pelo usuário
+     * @param operator operador de comparação
+     * @param value valor comparado
+     */
+    public Condition(String column, Operator operator, Object value) {
+        this.column = column;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /** @return coluna comparada. */
+    public String getColumn() {
+        return column;
+    }
+
+    /** @return operador de comparação. */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /** @return valor comparado. */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Retorna o trecho SQL da condição, com o valor como parâmetro.
+     *
+     * @return por exemplo <code>fase = ?</code>
+     */
+    String toSql() {
+        return column + " " + operator.getSql() + " ?";
+    }
+}
@@ -0,0 +1,69 @@
+package repository.criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base dos critérios de consulta das entidades.
+ *
+ * <p>Cada subclasse guarda os filtros preenchidos e os devolve, em
+ * {@link #getConditions()}, sempre na mesma ordem de colunas,
+ * independentemente da ordem em que foram informados. Assim, dois critérios
+ * com os mesmos filtros preenchidos têm o mesmo {@link #getShape() formato}
+ * e compartilham o SQL compilado por {@link CriteriaCompiler}.</p>
+ *
+ * <p>Filtros não preenchidos (nulos) não restringem a consulta.</p>
+ */
+public abstract class Criteria {
+
+    /**
+     * Retorna as condições preenchidas, na ordem fixa de colunas da entidade.
+     *
+     * @return condições a aplicar; lista vazia se nenhum filtro foi preenchido
+     */
+    public final List<Condition> getConditions() {
+        List<Condition> condicoes = new ArrayList<>();
+        collect(condicoes);
+        return condicoes;
+    }
+
+    /**
+     * Retorna o formato do critério: as colunas e operadores preenchidos,
+     * sem os valores. Critérios com o mesmo formato geram o mesmo SQL.
+     *
+     * @return formato do critério, por exemplo <code>curso=|fase=</code>
+     */
+    public final String getShape() {
+        StringBuilder formato = new StringBuilder();
+        for (Condition condicao : getConditions()) {
+            if (formato.length() > 0) {
+                formato.append('|');
+            }
+            formato.append(condicao.getColumn()).append(condicao.getOperator().getSql());
+        }
+        return formato.toString();
+    }
+
+    /**
+     * Acrescenta à lista as condições preenchidas, na ordem fixa de colunas.
+     * As colunas de igualdade que formam o início de um índice devem vir
+     * primeiro.
+     *
+     * @param destino lista que recebe as condições
+     */
+    protected abstract void collect(List<Condition> destino);
+
+    /**
+     * Acrescenta a condição à lista apenas se o valor estiver preenchido.
+     *
+     * @param destino lista que recebe a condição
+     * @param coluna coluna comparada
+     * @param operador operador de comparação
+     * @param valor valor comparado, ou <code>null</code> para não filtrar
+     */
+    protected static void add(List<Condition> destino, String coluna, Condition.Operator operador, Object valor) {
+        if (valor != null) {
+            destino.add(new Condition(coluna, operador, valor));
+        }
+    }
+}
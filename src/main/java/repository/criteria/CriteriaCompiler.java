@@ -0,0 +1,69 @@
+package repository.criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Converte critérios em SQL parametrizado.
+ *
+ * <p>As condições são combinadas com <code>AND</code> e comparam a coluna
+ * diretamente com o parâmetro (<code>coluna = ?</code>, <code>coluna &gt;= ?</code>),
+ * sem funções sobre a coluna, para que o SQLite possa usar os índices
+ * existentes. O resultado é ordenado pelo ID.</p>
+ *
+ * <p>O SQL de cada combinação de consulta base e formato de critério é
+ * montado uma única vez e guardado em cache; consultas repetidas apenas
+ * associam os novos valores. Como o número de formatos é limitado pelas
+ * colunas filtráveis de cada entidade, o cache não precisa de limite.</p>
+ */
+public final class CriteriaCompiler {
+
+    private static final ConcurrentMap<String, String> SQL_POR_FORMATO = new ConcurrentHashMap<>();
+
+    private CriteriaCompiler() {
+    }
+
+    /**
+     * Compila o critério sobre a consulta base informada.
+     *
+     * @param selectFrom início da consulta, fixo no repositório
+     *                   (por exemplo <code>SELECT * FROM tb_alunos</code>)
+     * @param criteria critério a aplicar
+     * @return SQL parametrizado e valores dos parâmetros
+     * @throws IllegalArgumentException se o critério for nulo
+     */
+    public static CompiledQuery compile(String selectFrom, Criteria criteria) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Critério de consulta não pode ser nulo.");
+        }
+
+        List<Condition> condicoes = criteria.getConditions();
+        String sql = SQL_POR_FORMATO.computeIfAbsent(selectFrom + '#' + criteria.getShape(),
+                chave -> buildSql(selectFrom, condicoes));
+
+        List<Object> parametros = new ArrayList<>(condicoes.size());
+        for (Condition condicao : condicoes) {
+            parametros.add(condicao.getValue());
+        }
+        return new CompiledQuery(sql, parametros);
+    }
+
+    /**
+     * Retorna a quantidade de formatos com SQL já compilado.
+     *
+     * @return tamanho do cache
+     */
+    public static int getCacheSize() {
+        return SQL_POR_FORMATO.size();
+    }
+
+    private static String buildSql(String selectFrom, List<Condition> condicoes) {
+        StringBuilder sql = new StringBuilder(selectFrom);
+        for (int i = 0; i < condicoes.size(); i++) {
+            sql.append(i == 0 ? " WHERE " : " AND ").append(condicoes.get(i).toSql());
+        }
+        return sql.append(" ORDER BY id").toString();
+    }
+}
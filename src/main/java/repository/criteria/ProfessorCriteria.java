@@ -0,0 +1,85 @@
+package repository.criteria;
+
+import java.util.List;
+
+/**
+ * Critério de consulta de professores. Os filtros são opcionais e
+ * combinados com E lógico:
+ *
+ * <pre>
+ * List&lt;Professor&gt; professores = repository.findBy(new ProfessorCriteria()
+ *         .campus("Pedra Branca")
+ *         .titulo("Doutor")
+ *         .salarioEntre(5000.0, null));
+ * </pre>
+ *
+ * <p>Campus e título têm índices próprios e por isso são as primeiras
+ * condições da consulta.</p>
+ */
+public class ProfessorCriteria extends Criteria {
+
+    private String campus;
+    private String titulo;
+    private Double salarioMinimo;
+    private Double salarioMaximo;
+    private Integer idadeMinima;
+    private Integer idadeMaxima;
+
+    /**
+     * Filtra pelo campus exato.
+     *
+     * @param campus campus do professor, ou <code>null</code> para não filtrar
+     * @return este critério
+     */
+    public ProfessorCriteria campus(String campus) {
+        this.campus = campus;
+        return this;
+    }
+
+    /**
+     * Filtra pelo título acadêmico exato.
+     *
+     * @param titulo título do professor, ou <code>null</code> para não filtrar
+     * @return este critério
+     */
+    public ProfessorCriteria titulo(String titulo) {
+        this.titulo = titulo;
+        return this;
+    }
+
+    /**
+     * Filtra pela faixa salarial, com os dois limites inclusivos.
+     *
+     * @param minimo salário mínimo, ou <code>null</code> para não limitar
+     * @param maximo salário máximo, ou <code>null</code> para não limitar
+     * @return este critério
+     */
+    public ProfessorCriteria salarioEntre(Double minimo, Double maximo) {
+        this.salarioMinimo = minimo;
+        this.salarioMaximo = maximo;
+        return this;
+    }
+
+    /**
+     * Filtra pela faixa de idade, com os dois limites inclusivos.
+     *
+     * @param minima idade mínima, ou <code>null</code> para não limitar
+     * @param maxima idade máxima, ou <code>null</code> para não limitar
+     * @return este critério
+     */
+    public ProfessorCriteria idadeEntre(Integer minima, Integer maxima) {
+        this.idadeMinima = minima;
+        this.idadeMaxima = maxima;
+        return this;
+    }
+
+    @Override
+    protected void collect(List<Condition> destino) {
+        add(destino, "campus", Condition.Operator.EQUAL, campus);
+        add(destino, "titulo", Condition.Operator.EQUAL, titulo);
+        add(destino, "salario", Condition.Operator.GREATER_OR_EQUAL, salarioMinimo);
+        add(destino, "salario", Condition.Operator.LESS_OR_EQUAL, salarioMaximo);
+        add(destino, "idade", Condition.Operator.GREATER_OR_EQUAL, idadeMinima);
+        add(destino, "idade", Condition.Operator.LESS_OR_EQUAL, idadeMaxima);
+    }
+}
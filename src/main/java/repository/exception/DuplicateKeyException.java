@@ -0,0 +1,21 @@
+package repository.exception;
+
+/**
+ * Indica que uma escrita violou uma restrição de unicidade do banco, como o
+ * índice único de CPF dos professores.
+ *
+ * <p>Permite que a camada de serviço diferencie um dado duplicado, que é um
+ * erro de validação, das demais falhas de acesso a dados.</p>
+ */
+public class DuplicateKeyException extends DataAccessException {
+
+    /**
+     * Cria a exceção com a mensagem e a causa original.
+     *
+     * @param message mensagem explicando o erro ocorrido
+     * @param cause exceção original do driver
+     */
+    public DuplicateKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
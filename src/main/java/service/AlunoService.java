@@ -1,6 +1,10 @@
 package service;
 
 import model.Aluno;
+import model.AlunoResumo;
+import repository.Page;
+import repository.PageRequest;
+import repository.criteria.AlunoCriteria;
 import java.util.List;
 
 /**
@@ -20,6 +24,23 @@ public interface AlunoService {
      *         não atendam às regras de validação.
      */
     void salvar(Aluno aluno) throws service.exception.ValidacaoException;
+
+    /**
+     * Valida e grava vários alunos de uma vez, sem interromper no primeiro
+     * erro.
+     *
+     * <p>As validações são feitas em paralelo e os alunos válidos são
+     * gravados em lotes. Os recusados aparecem no relatório com a mensagem
+     * de validação correspondente. Se o banco falhar no meio da gravação,
+     * as transações anteriores continuam gravadas: o relatório é devolvido
+     * com elas, os demais registros recusados e a exceção em
+     * {@link RelatorioImportacao#getFalha()}.</p>
+     *
+     * @param alunos alunos a serem salvos; os gravados recebem o ID gerado.
+     * @return relatório com os alunos gravados e os recusados.
+     * @throws service.exception.ValidacaoException caso a lista seja nula.
+     */
+    RelatorioImportacao<Aluno> salvarTodos(List<Aluno> alunos);
     
     /**
      * Atualiza os dados de um aluno existente após validação.
@@ -52,6 +73,80 @@ public interface AlunoService {
      */
     List<Aluno> listarTodos();
     
+    /**
+     * Retorna uma lista com a visão resumida de todos os alunos, usada nas
+     * telas de listagem. Cada item contém apenas as colunas exibidas.
+     *
+     * @return lista de objetos {@link AlunoResumo}.
+     */
+    List<AlunoResumo> listarResumos();
+    
+    /**
+     * Busca alunos pelo nome, aceitando partes de palavras e ignorando
+     * acentos e maiúsculas. Os mais relevantes vêm primeiro.
+     *
+     * @param consulta texto digitado pelo usuário.
+     * @param limite quantidade máxima de resultados.
+     * @return lista de objetos {@link AlunoResumo} encontrados.
+     */
+    List<AlunoResumo> buscarPorNome(String consulta, int limite);
+
+    /**
+     * Filtra alunos pelo nome enquanto o usuário digita: aceita partes de
+     * palavras e ignora acentos e maiúsculas, como {@link #buscarPorNome(String, int)},
+     * mas devolve os resultados em ordem de cadastro, sem calcular relevância.
+     *
+     * @param consulta texto digitado pelo usuário.
+     * @param limite quantidade máxima de resultados.
+     * @return lista de objetos {@link AlunoResumo} encontrados.
+     */
+    List<AlunoResumo> filtrarPorNome(String consulta, int limite);
+    
+    /**
+     * Retorna os alunos que atendem aos filtros informados. A filtragem é
+     * feita pelo banco de dados.
+     *
+     * @param criteria filtros da consulta.
+     * @return lista de objetos {@link Aluno} encontrados.
+     */
+    List<Aluno> filtrar(AlunoCriteria criteria);
+    
+    /**
+     * Retorna uma página de alunos, sem carregar a tabela inteira.
+     * Para obter a página seguinte, use {@link PageRequest#next(Page)}.
+     *
+     * @param pedido tamanho, ordenação e posição da página.
+     * @return página de objetos {@link Aluno} com o cursor da próxima página.
+     */
+    Page<Aluno> listarPagina(PageRequest pedido);
+
+    /**
+     * Retorna uma página de {@link AlunoResumo}, lendo apenas as colunas exibidas
+     * nas telas de listagem. Para obter a página seguinte, use
+     * {@link PageRequest#next(Page)}.
+     *
+     * @param pedido tamanho, ordenação e posição da página.
+     * @return página de resumos com o cursor da próxima página.
+     */
+    Page<AlunoResumo> listarPaginaDeResumos(PageRequest pedido);
+
+    /**
+     * Retorna a página de {@link AlunoResumo} que começa na posição informada da
+     * ordenação, quando o cursor dessa página ainda não é conhecido.
+     *
+     * @param pedido tamanho e ordenação da página.
+     * @param posicao índice, a partir de zero, do primeiro registro da página.
+     * @return página de resumos com o cursor da próxima página.
+     */
+    Page<AlunoResumo> listarPaginaDeResumos(PageRequest pedido, int posicao);
+
+    /**
+     * Retorna a quantidade de alunos cadastrados.
+     *
+     * @return total de registros.
+     */
+    int contar();
+    
     /**
      * Calcula a idade com base na data de nascimento informada.
      *
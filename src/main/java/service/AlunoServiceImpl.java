@@ -1,8 +1,14 @@
 package service;
 
 import model.Aluno;
+import model.AlunoResumo;
 import repository.AlunoRepository;
+import repository.Page;
+import repository.PageRequest;
+import repository.criteria.AlunoCriteria;
 import service.exception.ValidacaoException;
+import service.validacao.CodigoViolacao;
+import service.validacao.RegrasAluno;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -34,6 +40,18 @@ public class AlunoServiceImpl implements AlunoService {
         alunoRepository.save(aluno);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RelatorioImportacao<Aluno> salvarTodos(List<Aluno> alunos) {
+        if (alunos == null) {
+            throw new ValidacaoException("Lista de alunos não pode ser nula.");
+        }
+        return ImportacaoEmLote.importar(alunos, this::validarAluno, null, null, null,
+                alunoRepository::saveAll, alunoRepository::save);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -41,7 +59,7 @@ public class AlunoServiceImpl implements AlunoService {
     public void atualizar(Aluno aluno) throws ValidacaoException {
         validarAluno(aluno);
         if (aluno.getId() <= 0) {
-            throw new ValidacaoException("ID do aluno é obrigatório para atualização.");
+            throw new ValidacaoException(CodigoViolacao.ALUNO_SEM_ID);
         }
         alunoRepository.update(aluno);
     }
@@ -70,6 +88,70 @@ public class AlunoServiceImpl implements AlunoService {
         return alunoRepository.findAll();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AlunoResumo> listarResumos() {
+        return alunoRepository.findAllSummaries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AlunoResumo> buscarPorNome(String consulta, int limite) {
+        return alunoRepository.searchByName(consulta, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AlunoResumo> filtrarPorNome(String consulta, int limite) {
+        return alunoRepository.filterByName(consulta, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Aluno> filtrar(AlunoCriteria criteria) {
+        return alunoRepository.findBy(criteria);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Aluno> listarPagina(PageRequest pedido) {
+        return alunoRepository.findPage(pedido);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<AlunoResumo> listarPaginaDeResumos(PageRequest pedido) {
+        return alunoRepository.findSummaryPage(pedido);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<AlunoResumo> listarPaginaDeResumos(PageRequest pedido, int posicao) {
+        return alunoRepository.findSummaryPageAt(pedido, posicao);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int contar() {
+        return alunoRepository.count();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -102,32 +184,6 @@ public class AlunoServiceImpl implements AlunoService {
      * @throws ValidacaoException caso qualquer regra de validação seja violada.
      */
     private void validarAluno(Aluno aluno) throws ValidacaoException {
-        if (aluno == null) {
-            throw new ValidacaoException("Aluno não pode ser nulo.");
-        }
-
-        if (aluno.getNome() == null || aluno.getNome().trim().isEmpty()) {
-            throw new ValidacaoException("Nome é obrigatório.");
-        }
-
-        if (aluno.getNome().length() < 2) {
-            throw new ValidacaoException("Nome deve conter ao menos 2 caracteres.");
-        }
-
-        if (!aluno.getNome().matches(".*\\p{L}.*")) {
-            throw new ValidacaoException("Nome é inválido (deve conter ao menos uma letra).");
-        }
-
-        if (aluno.getIdade() < 11) {
-            throw new ValidacaoException("Idade inválida. Deve ser maior ou igual a 11 anos.");
-        }
-
-        if (aluno.getCurso() == null || aluno.getCurso().trim().isEmpty() || aluno.getCurso().equals("-")) {
-            throw new ValidacaoException("Curso é obrigatório.");
-        }
-
-        if (aluno.getFase() < 1 || aluno.getFase() > 10) {
-            throw new ValidacaoException("Fase deve estar entre 1 e 10.");
-        }
+        RegrasAluno.VALIDADOR.validar(aluno);
     }
 }
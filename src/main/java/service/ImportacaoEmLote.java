@@ -0,0 +1,165 @@
+package service;
+
+import repository.exception.DataAccessException;
+import repository.exception.DuplicateKeyException;
+import service.exception.ValidacaoException;
+import service.validacao.CodigoViolacao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Rotina comum de {@code salvarTodos} dos serviços: valida em paralelo,
+ * grava em lotes e monta o {@link RelatorioImportacao}.
+ *
+ * <p>As validações são independentes entre si e rodam em um
+ * <i>parallel stream</i>, no {@link java.util.concurrent.ForkJoinPool} comum,
+ * escalando com o número de núcleos. Por isso o validador deve fazer apenas
+ * verificações em memória: o que depende do banco fica no verificador do
+ * lote, chamado uma vez por transação, fora do pool comum. A gravação
+ * continua serial, pois o SQLite tem um único escritor: os registros válidos
+ * são enviados com {@code saveAll} em transações de
+ * {@link #TAMANHO_TRANSACAO} registros. Se uma transação falhar por chave
+ * duplicada (um cadastro concorrente, por exemplo), ela é desfeita e seus
+ * registros são gravados um a um, para que só os conflitantes sejam
+ * recusados.</p>
+ *
+ * <p>Qualquer outra {@link DataAccessException} interrompe a importação. As
+ * transações anteriores já estão gravadas, então o relatório é devolvido
+ * mesmo assim: os registros gravados aparecem em
+ * {@link RelatorioImportacao#getSalvos()}, os que não chegaram a ser
+ * gravados são recusados com {@link CodigoViolacao#IMPORTACAO_INTERROMPIDA}
+ * e a exceção fica em {@link RelatorioImportacao#getFalha()}.</p>
+ */
+final class ImportacaoEmLote {
+
+    /** Quantidade de registros gravados por transação. */
+    static final int TAMANHO_TRANSACAO = 10000;
+
+    private ImportacaoEmLote() {
+    }
+
+    /**
+     * Valida e grava os registros.
+     *
+     * @param itens registros a importar
+     * @param validador regras de validação de um registro que não consultam o banco
+     * @param chaveUnica extrai a chave que não pode se repetir na própria
+     *        lista, ou {@code null} se não houver
+     * @param mensagemChaveRepetida motivo usado para a segunda ocorrência de uma chave
+     * @param verificadorDoLote recebe os registros de uma transação e devolve,
+     *        na mesma ordem, o motivo da recusa de cada um ou {@code null} se
+     *        ele puder ser gravado; {@code null} se não houver verificação
+     * @param gravadorEmLote grava vários registros em uma transação
+     * @param gravadorIndividual grava um registro, lançando {@link ValidacaoException}
+     *        se ele for recusado pelo banco
+     * @param <T> tipo dos registros
+     * @return relatório da importação, com a falha que a interrompeu, se houver
+     */
+    static <T> RelatorioImportacao<T> importar(List<T> itens, Consumer<T> validador,
+                                               Function<T, Object> chaveUnica, String mensagemChaveRepetida,
+                                               Function<List<T>, List<String>> verificadorDoLote,
+                                               Consumer<List<T>> gravadorEmLote, Consumer<T> gravadorIndividual) {
+        String[] erros = new String[itens.size()];
+        IntStream.range(0, itens.size()).parallel().forEach(i -> {
+            try {
+                validador.accept(itens.get(i));
+            } catch (ValidacaoException e) {
+                erros[i] = e.getMessage();
+            }
+        });
+
+        if (chaveUnica != null) {
+            Map<Object, Integer> vistas = new HashMap<>();
+            for (int i = 0; i < itens.size(); i++) {
+                if (erros[i] == null && vistas.putIfAbsent(chaveUnica.apply(itens.get(i)), i) != null) {
+                    erros[i] = mensagemChaveRepetida;
+                }
+            }
+        }
+
+        List<Integer> validos = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i++) {
+            if (erros[i] == null) {
+                validos.add(i);
+            }
+        }
+
+        boolean[] gravados = new boolean[itens.size()];
+        DataAccessException falha = null;
+        for (int inicio = 0; inicio < validos.size() && falha == null; inicio += TAMANHO_TRANSACAO) {
+            List<Integer> indices = validos.subList(inicio, Math.min(inicio + TAMANHO_TRANSACAO, validos.size()));
+            try {
+                gravarTransacao(itens, indices, erros, gravados, verificadorDoLote, gravadorEmLote, gravadorIndividual);
+            } catch (DataAccessException e) {
+                falha = e;
+                for (int i : validos.subList(inicio, validos.size())) {
+                    if (erros[i] == null && !gravados[i]) {
+                        erros[i] = CodigoViolacao.IMPORTACAO_INTERROMPIDA.getMensagem();
+                    }
+                }
+            }
+        }
+
+        List<T> salvos = new ArrayList<>(validos.size());
+        List<RelatorioImportacao.Rejeicao<T>> rejeitados = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i++) {
+            if (erros[i] == null) {
+                salvos.add(itens.get(i));
+            } else {
+                rejeitados.add(new RelatorioImportacao.Rejeicao<>(i, itens.get(i), erros[i]));
+            }
+        }
+        return new RelatorioImportacao<>(itens.size(), salvos, rejeitados, falha);
+    }
+
+    /**
+     * Verifica e grava os registros de uma transação, marcando em
+     * {@code gravados} os que forem gravados um a um.
+     */
+    private static <T> void gravarTransacao(List<T> itens, List<Integer> indices, String[] erros,
+                                            boolean[] gravados, Function<List<T>, List<String>> verificadorDoLote,
+                                            Consumer<List<T>> gravadorEmLote, Consumer<T> gravadorIndividual) {
+        List<Integer> aceitos = indices;
+        if (verificadorDoLote != null) {
+            List<String> recusas = verificadorDoLote.apply(itensDe(itens, indices));
+            aceitos = new ArrayList<>(indices.size());
+            for (int j = 0; j < indices.size(); j++) {
+                if (recusas.get(j) == null) {
+                    aceitos.add(indices.get(j));
+                } else {
+                    erros[indices.get(j)] = recusas.get(j);
+                }
+            }
+            if (aceitos.isEmpty()) {
+                return;
+            }
+        }
+
+        try {
+            gravadorEmLote.accept(itensDe(itens, aceitos));
+        } catch (DuplicateKeyException e) {
+            for (int i : aceitos) {
+                try {
+                    gravadorIndividual.accept(itens.get(i));
+                    gravados[i] = true;
+                } catch (ValidacaoException recusa) {
+                    erros[i] = recusa.getMessage();
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> itensDe(List<T> itens, List<Integer> indices) {
+        List<T> lote = new ArrayList<>(indices.size());
+        for (int i : indices) {
+            lote.add(itens.get(i));
+        }
+        return lote;
+    }
+}
@@ -1,6 +1,10 @@
 package service;
 
 import model.Professor;
+import model.ProfessorResumo;
+import repository.Page;
+import repository.PageRequest;
+import repository.criteria.ProfessorCriteria;
 import java.util.List;
 
 /**
@@ -16,6 +20,23 @@ public interface ProfessorService {
      * @throws service.exception.ValidacaoException caso alguma validação seja violada.
      */
     void salvar(Professor professor) throws service.exception.ValidacaoException;
+
+    /**
+     * Valida e grava vários professores de uma vez, sem interromper no
+     * primeiro erro.
+     *
+     * <p>As validações são feitas em paralelo e os professores válidos são
+     * gravados em lotes. Os recusados aparecem no relatório com a mensagem
+     * de validação correspondente. Se o banco falhar no meio da gravação,
+     * as transações anteriores continuam gravadas: o relatório é devolvido
+     * com elas, os demais registros recusados e a exceção em
+     * {@link RelatorioImportacao#getFalha()}.</p>
+     *
+     * @param professores professores a serem salvos; os gravados recebem o ID gerado.
+     * @return relatório com os professores gravados e os recusados.
+     * @throws service.exception.ValidacaoException caso a lista seja nula.
+     */
+    RelatorioImportacao<Professor> salvarTodos(List<Professor> professores);
     
     /**
      * Atualiza os dados de um professor existente.
@@ -24,6 +45,15 @@ public interface ProfessorService {
      * @throws service.exception.ValidacaoException caso o professor seja inválido ou não possua ID.
      */
     void atualizar(Professor professor) throws service.exception.ValidacaoException;
+
+    /**
+     * Cadastra o professor ou, se o CPF já estiver cadastrado, atualiza o
+     * cadastro existente, em uma única gravação.
+     *
+     * @param professor professor a gravar; recebe o ID do registro gravado.
+     * @throws service.exception.ValidacaoException caso alguma validação seja violada.
+     */
+    void salvarPorCpf(Professor professor) throws service.exception.ValidacaoException;
     
     /**
      * Exclui um professor pelo seu identificador.
@@ -55,6 +85,80 @@ public interface ProfessorService {
      */
     List<Professor> listarTodos();
     
+    /**
+     * Retorna uma lista com a visão resumida de todos os professores, usada nas
+     * telas de listagem. Cada item contém apenas as colunas exibidas.
+     *
+     * @return lista de objetos {@link ProfessorResumo}.
+     */
+    List<ProfessorResumo> listarResumos();
+    
+    /**
+     * Busca professores pelo nome, aceitando partes de palavras e ignorando
+     * acentos e maiúsculas. Os mais relevantes vêm primeiro.
+     *
+     * @param consulta texto digitado pelo usuário.
+     * @param limite quantidade máxima de resultados.
+     * @return lista de objetos {@link ProfessorResumo} encontrados.
+     */
+    List<ProfessorResumo> buscarPorNome(String consulta, int limite);
+
+    /**
+     * Filtra professores pelo nome enquanto o usuário digita: aceita partes de
+     * palavras e ignora acentos e maiúsculas, como {@link #buscarPorNome(String, int)},
+     * mas devolve os resultados em ordem de cadastro, sem calcular relevância.
+     *
+     * @param consulta texto digitado pelo usuário.
+     * @param limite quantidade máxima de resultados.
+     * @return lista de objetos {@link ProfessorResumo} encontrados.
+     */
+    List<ProfessorResumo> filtrarPorNome(String consulta, int limite);
+    
+    /**
+     * Retorna os professores que atendem aos filtros informados. A filtragem é
+     * feita pelo banco de dados.
+     *
+     * @param criteria filtros da consulta.
+     * @return lista de objetos {@link Professor} encontrados.
+     */
+    List<Professor> filtrar(ProfessorCriteria criteria);
+    
+    /**
+     * Retorna uma página de professores, sem carregar a tabela inteira.
+     * Para obter a página seguinte, use {@link PageRequest#next(Page)}.
+     *
+     * @param pedido tamanho, ordenação e posição da página.
+     * @return página de objetos {@link Professor} com o cursor da próxima página.
+     */
+    Page<Professor> listarPagina(PageRequest pedido);
+
+    /**
+     * Retorna uma página de {@link ProfessorResumo}, lendo apenas as colunas exibidas
+     * nas telas de listagem. Para obter a página seguinte, use
+     * {@link PageRequest#next(Page)}.
+     *
+     * @param pedido tamanho, ordenação e posição da página.
+     * @return página de resumos com o cursor da próxima página.
+     */
+    Page<ProfessorResumo> listarPaginaDeResumos(PageRequest pedido);
+
+    /**
+     * Retorna a página de {@link ProfessorResumo} que começa na posição informada da
+     * ordenação, quando o cursor dessa página ainda não é conhecido.
+     *
+     * @param pedido tamanho e ordenação da página.
+     * @param posicao índice, a partir de zero, do primeiro registro da página.
+     * @return página de resumos com o cursor da próxima página.
+     */
+    Page<ProfessorResumo> listarPaginaDeResumos(PageRequest pedido, int posicao);
+
+    /**
+     * Retorna a quantidade de professores cadastrados.
+     *
+     * @return total de registros.
+     */
+    int contar();
+    
     /**
      * Calcula a idade a partir da data de nascimento fornecida.
      *
@@ -1,11 +1,22 @@
 package service;
 
 import model.Professor;
+import model.ProfessorResumo;
 import repository.ProfessorRepository;
+import repository.Page;
+import repository.PageRequest;
+import repository.criteria.ProfessorCriteria;
+import repository.exception.DuplicateKeyException;
 import service.exception.ValidacaoException;
+import service.validacao.Campos;
+import service.validacao.CodigoViolacao;
+import service.validacao.RegrasProfessor;
+import service.validacao.Validador;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Implementação da interface {@link ProfessorService}, responsável por aplicar
@@ -14,6 +25,15 @@ import java.util.List;
 public class ProfessorServiceImpl implements ProfessorService {
     
     private final ProfessorRepository professorRepository;
+
+    /** Regras de cadastro: recusa qualquer CPF já cadastrado. */
+    private final Validador<Professor> validadorDeCadastro;
+
+    /** Regras de atualização: recusa CPF cadastrado para outro professor. */
+    private final Validador<Professor> validadorDeAtualizacao;
+
+    /** Regras sem consulta ao banco; a unicidade do CPF fica a cargo da escrita. */
+    private final Validador<Professor> validadorSemConsultaDeCpf;
     
     /**
      * Construtor que recebe uma instância de {@link ProfessorRepository}.
@@ -22,6 +42,15 @@ public class ProfessorServiceImpl implements ProfessorService {
      */
     public ProfessorServiceImpl(ProfessorRepository professorRepository) {
         this.professorRepository = professorRepository;
+        this.validadorDeCadastro = RegrasProfessor.validador(professor ->
+                professorRepository.findByCpf(professor.getCpf()) != null
+                        ? CodigoViolacao.CPF_JA_CADASTRADO : null);
+        this.validadorDeAtualizacao = RegrasProfessor.validador(professor -> {
+            Professor existente = professorRepository.findByCpf(professor.getCpf());
+            return existente != null && existente.getId() != professor.getId()
+                    ? CodigoViolacao.CPF_JA_CADASTRADO : null;
+        });
+        this.validadorSemConsultaDeCpf = RegrasProfessor.validador(null);
     }
     
     /**
@@ -33,7 +62,86 @@ public class ProfessorServiceImpl implements ProfessorService {
     @Override
     public void salvar(Professor professor) throws ValidacaoException {
         validarProfessor(professor, true);
-        professorRepository.save(professor);
+        try {
+            professorRepository.save(professor);
+        } catch (DuplicateKeyException e) {
+            throw new ValidacaoException(CodigoViolacao.CPF_JA_CADASTRADO);
+        }
+    }
+
+    /**
+     * Valida e grava vários professores de uma vez, sem interromper no
+     * primeiro erro.
+     *
+     * <p>Além das regras de {@link #salvar(Professor)}, recusa a segunda
+     * ocorrência de um mesmo CPF dentro da lista. As regras em memória rodam
+     * em paralelo; os CPFs já cadastrados são buscados depois, com
+     * {@link ProfessorRepository#findExistingCpfs} uma vez por transação. Um
+     * CPF gravado por outro cadastro durante a importação é recusado com a
+     * mesma mensagem da validação.</p>
+     *
+     * @param professores professores a serem salvos; os gravados recebem o ID gerado.
+     * @return relatório com os professores gravados e os recusados; se o banco
+     *         falhar no meio da gravação, traz também a falha em
+     *         {@link RelatorioImportacao#getFalha()}.
+     * @throws ValidacaoException caso a lista seja nula.
+     */
+    @Override
+    public RelatorioImportacao<Professor> salvarTodos(List<Professor> professores) {
+        if (professores == null) {
+            throw new ValidacaoException("Lista de professores não pode ser nula.");
+        }
+        return ImportacaoEmLote.importar(professores, professor -> validarProfessor(professor, true, false),
+                Professor::getCpf, CodigoViolacao.CPF_REPETIDO_NA_IMPORTACAO.getMensagem(),
+                this::recusarCpfsCadastrados, professorRepository::saveAll, professor -> {
+                    try {
+                        professorRepository.save(professor);
+                    } catch (DuplicateKeyException e) {
+                        throw new ValidacaoException(CodigoViolacao.CPF_JA_CADASTRADO);
+                    }
+                });
+    }
+
+    /**
+     * Consulta de uma vez os CPFs de uma transação de {@link #salvarTodos}.
+     *
+     * @param lote professores já validados
+     * @return para cada professor, na mesma ordem, o motivo da recusa ou null
+     */
+    private List<String> recusarCpfsCadastrados(List<Professor> lote) {
+        List<String> cpfs = new ArrayList<>(lote.size());
+        for (Professor professor : lote) {
+            cpfs.add(professor.getCpf());
+        }
+        Set<String> cadastrados = professorRepository.findExistingCpfs(cpfs);
+
+        List<String> recusas = new ArrayList<>(lote.size());
+        for (Professor professor : lote) {
+            recusas.add(cadastrados.contains(professor.getCpf())
+                    ? CodigoViolacao.CPF_JA_CADASTRADO.getMensagem() : null);
+        }
+        return recusas;
+    }
+
+    /**
+     * Cadastra o professor ou atualiza o cadastro que já possui o mesmo CPF.
+     *
+     * <p>Caminho rápido para cargas e cadastros concorrentes: valida os
+     * campos sem consultar o CPF no banco e grava com uma única instrução
+     * ({@link ProfessorRepository#upsertByCpf(Professor)}), que decide de
+     * forma atômica entre inserir e atualizar.</p>
+     *
+     * @param professor professor a gravar; recebe o ID do registro gravado.
+     * @throws ValidacaoException caso alguma validação seja violada.
+     */
+    @Override
+    public void salvarPorCpf(Professor professor) throws ValidacaoException {
+        validarProfessor(professor, true, false);
+        try {
+            professorRepository.upsertByCpf(professor);
+        } catch (DuplicateKeyException e) {
+            throw new ValidacaoException(CodigoViolacao.CPF_JA_CADASTRADO);
+        }
     }
     
     /**
@@ -46,9 +154,13 @@ public class ProfessorServiceImpl implements ProfessorService {
     public void atualizar(Professor professor) throws ValidacaoException {
         validarProfessor(professor, false);
         if (professor.getId() <= 0) {
-            throw new ValidacaoException("ID do professor é obrigatório para atualização.");
+            throw new ValidacaoException(CodigoViolacao.PROFESSOR_SEM_ID);
+        }
+        try {
+            professorRepository.update(professor);
+        } catch (DuplicateKeyException e) {
+            throw new ValidacaoException(CodigoViolacao.CPF_JA_CADASTRADO);
         }
-        professorRepository.update(professor);
     }
     
     /**
@@ -92,6 +204,70 @@ public class ProfessorServiceImpl implements ProfessorService {
     public List<Professor> listarTodos() {
         return professorRepository.findAll();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProfessorResumo> listarResumos() {
+        return professorRepository.findAllSummaries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProfessorResumo> buscarPorNome(String consulta, int limite) {
+        return professorRepository.searchByName(consulta, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProfessorResumo> filtrarPorNome(String consulta, int limite) {
+        return professorRepository.filterByName(consulta, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Professor> filtrar(ProfessorCriteria criteria) {
+        return professorRepository.findBy(criteria);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Professor> listarPagina(PageRequest pedido) {
+        return professorRepository.findPage(pedido);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ProfessorResumo> listarPaginaDeResumos(PageRequest pedido) {
+        return professorRepository.findSummaryPage(pedido);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ProfessorResumo> listarPaginaDeResumos(PageRequest pedido, int posicao) {
+        return professorRepository.findSummaryPageAt(pedido, posicao);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int contar() {
+        return professorRepository.count();
+    }
     
     /**
      * Calcula a idade com base na data de nascimento fornecida.
@@ -125,6 +301,10 @@ public class ProfessorServiceImpl implements ProfessorService {
      * Remove todos os caracteres não numéricos de uma string.
      * Útil para campos como CPF, telefone e outros formatados.
      *
+     * <p>Os dígitos são contados antes com {@link Campos#contarDigitos(String)}:
+     * se o texto já contém apenas dígitos, é devolvido sem cópia; caso
+     * contrário, o resultado é montado em um buffer do tamanho exato.</p>
+     *
      * @param input string original.
      * @return string contendo apenas dígitos.
      */
@@ -133,16 +313,20 @@ public class ProfessorServiceImpl implements ProfessorService {
         if (input == null) {
             return "";
         }
-        
-        StringBuilder str = new StringBuilder();
-        
+
+        int digitos = Campos.contarDigitos(input);
+        if (digitos == input.length()) {
+            return input;
+        }
+
+        StringBuilder str = new StringBuilder(digitos);
         for (int i = 0; i < input.length(); i++) {
             char c = input.charAt(i);
-            if ("0123456789".indexOf(c) >= 0) {
+            if (c >= '0' && c <= '9') {
                 str.append(c);
             }
         }
-        
+
         return str.toString();
     }
     
@@ -154,67 +338,26 @@ public class ProfessorServiceImpl implements ProfessorService {
      * @throws ValidacaoException caso qualquer regra seja violada.
      */
     private void validarProfessor(Professor professor, boolean isNovo) throws ValidacaoException {
-        if (professor == null) {
-            throw new ValidacaoException("Professor não pode ser nulo.");
-        }
-        
-        if (professor.getNome() == null || professor.getNome().trim().isEmpty()) {
-            throw new ValidacaoException("Nome é obrigatório.");
-        }
-        
-        if (professor.getNome().length() < 2) {
-            throw new ValidacaoException("Nome deve conter ao menos 2 caracteres.");
-        }
-        
-        if (professor.getCampus() == null || professor.getCampus().trim().isEmpty() || professor.getCampus().equals("-")) {
-            throw new ValidacaoException("Campus é obrigatório.");
-        }
-        
-        if (professor.getCpf() == null || professor.getCpf().trim().isEmpty()) {
-            throw new ValidacaoException("CPF é obrigatório.");
-        }
-        
-        String cpfFormatado = validarFormatado(professor.getCpf());
-        if (cpfFormatado.length() != 11) {
-            throw new ValidacaoException("O campo CPF deve possuir 11 caracteres numéricos.");
-        }
-        
-        if (isNovo) {
-            Professor existente = professorRepository.findByCpf(professor.getCpf());
-            if (existente != null) {
-                throw new ValidacaoException("CPF já cadastrado no sistema.");
-            }
+        validarProfessor(professor, isNovo, true);
+    }
+
+    /**
+     * Valida os campos de um professor, com ou sem a consulta de CPF duplicado.
+     *
+     * @param professor professor a validar.
+     * @param isNovo indica se é um cadastro novo (true) ou atualização (false).
+     * @param consultarCpf se true, consulta o banco para recusar CPF já cadastrado;
+     *        se false, a unicidade fica a cargo da escrita.
+     * @throws ValidacaoException caso qualquer regra seja violada.
+     */
+    private void validarProfessor(Professor professor, boolean isNovo, boolean consultarCpf)
+            throws ValidacaoException {
+        if (!consultarCpf) {
+            validadorSemConsultaDeCpf.validar(professor);
+        } else if (isNovo) {
+            validadorDeCadastro.validar(professor);
         } else {
-            Professor existenteComMesmoCpf = professorRepository.findByCpf(professor.getCpf());
-            if (existenteComMesmoCpf != null && existenteComMesmoCpf.getId() != professor.getId()) {
-                throw new ValidacaoException("CPF já cadastrado no sistema.");
-            }
-        }
-        
-        if (professor.getContato() == null || professor.getContato().trim().isEmpty()) {
-            throw new ValidacaoException("Contato é obrigatório.");
-        }
-        
-        String contatoFormatado = validarFormatado(professor.getContato());
-        if (contatoFormatado.length() != 11) {
-            throw new ValidacaoException("O campo contato deve possuir 11 caracteres numéricos.");
-        }
-        
-        if (professor.getIdade() < 11) {
-            throw new ValidacaoException("Idade inválida. Deve ser maior ou igual a 11 anos.");
-        }
-        
-        if (professor.getSalario() <= 0) {
-            throw new ValidacaoException("Salário deve ser maior que zero.");
-        }
-        
-        String salarioFormatado = validarFormatado(String.valueOf((int) professor.getSalario()));
-        if (salarioFormatado.length() < 4) {
-            throw new ValidacaoException("O campo salário deve possuir no mínimo 4 caracteres numéricos.");
-        }
-        
-        if (professor.getTitulo() == null || professor.getTitulo().trim().isEmpty() || professor.getTitulo().equals("-")) {
-            throw new ValidacaoException("Título é obrigatório.");
+            validadorDeAtualizacao.validar(professor);
         }
     }
 }
@@ -0,0 +1,125 @@
+package service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de uma gravação em lote ({@code salvarTodos}): os registros
+ * gravados e, para cada registro recusado, sua posição na lista de entrada e
+ * a mensagem da {@link service.exception.ValidacaoException} correspondente.
+ *
+ * <p>Se a gravação for interrompida por uma falha do banco, o relatório
+ * ainda lista os registros gravados antes dela, e a exceção fica em
+ * {@link #getFalha()}.</p>
+ *
+ * @param <T> tipo dos registros importados
+ */
+public final class RelatorioImportacao<T> {
+
+    private final int total;
+    private final List<T> salvos;
+    private final List<Rejeicao<T>> rejeitados;
+    private final RuntimeException falha;
+
+    /**
+     * Cria o relatório de uma importação concluída.
+     *
+     * @param total quantidade de registros recebidos
+     * @param salvos registros gravados, na ordem da entrada
+     * @param rejeitados registros recusados, na ordem da entrada
+     */
+    public RelatorioImportacao(int total, List<T> salvos, List<Rejeicao<T>> rejeitados) {
+        this(total, salvos, rejeitados, null);
+    }
+
+    /**
+     * Cria o relatório.
+     *
+     * @param total quantidade de registros recebidos
+     * @param salvos registros gravados, na ordem da entrada
+     * @param rejeitados registros recusados, na ordem da entrada
+     * @param falha exceção que interrompeu a gravação, ou {@code null}
+     */
+    public RelatorioImportacao(int total, List<T> salvos, List<Rejeicao<T>> rejeitados, RuntimeException falha) {
+        this.total = total;
+        this.salvos = Collections.unmodifiableList(salvos);
+        this.rejeitados = Collections.unmodifiableList(rejeitados);
+        this.falha = falha;
+    }
+
+    /** @return quantidade de registros recebidos. */
+    public int getTotal() {
+        return total;
+    }
+
+    /** @return registros gravados, já com o ID gerado, na ordem da entrada. */
+    public List<T> getSalvos() {
+        return salvos;
+    }
+
+    /** @return registros recusados, na ordem da entrada. */
+    public List<Rejeicao<T>> getRejeitados() {
+        return rejeitados;
+    }
+
+    /** @return exceção que interrompeu a gravação, ou {@code null} se ela foi até o fim. */
+    public RuntimeException getFalha() {
+        return falha;
+    }
+
+    /** @return true se nenhum registro foi recusado e a gravação foi até o fim. */
+    public boolean isSemErros() {
+        return rejeitados.isEmpty() && falha == null;
+    }
+
+    @Override
+    public String toString() {
+        return "RelatorioImportacao{total=" + total + ", salvos=" + salvos.size()
+                + ", rejeitados=" + rejeitados.size() + (falha != null ? ", falha=" + falha.getMessage() : "") + "}";
+    }
+
+    /**
+     * Registro recusado na importação.
+     *
+     * @param <T> tipo do registro
+     */
+    public static final class Rejeicao<T> {
+
+        private final int indice;
+        private final T item;
+        private final String mensagem;
+
+        /**
+         * Cria a rejeição.
+         *
+         * @param indice posição do registro na lista de entrada, a partir de zero
+         * @param item registro recusado
+         * @param mensagem motivo da recusa
+         */
+        public Rejeicao(int indice, T item, String mensagem) {
+            this.indice = indice;
+            this.item = item;
+            this.mensagem = mensagem;
+        }
+
+        /** @return posição do registro na lista de entrada, a partir de zero. */
+        public int getIndice() {
+            return indice;
+        }
+
+        /** @return registro recusado. */
+        public T getItem() {
+            return item;
+        }
+
+        /** @return motivo da recusa. */
+        public String getMensagem() {
+            return mensagem;
+        }
+
+        @Override
+        public String toString() {
+            return "Rejeicao{indice=" + indice + ", mensagem='" + mensagem + "'}";
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package service.exception;
 
+import service.validacao.CodigoViolacao;
+
 /**
  * Exceção utilizada para indicar erros de validação nas regras de negócio.
  * <p>
  * Esta classe estende {@link RuntimeException}, permitindo que falhas de 
  * validação sejam lançadas sem necessidade de declaração explícita.
+ * Quando a falha vem de uma regra conhecida, {@link #getCodigo()} informa
+ * o código da violação.
  */
 public class ValidacaoException extends RuntimeException {
 
+    private final CodigoViolacao codigo;
+
+    /**
+     * Cria uma exceção de validação para uma violação conhecida, com a
+     * mensagem padrão do código.
+     *
+     * @param codigo código da violação.
+     */
+    public ValidacaoException(CodigoViolacao codigo) {
+        super(codigo.getMensagem());
+        this.codigo = codigo;
+    }
+
     /**
      * Cria uma nova exceção de validação com uma mensagem descritiva.
      *
@@ -15,6 +32,7 @@ public class ValidacaoException extends RuntimeException {
      */
     public ValidacaoException(String message) {
         super(message);
+        this.codigo = null;
     }
 
     /**
@@ -25,5 +43,16 @@ public class ValidacaoException extends RuntimeException {
      */
     public ValidacaoException(String message, Throwable cause) {
         super(message, cause);
+        this.codigo = null;
+    }
+
+    /**
+     * Retorna o código da violação.
+     *
+     * @return código da violação, ou <code>null</code> se a exceção foi
+     *         criada apenas com uma mensagem.
+     */
+    public CodigoViolacao getCodigo() {
+        return codigo;
     }
 }
@@ -0,0 +1,88 @@
+package service.validacao;
+
+/**
+ * Verificações de campos de texto usadas pelas regras.
+ *
+ * <p>Cada verificação percorre o texto uma única vez e não aloca objetos,
+ * substituindo <code>trim()</code>, <code>String.matches</code> e a remoção
+ * de caracteres com <code>StringBuilder</code>.</p>
+ */
+public final class Campos {
+
+    private Campos() {
+    }
+
+    /**
+     * Informa se o texto é nulo ou só contém espaços e caracteres de
+     * controle, com o mesmo critério de <code>trim().isEmpty()</code>.
+     *
+     * @param texto texto verificado
+     * @return true se não houver conteúdo
+     */
+    public static boolean vazio(String texto) {
+        if (texto == null) {
+            return true;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Informa se o campo de seleção está sem valor: nulo, vazio ou com o
+     * marcador <code>"-"</code> das listas das telas.
+     *
+     * @param texto valor selecionado
+     * @return true se nenhum valor foi escolhido
+     */
+    public static boolean naoSelecionado(String texto) {
+        return vazio(texto) || texto.equals("-");
+    }
+
+    /**
+     * Conta os dígitos ASCII (<code>0</code> a <code>9</code>) do texto.
+     *
+     * @param texto texto verificado; <code>null</code> conta como vazio
+     * @return quantidade de dígitos
+     */
+    public static int contarDigitos(String texto) {
+        if (texto == null) {
+            return 0;
+        }
+        int digitos = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos++;
+            }
+        }
+        return digitos;
+    }
+
+    /**
+     * Informa se o texto contém ao menos uma letra de qualquer alfabeto e
+     * nenhuma quebra de linha: o mesmo resultado de
+     * <code>texto.matches(".*\\p{L}.*")</code>, em que <code>.</code> não
+     * aceita terminadores de linha.
+     *
+     * @param texto texto verificado, não nulo
+     * @return true se houver letra em uma única linha
+     */
+    public static boolean contemLetra(String texto) {
+        boolean letra = false;
+        for (int i = 0; i < texto.length(); ) {
+            int c = texto.codePointAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            if (Character.isLetter(c)) {
+                letra = true;
+            }
+            i += Character.charCount(c);
+        }
+        return letra;
+    }
+}
@@ -0,0 +1,44 @@
+package service.validacao;
+
+/**
+ * Códigos das violações de regras de negócio, com a mensagem exibida ao
+ * usuário.
+ *
+ * <p>O código é estável e pode ser usado por programas (relatórios de
+ * importação, integrações, testes) sem depender do texto da mensagem.</p>
+ */
+public enum CodigoViolacao {
+
+    ALUNO_NULO("Aluno não pode ser nulo."),
+    PROFESSOR_NULO("Professor não pode ser nulo."),
+    NOME_OBRIGATORIO("Nome é obrigatório."),
+    NOME_CURTO("Nome deve conter ao menos 2 caracteres."),
+    NOME_SEM_LETRA("Nome é inválido (deve conter ao menos uma letra)."),
+    IDADE_INVALIDA("Idade inválida. Deve ser maior ou igual a 11 anos."),
+    CURSO_OBRIGATORIO("Curso é obrigatório."),
+    FASE_INVALIDA("Fase deve estar entre 1 e 10."),
+    CAMPUS_OBRIGATORIO("Campus é obrigatório."),
+    CPF_OBRIGATORIO("CPF é obrigatório."),
+    CPF_FORMATO_INVALIDO("O campo CPF deve possuir 11 caracteres numéricos."),
+    CPF_JA_CADASTRADO("CPF já cadastrado no sistema."),
+    CPF_REPETIDO_NA_IMPORTACAO("CPF repetido na lista de importação."),
+    CONTATO_OBRIGATORIO("Contato é obrigatório."),
+    CONTATO_FORMATO_INVALIDO("O campo contato deve possuir 11 caracteres numéricos."),
+    SALARIO_INVALIDO("Salário deve ser maior que zero."),
+    SALARIO_FORMATO_INVALIDO("O campo salário deve possuir no mínimo 4 caracteres numéricos."),
+    TITULO_OBRIGATORIO("Título é obrigatório."),
+    ALUNO_SEM_ID("ID do aluno é obrigatório para atualização."),
+    PROFESSOR_SEM_ID("ID do professor é obrigatório para atualização."),
+    IMPORTACAO_INTERROMPIDA("Não gravado: a importação foi interrompida por uma falha no banco de dados.");
+
+    private final String mensagem;
+
+    CodigoViolacao(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    /** @return mensagem exibida ao usuário. */
+    public String getMensagem() {
+        return mensagem;
+    }
+}
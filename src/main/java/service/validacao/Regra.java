@@ -0,0 +1,22 @@
+package service.validacao;
+
+/**
+ * Regra de validação de um objeto.
+ *
+ * <p>Retorna o código da violação, ou <code>null</code> se o objeto atende à
+ * regra. Para entradas válidas, as regras não devem alocar objetos.</p>
+ *
+ * @param <T> tipo do objeto validado
+ */
+@FunctionalInterface
+public interface Regra<T> {
+
+    /**
+     * Verifica a regra.
+     *
+     * @param alvo objeto validado; as regras só recebem <code>null</code> se
+     *        forem a primeira do {@link Validador}
+     * @return código da violação, ou <code>null</code> se não houver
+     */
+    CodigoViolacao verificar(T alvo);
+}
@@ -0,0 +1,23 @@
+package service.validacao;
+
+import model.Aluno;
+
+/**
+ * Regras de validação de {@link Aluno}, na ordem em que são verificadas.
+ */
+public final class RegrasAluno {
+
+    /** Validador completo de um aluno. */
+    public static final Validador<Aluno> VALIDADOR = Validador.<Aluno>montador()
+            .regra(aluno -> aluno == null ? CodigoViolacao.ALUNO_NULO : null)
+            .regra(aluno -> Campos.vazio(aluno.getNome()) ? CodigoViolacao.NOME_OBRIGATORIO : null)
+            .regra(aluno -> aluno.getNome().length() < 2 ? CodigoViolacao.NOME_CURTO : null)
+            .regra(aluno -> !Campos.contemLetra(aluno.getNome()) ? CodigoViolacao.NOME_SEM_LETRA : null)
+            .regra(aluno -> aluno.getIdade() < 11 ? CodigoViolacao.IDADE_INVALIDA : null)
+            .regra(aluno -> Campos.naoSelecionado(aluno.getCurso()) ? CodigoViolacao.CURSO_OBRIGATORIO : null)
+            .regra(aluno -> aluno.getFase() < 1 || aluno.getFase() > 10 ? CodigoViolacao.FASE_INVALIDA : null)
+            .montar();
+
+    private RegrasAluno() {
+    }
+}
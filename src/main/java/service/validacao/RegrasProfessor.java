@@ -0,0 +1,50 @@
+package service.validacao;
+
+import model.Professor;
+
+/**
+ * Regras de validação de {@link Professor}, na ordem em que são verificadas.
+ *
+ * <p>A verificação de CPF já cadastrado depende do repositório e de a
+ * operação ser um cadastro ou uma atualização; por isso o serviço informa
+ * essa regra em {@link #validador(Regra)} e ela é encaixada logo após a
+ * verificação do formato do CPF.</p>
+ */
+public final class RegrasProfessor {
+
+    private RegrasProfessor() {
+    }
+
+    /**
+     * Monta o validador de professores.
+     *
+     * @param cpfDisponivel regra que recusa CPF já cadastrado, ou <code>null</code>
+     *        para não consultar o CPF
+     * @return validador completo
+     */
+    public static Validador<Professor> validador(Regra<Professor> cpfDisponivel) {
+        Validador.Montador<Professor> montador = Validador.<Professor>montador()
+                .regra(professor -> professor == null ? CodigoViolacao.PROFESSOR_NULO : null)
+                .regra(professor -> Campos.vazio(professor.getNome()) ? CodigoViolacao.NOME_OBRIGATORIO : null)
+                .regra(professor -> professor.getNome().length() < 2 ? CodigoViolacao.NOME_CURTO : null)
+                .regra(professor -> Campos.naoSelecionado(professor.getCampus())
+                        ? CodigoViolacao.CAMPUS_OBRIGATORIO : null)
+                .regra(professor -> Campos.vazio(professor.getCpf()) ? CodigoViolacao.CPF_OBRIGATORIO : null)
+                .regra(professor -> Campos.contarDigitos(professor.getCpf()) != 11
+                        ? CodigoViolacao.CPF_FORMATO_INVALIDO : null);
+        if (cpfDisponivel != null) {
+            montador.regra(cpfDisponivel);
+        }
+        return montador
+                .regra(professor -> Campos.vazio(professor.getContato()) ? CodigoViolacao.CONTATO_OBRIGATORIO : null)
+                .regra(professor -> Campos.contarDigitos(professor.getContato()) != 11
+                        ? CodigoViolacao.CONTATO_FORMATO_INVALIDO : null)
+                .regra(professor -> professor.getIdade() < 11 ? CodigoViolacao.IDADE_INVALIDA : null)
+                .regra(professor -> professor.getSalario() <= 0 ? CodigoViolacao.SALARIO_INVALIDO : null)
+                // equivale a exigir ao menos 4 dígitos na parte inteira do salário já positivo
+                .regra(professor -> (int) professor.getSalario() < 1000 ? CodigoViolacao.SALARIO_FORMATO_INVALIDO : null)
+                .regra(professor -> Campos.naoSelecionado(professor.getTitulo())
+                        ? CodigoViolacao.TITULO_OBRIGATORIO : null)
+                .montar();
+    }
+}
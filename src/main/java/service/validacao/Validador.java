@@ -0,0 +1,108 @@
+package service.validacao;
+
+import service.exception.ValidacaoException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Conjunto ordenado de {@link Regra}s, montado uma única vez e reutilizado
+ * em todas as validações.
+ *
+ * <p>As regras são verificadas na ordem em que foram adicionadas e a
+ * validação para na primeira violação, mantendo a mesma mensagem que o
+ * usuário sempre recebeu para cada combinação de erros. Instâncias são
+ * imutáveis e podem ser compartilhadas entre <i>threads</i>.</p>
+ *
+ * @param <T> tipo do objeto validado
+ */
+public final class Validador<T> {
+
+    private final Regra<T>[] regras;
+
+    private Validador(List<Regra<T>> regras) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Regra<T>[] vetor = regras.toArray(new Regra[0]);
+        this.regras = vetor;
+    }
+
+    /**
+     * Inicia a montagem de um validador.
+     *
+     * @param <T> tipo do objeto validado
+     * @return montador vazio
+     */
+    public static <T> Montador<T> montador() {
+        return new Montador<>();
+    }
+
+    /**
+     * Retorna a primeira violação encontrada.
+     *
+     * @param alvo objeto a validar
+     * @return código da primeira violação, ou <code>null</code> se o objeto for válido
+     */
+    public CodigoViolacao primeiraViolacao(T alvo) {
+        for (Regra<T> regra : regras) {
+            CodigoViolacao violacao = regra.verificar(alvo);
+            if (violacao != null) {
+                return violacao;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Valida o objeto, lançando exceção na primeira violação.
+     *
+     * @param alvo objeto a validar
+     * @throws ValidacaoException com o código e a mensagem da primeira violação
+     */
+    public void validar(T alvo) throws ValidacaoException {
+        CodigoViolacao violacao = primeiraViolacao(alvo);
+        if (violacao != null) {
+            throw new ValidacaoException(violacao);
+        }
+    }
+
+    /**
+     * Montador de {@link Validador}.
+     *
+     * @param <T> tipo do objeto validado
+     */
+    public static final class Montador<T> {
+
+        private final List<Regra<T>> regras = new ArrayList<>();
+
+        private Montador() {
+        }
+
+        /**
+         * Adiciona uma regra ao final da sequência.
+         *
+         * @param regra regra a verificar
+         * @return este montador
+         */
+        public Montador<T> regra(Regra<T> regra) {
+            regras.add(regra);
+            return this;
+        }
+
+        /**
+         * Adiciona várias regras ao final da sequência.
+         *
+         * @param outras regras a verificar, na ordem
+         * @return este montador
+         */
+        public Montador<T> regras(List<Regra<T>> outras) {
+            regras.addAll(outras);
+            return this;
+        }
+
+        /** @return validador com as regras adicionadas. */
+        public Validador<T> montar() {
+            return new Validador<>(Collections.unmodifiableList(new ArrayList<>(regras)));
+        }
+    }
+}
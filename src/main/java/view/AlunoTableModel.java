@@ -0,0 +1,95 @@
+package view;
+
+import model.AlunoResumo;
+import repository.Page;
+import repository.PageRequest;
+import service.AlunoService;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Modelo da tabela de alunos da tela {@link GerenciaAlunos}, com os
+ * registros buscados por páginas no {@link AlunoService}.
+ */
+public class AlunoTableModel extends PaginadoTableModel<AlunoResumo> {
+
+    /** Títulos das colunas, na ordem de exibição. */
+    static final String[] COLUNAS = {"ID", "Nome", "Idade", "Curso", "Fase"};
+
+    /** Colunas do banco correspondentes a {@link #COLUNAS}, usadas na ordenação. */
+    static final String[] CAMPOS = {"id", "nome", "idade", "curso", "fase"};
+
+    /**
+     * Cria o modelo vazio; as linhas aparecem após {@link #recarregar()}.
+     *
+     * @param servico serviço que fornece as páginas de alunos
+     */
+    public AlunoTableModel(AlunoService servico) {
+        super(fonte(servico), COLUNAS);
+    }
+
+    /**
+     * Cria o modelo com origem, tamanhos e executor próprios, usado nos testes.
+     *
+     * @param fonte origem das páginas
+     * @param tamanhoDaPagina registros por página
+     * @param maxPaginas páginas mantidas em memória
+     * @param executor executa as buscas
+     */
+    AlunoTableModel(Fonte<AlunoResumo> fonte, int tamanhoDaPagina, int maxPaginas, Executor executor) {
+        super(fonte, tamanhoDaPagina, maxPaginas, executor, COLUNAS);
+    }
+
+    /**
+     * Adapta o serviço à origem de páginas do modelo.
+     *
+     * @param servico serviço de alunos
+     * @return origem das páginas
+     */
+    static Fonte<AlunoResumo> fonte(AlunoService servico) {
+        return new Fonte<AlunoResumo>() {
+            @Override
+            public int contar() {
+                return servico.contar();
+            }
+
+            @Override
+            public Page<AlunoResumo> pagina(PageRequest pedido) {
+                return servico.listarPaginaDeResumos(pedido);
+            }
+
+            @Override
+            public Page<AlunoResumo> paginaNaPosicao(PageRequest pedido, int posicao) {
+                return servico.listarPaginaDeResumos(pedido, posicao);
+            }
+
+            @Override
+            public List<AlunoResumo> filtrar(String consulta, int limite) {
+                return servico.filtrarPorNome(consulta, limite);
+            }
+        };
+    }
+
+    @Override
+    public String getCampoDaColuna(int coluna) {
+        return CAMPOS[coluna];
+    }
+
+    @Override
+    protected Object valorDaColuna(AlunoResumo aluno, int coluna) {
+        switch (coluna) {
+            case 0:
+                return aluno.getId();
+            case 1:
+                return aluno.getNome();
+            case 2:
+                return aluno.getIdade();
+            case 3:
+                return aluno.getCurso();
+            case 4:
+                return aluno.getFase() + "ª";
+            default:
+                throw new IndexOutOfBoundsException("Coluna inválida: " + coluna);
+        }
+    }
+}
@@ -2,7 +2,7 @@ package view;
 
 import model.Aluno;
 import repository.AlunoRepository;
-import repository.AlunoRepositoryImpl;
+import repository.cache.CachedRepositories;
 import service.AlunoService;
 import service.AlunoServiceImpl;
 import service.exception.ValidacaoException;
@@ -35,7 +35,7 @@ public class CadastroAluno extends javax.swing.JFrame {
      * </p>
      */
     public CadastroAluno() {
-        AlunoRepository alunoRepository = new AlunoRepositoryImpl();
+        AlunoRepository alunoRepository = CachedRepositories.alunos();
         this.alunoService = new AlunoServiceImpl(alunoRepository);
 
         initComponents();
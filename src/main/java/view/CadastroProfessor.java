@@ -2,7 +2,7 @@ package view;
 
 import model.Professor;
 import repository.ProfessorRepository;
-import repository.ProfessorRepositoryImpl;
+import repository.cache.CachedRepositories;
 import service.ProfessorService;
 import service.ProfessorServiceImpl;
 import service.exception.ValidacaoException;
@@ -43,7 +43,7 @@ public class CadastroProfessor extends javax.swing.JFrame {
      */
 
     public CadastroProfessor() throws java.text.ParseException {
-        ProfessorRepository professorRepository = new ProfessorRepositoryImpl();
+        ProfessorRepository professorRepository = CachedRepositories.professores();
         this.professorService = new ProfessorServiceImpl(professorRepository);
 
         initComponents();
@@ -0,0 +1,80 @@
+package view;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.util.function.Consumer;
+import javax.swing.AbstractAction;
+import javax.swing.JComponent;
+import javax.swing.JTextField;
+import javax.swing.KeyStroke;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+/**
+ * Campo de texto que dispara a busca enquanto o usuário digita.
+ *
+ * <p>Cada alteração reinicia uma espera de {@value #DEFAULT_ESPERA_MS} ms;
+ * a busca só é disparada quando o usuário para de digitar por esse tempo,
+ * de modo que uma palavra digitada rapidamente gera uma única consulta.
+ * <i>Enter</i> dispara a busca na hora e <i>Esc</i> limpa o campo. A busca é
+ * chamada na <i>thread</i> de eventos do Swing.</p>
+ */
+public class CampoDeBusca extends JTextField {
+
+    /** Tempo sem digitação, em milissegundos, antes de disparar a busca. */
+    public static final int DEFAULT_ESPERA_MS = 150;
+
+    private final transient Timer espera;
+
+    /**
+     * Cria o campo com a espera padrão.
+     *
+     * @param aoBuscar recebe o texto do campo a cada busca
+     */
+    public CampoDeBusca(Consumer<String> aoBuscar) {
+        this(aoBuscar, DEFAULT_ESPERA_MS);
+    }
+
+    /**
+     * Cria o campo com uma espera própria, usado nos testes.
+     *
+     * @param aoBuscar recebe o texto do campo a cada busca
+     * @param esperaMs tempo sem digitação antes de disparar a busca
+     */
+    CampoDeBusca(Consumer<String> aoBuscar, int esperaMs) {
+        super(18);
+        espera = new Timer(esperaMs, e -> aoBuscar.accept(getText()));
+        espera.setRepeats(false);
+
+        getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                espera.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                espera.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                espera.restart();
+            }
+        });
+        addActionListener(e -> {
+            espera.stop();
+            aoBuscar.accept(getText());
+        });
+        getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "limpar");
+        getActionMap().put("limpar", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setText("");
+            }
+        });
+        setToolTipText("Buscar por nome");
+        setMaximumSize(getPreferredSize());
+    }
+}
@@ -2,7 +2,7 @@ package view;
 
 import model.Aluno;
 import repository.AlunoRepository;
-import repository.AlunoRepositoryImpl;
+import repository.cache.CachedRepositories;
 import service.AlunoService;
 import service.AlunoServiceImpl;
 import service.exception.ValidacaoException;
@@ -37,7 +37,7 @@ public class EditarAluno extends javax.swing.JFrame {
      */
 
     public EditarAluno() {
-        AlunoRepository alunoRepository = new AlunoRepositoryImpl();
+        AlunoRepository alunoRepository = CachedRepositories.alunos();
         this.alunoService = new AlunoServiceImpl(alunoRepository);
 
         initComponents();
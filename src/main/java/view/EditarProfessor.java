@@ -2,7 +2,7 @@ package view;
 
 import model.Professor;
 import repository.ProfessorRepository;
-import repository.ProfessorRepositoryImpl;
+import repository.cache.CachedRepositories;
 import service.ProfessorService;
 import service.ProfessorServiceImpl;
 import service.exception.ValidacaoException;
@@ -47,7 +47,7 @@ public class EditarProfessor extends javax.swing.JFrame {
      */
 
     public EditarProfessor() throws java.text.ParseException {
-        ProfessorRepository professorRepository = new ProfessorRepositoryImpl();
+        ProfessorRepository professorRepository = CachedRepositories.professores();
         this.professorService = new ProfessorServiceImpl(professorRepository);
 
         initComponents();
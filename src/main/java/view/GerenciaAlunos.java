@@ -1,13 +1,13 @@
 package view;
 
-import model.Aluno;
 import repository.AlunoRepository;
-import repository.AlunoRepositoryImpl;
+import repository.cache.CachedRepositories;
 import service.AlunoService;
 import service.AlunoServiceImpl;
-import java.util.List;
+import javax.swing.Box;
+import javax.swing.JLabel;
 import javax.swing.JOptionPane;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.JProgressBar;
 
 /**
  * Tela de gerenciamento de alunos.
@@ -29,6 +29,9 @@ public class GerenciaAlunos extends javax.swing.JFrame {
 
     private final AlunoService alunoService;
 
+    private final AlunoTableModel modeloTabela;
+    private final JProgressBar barraDeCarga = new JProgressBar(0, 100);
+
     /**
      * Constrói a tela de gerenciamento de alunos.
      * <p>
@@ -38,10 +41,23 @@ public class GerenciaAlunos extends javax.swing.JFrame {
      */
 
     public GerenciaAlunos() {
-        AlunoRepository alunoRepository = new AlunoRepositoryImpl();
+        AlunoRepository alunoRepository = CachedRepositories.alunos();
         this.alunoService = new AlunoServiceImpl(alunoRepository);
         
+        this.modeloTabela = new AlunoTableModel(alunoService);
+
         initComponents();
+        jTableAlunos.setAutoCreateColumnsFromModel(false);
+        jTableAlunos.setModel(modeloTabela);
+        OrdenacaoPeloCabecalho.instalar(jTableAlunos, modeloTabela);
+        barraDeCarga.setVisible(false);
+        jMenuBar1.add(Box.createHorizontalGlue());
+        jMenuBar1.add(barraDeCarga);
+        jMenuBar1.add(new JLabel(" Buscar: "));
+        jMenuBar1.add(new CampoDeBusca(modeloTabela::filtrar));
+        modeloTabela.setIndicadorDeCarga(barraDeCarga);
+        modeloTabela.setAoFalhar(erro -> JOptionPane.showMessageDialog(rootPane,
+                "Erro ao carregar lista de alunos.", "Erro", JOptionPane.ERROR_MESSAGE));
         this.carregaTabela();
     }
 
@@ -297,7 +313,8 @@ public class GerenciaAlunos extends javax.swing.JFrame {
      */
 
     private void jTableAlunosMouseClicked(java.awt.event.MouseEvent evt) {//GEN-FIRST:event_jTableAlunosMouseClicked
-        if (this.jTableAlunos.getSelectedRow() != -1) {
+        int linha = this.jTableAlunos.getSelectedRow();
+        if (linha != -1 && modeloTabela.getRegistro(linha) != null) {
 
             String nome = this.jTableAlunos.getValueAt(this.jTableAlunos.getSelectedRow(), 1).toString();
             String idade = this.jTableAlunos.getValueAt(this.jTableAlunos.getSelectedRow(), 2).toString();
@@ -386,30 +403,29 @@ public class GerenciaAlunos extends javax.swing.JFrame {
     @SuppressWarnings("unchecked")
 
     /**
-     * Carrega todos os alunos cadastrados e preenche a tabela da interface.
+     * Recarrega a tabela de alunos.
+     * <p>
+     * A contagem e a primeira página são buscadas em segundo plano, com o
+     * andamento exibido na barra de menus; as demais páginas são buscadas
+     * conforme a tabela é rolada. As linhas atuais continuam visíveis até a
+     * resposta chegar.
+     * </p>
      * <p>
      * Caso ocorra algum erro inesperado durante a busca, uma mensagem de
      * erro é exibida ao usuário.
      * </p>
      */
     public void carregaTabela() {
-        DefaultTableModel modelo = (DefaultTableModel) this.jTableAlunos.getModel();
-        modelo.setNumRows(0);
+        modeloTabela.recarregar();
+    }
 
-        try {
-            List<Aluno> alunos = alunoService.listarTodos();
-
-            for (Aluno a : alunos) {
-                modelo.addRow(new Object[]{
-                    a.getId(),
-                    a.getNome(),
-                    a.getIdade(),
-                    a.getCurso(),
-                    a.getFase() + "ª",});
-            }
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(rootPane, "Erro ao carregar lista de alunos.", "Erro", JOptionPane.ERROR_MESSAGE);
-        }
+    /**
+     * Fecha a tela, descartando as buscas de páginas ainda pendentes.
+     */
+    @Override
+    public void dispose() {
+        modeloTabela.encerrar();
+        super.dispose();
     }
 
     /**
@@ -1,16 +1,16 @@
 package view;
 
-import model.Professor;
 import repository.ProfessorRepository;
-import repository.ProfessorRepositoryImpl;
+import repository.cache.CachedRepositories;
 import service.ProfessorService;
 import service.ProfessorServiceImpl;
 import java.text.ParseException;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.swing.Box;
+import javax.swing.JLabel;
 import javax.swing.JOptionPane;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.JProgressBar;
 
 /**
  * Tela de gerenciamento de professores.
@@ -30,6 +30,9 @@ public class GerenciaProfessores extends javax.swing.JFrame {
 
     private final ProfessorService professorService;
 
+    private final ProfessorTableModel modeloTabela;
+    private final JProgressBar barraDeCarga = new JProgressBar(0, 100);
+
     /**
      * Constrói a tela de gerenciamento de professores.
      * <p>
@@ -39,10 +42,23 @@ public class GerenciaProfessores extends javax.swing.JFrame {
      * </p>
      */
     public GerenciaProfessores() {
-        ProfessorRepository professorRepository = new ProfessorRepositoryImpl();
+        ProfessorRepository professorRepository = CachedRepositories.professores();
         this.professorService = new ProfessorServiceImpl(professorRepository);
         
+        this.modeloTabela = new ProfessorTableModel(professorService);
+
         initComponents();
+        jTableProfessores.setAutoCreateColumnsFromModel(false);
+        jTableProfessores.setModel(modeloTabela);
+        OrdenacaoPeloCabecalho.instalar(jTableProfessores, modeloTabela);
+        barraDeCarga.setVisible(false);
+        jMenuBar1.add(Box.createHorizontalGlue());
+        jMenuBar1.add(barraDeCarga);
+        jMenuBar1.add(new JLabel(" Buscar: "));
+        jMenuBar1.add(new CampoDeBusca(modeloTabela::filtrar));
+        modeloTabela.setIndicadorDeCarga(barraDeCarga);
+        modeloTabela.setAoFalhar(erro -> JOptionPane.showMessageDialog(rootPane,
+                "Erro ao carregar lista de professores.", "Erro", JOptionPane.ERROR_MESSAGE));
         this.carregaTabela();
     }
 
@@ -299,7 +315,8 @@ public class GerenciaProfessores extends javax.swing.JFrame {
      * @param evt evento de clique na tabela.
      */
     private void jTableProfessoresMouseClicked(java.awt.event.MouseEvent evt) {//GEN-FIRST:event_jTableProfessoresMouseClicked
-        if (this.jTableProfessores.getSelectedRow() != -1) {
+        int linha = this.jTableProfessores.getSelectedRow();
+        if (linha != -1 && modeloTabela.getRegistro(linha) != null) {
 
             String nome = this.jTableProfessores.getValueAt(this.jTableProfessores.getSelectedRow(), 1).toString();
             String idade = this.jTableProfessores.getValueAt(this.jTableProfessores.getSelectedRow(), 2).toString();
@@ -388,34 +405,29 @@ public class GerenciaProfessores extends javax.swing.JFrame {
 
     @SuppressWarnings("unchecked")
     /**
-     * Carrega todos os professores cadastrados e preenche a tabela da interface.
+     * Recarrega a tabela de professores.
+     * <p>
+     * A contagem e a primeira página são buscadas em segundo plano, com o
+     * andamento exibido na barra de menus; as demais páginas são buscadas
+     * conforme a tabela é rolada. As linhas atuais continuam visíveis até a
+     * resposta chegar.
+     * </p>
      * <p>
      * Caso ocorra algum erro inesperado durante a busca, uma mensagem de
      * erro é exibida ao usuário.
      * </p>
      */
     public void carregaTabela() {
-        DefaultTableModel modelo = (DefaultTableModel) this.jTableProfessores.getModel();
-        modelo.setNumRows(0);
+        modeloTabela.recarregar();
+    }
 
-        try {
-            List<Professor> professores = professorService.listarTodos();
-
-            for (Professor a : professores) {
-                modelo.addRow(new Object[]{
-                    a.getId(),
-                    a.getNome(),
-                    a.getIdade(),
-                    a.getCampus(),
-                    a.getCpf(),
-                    a.getContato(),
-                    a.getTitulo(),
-                    "R$" + a.getSalario() + ".00"
-                });
-            }
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(rootPane, "Erro ao carregar lista de professores.", "Erro", JOptionPane.ERROR_MESSAGE);
-        }
+    /**
+     * Fecha a tela, descartando as buscas de páginas ainda pendentes.
+     */
+    @Override
+    public void dispose() {
+        modeloTabela.encerrar();
+        super.dispose();
     }
 
     /**
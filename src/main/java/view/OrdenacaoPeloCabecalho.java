@@ -0,0 +1,88 @@
+package view;
+
+import repository.PageRequest;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableColumn;
+
+/**
+ * Ordena uma tabela paginada pelo banco ao clicar no cabeçalho das colunas.
+ *
+ * <p>O primeiro clique em uma coluna ordena em ordem crescente e os
+ * seguintes alternam o sentido; o título da coluna ordenada ganha uma seta
+ * indicando o sentido. O clique apenas pede ao {@link PaginadoTableModel}
+ * uma nova ordenação, atendida com <code>ORDER BY</code> sobre o índice da
+ * coluna: nada é ordenado em memória, e o custo de reordenar não depende da
+ * quantidade de registros.</p>
+ */
+public class OrdenacaoPeloCabecalho extends MouseAdapter {
+
+    private final JTable tabela;
+    private final PaginadoTableModel<?> modelo;
+
+    /**
+     * Cria a ordenação para a tabela informada.
+     *
+     * @param tabela tabela cujo cabeçalho recebe os cliques
+     * @param modelo modelo exibido pela tabela
+     */
+    OrdenacaoPeloCabecalho(JTable tabela, PaginadoTableModel<?> modelo) {
+        this.tabela = tabela;
+        this.modelo = modelo;
+    }
+
+    /**
+     * Instala a ordenação no cabeçalho da tabela.
+     *
+     * @param tabela tabela cujo cabeçalho recebe os cliques
+     * @param modelo modelo exibido pela tabela
+     * @return ordenação instalada
+     */
+    public static OrdenacaoPeloCabecalho instalar(JTable tabela, PaginadoTableModel<?> modelo) {
+        OrdenacaoPeloCabecalho ordenacao = new OrdenacaoPeloCabecalho(tabela, modelo);
+        tabela.getTableHeader().addMouseListener(ordenacao);
+        return ordenacao;
+    }
+
+    @Override
+    public void mouseClicked(MouseEvent e) {
+        if (!SwingUtilities.isLeftMouseButton(e)) {
+            return;
+        }
+        JTableHeader cabecalho = tabela.getTableHeader();
+        int coluna = cabecalho.columnAtPoint(e.getPoint());
+        if (coluna != -1) {
+            ordenarPelaColuna(tabela.convertColumnIndexToModel(coluna));
+        }
+    }
+
+    /**
+     * Ordena pela coluna informada, alternando o sentido se ela já for a
+     * coluna de ordenação.
+     *
+     * @param coluna índice da coluna no modelo
+     */
+    void ordenarPelaColuna(int coluna) {
+        String campo = modelo.getCampoDaColuna(coluna);
+        String atual = modelo.getColunaDeOrdenacao() == null ? "id" : modelo.getColunaDeOrdenacao();
+        PageRequest.Direction sentido = campo.equals(atual) && modelo.getSentido() == PageRequest.Direction.ASC
+                ? PageRequest.Direction.DESC
+                : PageRequest.Direction.ASC;
+
+        modelo.ordenarPor(campo, sentido);
+        atualizarTitulos(coluna, sentido);
+    }
+
+    private void atualizarTitulos(int ordenada, PageRequest.Direction sentido) {
+        String seta = sentido == PageRequest.Direction.ASC ? " ▲" : " ▼";
+        for (int i = 0; i < tabela.getColumnModel().getColumnCount(); i++) {
+            TableColumn coluna = tabela.getColumnModel().getColumn(i);
+            String titulo = modelo.getColumnName(coluna.getModelIndex());
+            coluna.setHeaderValue(coluna.getModelIndex() == ordenada ? titulo + seta : titulo);
+        }
+        tabela.getTableHeader().repaint();
+    }
+}
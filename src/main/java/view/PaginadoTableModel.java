@@ -0,0 +1,467 @@
+package view;
+
+import repository.Page;
+import repository.PageCursor;
+import repository.PageRequest;
+import repository.cache.LruCache;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Modelo de tabela somente leitura que busca os registros do banco por
+ * páginas, à medida que as linhas aparecem na tela.
+ *
+ * <p>O modelo conhece apenas o total de registros e guarda as últimas
+ * páginas usadas em um {@link LruCache}; com os valores padrão, no máximo
+ * {@value #DEFAULT_MAX_PAGINAS} páginas de {@value #DEFAULT_TAMANHO_DA_PAGINA}
+ * registros ficam em memória, qualquer que seja o tamanho da tabela. Quando
+ * a tabela pede uma linha cuja página não está no cache,
+ * {@link #getValueAt(int, int)} devolve <code>null</code> (a célula aparece
+ * vazia) e a página é buscada em uma <i>thread</i> própria; ao chegar, apenas
+ * as linhas dela são redesenhadas. A <i>thread</i> de eventos do Swing nunca
+ * acessa o banco.</p>
+ *
+ * <p>Cada página lida guarda o cursor da seguinte, de modo que a rolagem
+ * contínua usa apenas consultas por chave (keyset). Em um salto para uma
+ * página cujo cursor não é conhecido, como ao arrastar a barra de rolagem, a
+ * página é buscada pela posição. Pedidos de páginas que saíram de perto da
+ * área visível antes de serem atendidos são descartados.</p>
+ *
+ * <p>Com um filtro por nome ({@link #filtrar(String)}), a tabela passa a
+ * exibir apenas os registros encontrados, limitados a
+ * {@value #LIMITE_DO_FILTRO}, sem paginação.</p>
+ *
+ * @param <T> tipo dos registros exibidos
+ */
+public abstract class PaginadoTableModel<T> extends AbstractTableModel {
+
+    /** Registros por página. */
+    public static final int DEFAULT_TAMANHO_DA_PAGINA = 100;
+
+    /** Páginas mantidas em memória. */
+    public static final int DEFAULT_MAX_PAGINAS = 6;
+
+    /** Quantidade máxima de registros exibidos quando há filtro por nome. */
+    public static final int LIMITE_DO_FILTRO = 500;
+
+    /**
+     * Origem das páginas exibidas pelo modelo. Os métodos são chamados fora
+     * da <i>thread</i> de eventos.
+     *
+     * @param <T> tipo dos registros
+     */
+    public interface Fonte<T> {
+
+        /**
+         * Conta os registros.
+         *
+         * @return total de registros
+         */
+        int contar();
+
+        /**
+         * Busca a página indicada pelo cursor do pedido.
+         *
+         * @param pedido tamanho, ordenação e posição da página
+         * @return página com o cursor da seguinte
+         */
+        Page<T> pagina(PageRequest pedido);
+
+        /**
+         * Busca a página que começa na posição informada.
+         *
+         * @param pedido tamanho e ordenação da página
+         * @param posicao índice do primeiro registro da página
+         * @return página com o cursor da seguinte
+         */
+        Page<T> paginaNaPosicao(PageRequest pedido, int posicao);
+
+        /**
+         * Busca os registros cujo nome casa com o texto digitado.
+         *
+         * @param consulta texto digitado
+         * @param limite quantidade máxima de registros
+         * @return registros encontrados
+         */
+        List<T> filtrar(String consulta, int limite);
+    }
+
+    private final String[] colunas;
+    private final Fonte<T> fonte;
+    private final int tamanhoDaPagina;
+    private final int maxPaginas;
+    private final Executor executor;
+
+    private final LruCache<Integer, List<T>> paginas;
+    private final Map<Integer, PageCursor> cursores = new ConcurrentHashMap<>();
+    private final Set<Integer> pendentes = ConcurrentHashMap.newKeySet();
+
+    private volatile int geracao;
+    private volatile int recargas;
+    private int total;
+    private String colunaDeOrdenacao;
+    private String filtro = "";
+    private List<T> filtrados;
+    private PageRequest.Direction sentido = PageRequest.Direction.ASC;
+    private int emAndamento;
+    private int iniciadas;
+    private int concluidas;
+    private boolean falhou;
+    private JProgressBar indicador;
+    private Consumer<Throwable> aoFalhar = erro -> { };
+
+    /**
+     * Cria o modelo vazio; as linhas aparecem após {@link #recarregar()}.
+     *
+     * @param fonte origem das páginas
+     * @param colunas títulos das colunas, na ordem de exibição
+     */
+    protected PaginadoTableModel(Fonte<T> fonte, String... colunas) {
+        this(fonte, DEFAULT_TAMANHO_DA_PAGINA, DEFAULT_MAX_PAGINAS, Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "tabela-paginada");
+            thread.setDaemon(true);
+            return thread;
+        }), colunas);
+    }
+
+    /**
+     * Cria o modelo com tamanhos e executor próprios, usado nos testes.
+     *
+     * @param fonte origem das páginas
+     * @param tamanhoDaPagina registros por página
+     * @param maxPaginas páginas mantidas em memória
+     * @param executor executa as buscas fora da <i>thread</i> de eventos
+     * @param colunas títulos das colunas
+     */
+    PaginadoTableModel(Fonte<T> fonte, int tamanhoDaPagina, int maxPaginas, Executor executor, String... colunas) {
+        this.fonte = fonte;
+        this.tamanhoDaPagina = tamanhoDaPagina;
+        this.maxPaginas = maxPaginas;
+        this.executor = executor;
+        this.colunas = colunas;
+        this.paginas = new LruCache<>(maxPaginas, 0);
+    }
+
+    /**
+     * Define a barra exibida enquanto houver buscas em andamento. A barra
+     * mostra quantas das buscas pedidas desde que o modelo ficou ocioso já
+     * terminaram (por exemplo, "2 de 3" ao saltar para um ponto da tabela
+     * que ocupa três páginas) e some quando todas terminam.
+     *
+     * @param indicador barra de progresso
+     */
+    public void setIndicadorDeCarga(JProgressBar indicador) {
+        this.indicador = indicador;
+        indicador.setIndeterminate(false);
+        indicador.setStringPainted(true);
+        atualizarIndicador();
+    }
+
+    /**
+     * Define quem é avisado, na <i>thread</i> de eventos, quando uma busca falha.
+     * Após uma falha, novas páginas só são buscadas depois de {@link #recarregar()}.
+     *
+     * @param aoFalhar receptor da falha
+     */
+    public void setAoFalhar(Consumer<Throwable> aoFalhar) {
+        this.aoFalhar = aoFalhar;
+    }
+
+    /**
+     * Define a ordenação dos registros e recarrega a tabela. A ordenação é
+     * feita pelo banco, seguindo o índice da coluna; com filtro por nome, os
+     * registros encontrados continuam na ordem do ID.
+     *
+     * @param coluna coluna de ordenação aceita pelo repositório, ou <code>null</code> para o ID
+     * @param sentido sentido da ordenação
+     */
+    public void ordenarPor(String coluna, PageRequest.Direction sentido) {
+        this.colunaDeOrdenacao = coluna;
+        this.sentido = sentido == null ? PageRequest.Direction.ASC : sentido;
+        recarregar();
+    }
+
+    /**
+     * Retorna a coluna do banco usada para ordenar pela coluna da tabela.
+     *
+     * @param coluna índice da coluna no modelo
+     * @return coluna aceita por {@link #ordenarPor(String, PageRequest.Direction)}
+     */
+    public abstract String getCampoDaColuna(int coluna);
+
+    /**
+     * Retorna a coluna de ordenação atual.
+     *
+     * @return coluna de ordenação, ou <code>null</code> se a ordem for a do ID
+     */
+    public String getColunaDeOrdenacao() {
+        return colunaDeOrdenacao;
+    }
+
+    /**
+     * Retorna o sentido da ordenação atual.
+     *
+     * @return sentido da ordenação
+     */
+    public PageRequest.Direction getSentido() {
+        return sentido;
+    }
+
+    /**
+     * Filtra as linhas pelo nome e recarrega a tabela. Com filtro, a tabela
+     * exibe até {@link #LIMITE_DO_FILTRO} registros encontrados no índice de
+     * texto completo; com o texto vazio, volta a exibir todos por páginas.
+     *
+     * @param texto texto digitado pelo usuário
+     */
+    public void filtrar(String texto) {
+        String novo = texto == null ? "" : texto.trim();
+        if (novo.equals(filtro)) {
+            return;
+        }
+        filtro = novo;
+        recarregar();
+    }
+
+    /**
+     * Retorna o filtro por nome atual.
+     *
+     * @return texto do filtro, vazio se não houver
+     */
+    public String getFiltro() {
+        return filtro;
+    }
+
+    /**
+     * Conta os registros e busca a primeira página novamente (ou o
+     * resultado do filtro), em segundo plano. As linhas atuais continuam
+     * visíveis até a resposta chegar.
+     *
+     * <p>Se outra recarga for pedida antes de esta começar, esta é
+     * descartada sem consultar o banco; se for pedida durante a consulta, o
+     * resultado desta é ignorado. Assim, ao digitar no filtro, apenas o
+     * texto mais recente é aplicado à tabela.</p>
+     */
+    public void recarregar() {
+        falhou = false;
+        int recarga = ++recargas;
+        String consulta = filtro;
+        PageRequest primeira = pedido(null);
+        submeter(() -> {
+            if (recarga != recargas) {
+                return () -> { };
+            }
+            if (!consulta.isEmpty()) {
+                List<T> encontrados = fonte.filtrar(consulta, LIMITE_DO_FILTRO);
+                return () -> aplicarRecarga(recarga, encontrados.size(), encontrados, null);
+            }
+            int quantidade = fonte.contar();
+            Page<T> pagina = fonte.pagina(primeira);
+            return () -> aplicarRecarga(recarga, quantidade, null, pagina);
+        });
+    }
+
+    /**
+     * Descarta as buscas pendentes e encerra a <i>thread</i> de busca; usado
+     * ao fechar a tela.
+     */
+    public void encerrar() {
+        geracao++;
+        pendentes.clear();
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    /**
+     * Retorna o registro exibido em uma linha, se a página dele estiver em memória.
+     *
+     * @param linha índice da linha no modelo
+     * @return registro da linha, ou <code>null</code> se ainda não foi buscado
+     */
+    public T getRegistro(int linha) {
+        if (linha < 0 || linha >= total) {
+            return null;
+        }
+        if (filtrados != null) {
+            return linha < filtrados.size() ? filtrados.get(linha) : null;
+        }
+        int numero = linha / tamanhoDaPagina;
+        List<T> pagina = paginas.get(numero);
+        if (pagina == null) {
+            solicitar(numero);
+            return null;
+        }
+        int indice = linha % tamanhoDaPagina;
+        return indice < pagina.size() ? pagina.get(indice) : null;
+    }
+
+    /**
+     * Retorna quantas páginas estão em memória.
+     *
+     * @return páginas no cache
+     */
+    public int getPaginasEmMemoria() {
+        return paginas.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return total;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return colunas.length;
+    }
+
+    @Override
+    public String getColumnName(int coluna) {
+        return colunas[coluna];
+    }
+
+    @Override
+    public Object getValueAt(int linha, int coluna) {
+        T registro = getRegistro(linha);
+        return registro == null ? null : valorDaColuna(registro, coluna);
+    }
+
+    /**
+     * Calcula o valor exibido em uma célula.
+     *
+     * @param registro registro da linha
+     * @param coluna índice da coluna
+     * @return valor da célula
+     */
+    protected abstract Object valorDaColuna(T registro, int coluna);
+
+    private PageRequest pedido(PageCursor depoisDe) {
+        return new PageRequest(tamanhoDaPagina, colunaDeOrdenacao, sentido, depoisDe);
+    }
+
+    private void solicitar(int numero) {
+        if (falhou || !pendentes.add(numero)) {
+            return;
+        }
+        pendentes.removeIf(outra -> Math.abs(outra - numero) > maxPaginas);
+
+        int geracaoDoPedido = geracao;
+        PageRequest semCursor = pedido(null);
+        submeter(() -> {
+            if (geracaoDoPedido != geracao || !pendentes.contains(numero)) {
+                return () -> { };
+            }
+            PageCursor inicio = cursores.get(numero);
+            Page<T> pagina;
+            if (numero == 0) {
+                pagina = fonte.pagina(semCursor);
+            } else if (inicio != null) {
+                pagina = fonte.pagina(new PageRequest(tamanhoDaPagina, semCursor.getSortColumn(),
+                        semCursor.getDirection(), inicio));
+            } else {
+                pagina = fonte.paginaNaPosicao(semCursor, numero * tamanhoDaPagina);
+            }
+            return () -> {
+                pendentes.remove(numero);
+                if (geracaoDoPedido != geracao) {
+                    return;
+                }
+                guardar(numero, pagina);
+                int primeira = numero * tamanhoDaPagina;
+                int ultima = Math.min(total, primeira + tamanhoDaPagina) - 1;
+                if (ultima >= primeira) {
+                    fireTableRowsUpdated(primeira, ultima);
+                }
+            };
+        });
+    }
+
+    private void aplicarRecarga(int recarga, int quantidade, List<T> encontrados, Page<T> primeira) {
+        if (recarga != recargas) {
+            return;
+        }
+        geracao++;
+        paginas.invalidateAll();
+        cursores.clear();
+        pendentes.clear();
+        total = quantidade;
+        filtrados = encontrados == null ? null : Collections.unmodifiableList(encontrados);
+        if (primeira != null) {
+            guardar(0, primeira);
+        }
+        fireTableDataChanged();
+    }
+
+    private void guardar(int numero, Page<T> pagina) {
+        paginas.put(numero, Collections.unmodifiableList(pagina.getItems()));
+        if (pagina.getNextCursor() != null) {
+            cursores.put(numero + 1, pagina.getNextCursor());
+        }
+    }
+
+    /**
+     * Executa a busca fora da <i>thread</i> de eventos e aplica o resultado
+     * nela; a busca devolve a ação que atualiza o modelo.
+     */
+    private void submeter(Busca busca) {
+        Runnable tarefa = () -> {
+            Runnable aplicar;
+            try {
+                aplicar = busca.executar();
+            } catch (RuntimeException e) {
+                aplicar = () -> {
+                    pendentes.clear();
+                    if (!falhou) {
+                        falhou = true;
+                        aoFalhar.accept(e);
+                    }
+                };
+            }
+            Runnable atualizacao = aplicar;
+            SwingUtilities.invokeLater(() -> {
+                emAndamento--;
+                concluidas++;
+                atualizarIndicador();
+                atualizacao.run();
+            });
+        };
+        emAndamento++;
+        iniciadas++;
+        try {
+            executor.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            // modelo encerrado: a tela foi fechada e não há o que atualizar
+            emAndamento--;
+            iniciadas--;
+        }
+        atualizarIndicador();
+    }
+
+    private void atualizarIndicador() {
+        if (emAndamento == 0) {
+            iniciadas = 0;
+            concluidas = 0;
+        }
+        if (indicador != null) {
+            indicador.setMaximum(Math.max(1, iniciadas));
+            indicador.setValue(concluidas);
+            indicador.setString(concluidas + " de " + iniciadas);
+            indicador.setVisible(emAndamento > 0);
+        }
+    }
+
+    private interface Busca {
+        Runnable executar();
+    }
+}
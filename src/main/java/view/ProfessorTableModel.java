@@ -0,0 +1,88 @@
+package view;
+
+import model.ProfessorResumo;
+import repository.Page;
+import repository.PageRequest;
+import service.ProfessorService;
+import java.util.List;
+
+/**
+ * Modelo da tabela de professores da tela {@link GerenciaProfessores}, com
+ * os registros buscados por páginas no {@link ProfessorService}.
+ */
+public class ProfessorTableModel extends PaginadoTableModel<ProfessorResumo> {
+
+    /** Títulos das colunas, na ordem de exibição. */
+    static final String[] COLUNAS = {"ID", "Nome", "Idade", "Campus", "CPF", "Contato", "Título", "Salário"};
+
+    /** Colunas do banco correspondentes a {@link #COLUNAS}, usadas na ordenação. */
+    static final String[] CAMPOS = {"id", "nome", "idade", "campus", "cpf", "contato", "titulo", "salario"};
+
+    /**
+     * Cria o modelo vazio; as linhas aparecem após {@link #recarregar()}.
+     *
+     * @param servico serviço que fornece as páginas de professores
+     */
+    public ProfessorTableModel(ProfessorService servico) {
+        super(fonte(servico), COLUNAS);
+    }
+
+    /**
+     * Adapta o serviço à origem de páginas do modelo.
+     *
+     * @param servico serviço de professores
+     * @return origem das páginas
+     */
+    static Fonte<ProfessorResumo> fonte(ProfessorService servico) {
+        return new Fonte<ProfessorResumo>() {
+            @Override
+            public int contar() {
+                return servico.contar();
+            }
+
+            @Override
+            public Page<ProfessorResumo> pagina(PageRequest pedido) {
+                return servico.listarPaginaDeResumos(pedido);
+            }
+
+            @Override
+            public Page<ProfessorResumo> paginaNaPosicao(PageRequest pedido, int posicao) {
+                return servico.listarPaginaDeResumos(pedido, posicao);
+            }
+
+            @Override
+            public List<ProfessorResumo> filtrar(String consulta, int limite) {
+                return servico.filtrarPorNome(consulta, limite);
+            }
+        };
+    }
+
+    @Override
+    public String getCampoDaColuna(int coluna) {
+        return CAMPOS[coluna];
+    }
+
+    @Override
+    protected Object valorDaColuna(ProfessorResumo professor, int coluna) {
+        switch (coluna) {
+            case 0:
+                return professor.getId();
+            case 1:
+                return professor.getNome();
+            case 2:
+                return professor.getIdade();
+            case 3:
+                return professor.getCampus();
+            case 4:
+                return professor.getCpf();
+            case 5:
+                return professor.getContato();
+            case 6:
+                return professor.getTitulo();
+            case 7:
+                return "R$" + professor.getSalario() + ".00";
+            default:
+                throw new IndexOutOfBoundsException("Coluna inválida: " + coluna);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package benchmark;
+
+import db.ConnectionFactory;
+import model.Aluno;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import repository.AlunoRepository;
+import repository.AlunoRepositoryImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a carga de alunos com <code>save</code> em laço e com
+ * <code>saveAll</code> em lote, usando um banco temporário.
+ *
+ * <p>Execução: <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.filter=BatchInsert</code></p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    @Param({"10000"})
+    public int quantidade;
+
+    private AlunoRepository repository;
+    private List<Aluno> alunos;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        File arquivo = File.createTempFile("bench-batch", ".db");
+        arquivo.deleteOnExit();
+        System.setProperty("db.url", "jdbc:sqlite:" + arquivo.getAbsolutePath());
+        repository = new AlunoRepositoryImpl();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws SQLException {
+        try (Connection conn = ConnectionFactory.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM tb_alunos");
+        }
+        alunos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            alunos.add(new Aluno("Curso " + (i % 20), 1 + i % 10, 0, "Aluno " + i, 18 + i % 40));
+        }
+    }
+
+    @Benchmark
+    public int saveEmLaco() {
+        int salvos = 0;
+        for (Aluno aluno : alunos) {
+            if (repository.save(aluno)) {
+                salvos++;
+            }
+        }
+        return salvos;
+    }
+
+    @Benchmark
+    public int saveAllEmLote() {
+        return repository.saveAll(alunos).size();
+    }
+}
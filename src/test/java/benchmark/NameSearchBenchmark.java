@@ -0,0 +1,105 @@
+package benchmark;
+
+import db.ConnectionFactory;
+import model.Aluno;
+import model.AlunoResumo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import repository.AlunoRepository;
+import repository.AlunoRepositoryImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a busca de alunos por parte do nome usando o índice FTS5
+ * (<code>searchByName</code>) com a varredura por <code>LIKE '%...%'</code>,
+ * em um banco temporário com muitos registros. A consulta combina um
+ * prenome comum com um termo raro, como ocorre ao procurar uma pessoa
+ * específica. <code>filtroIncremental</code> mede o filtro das telas
+ * (<code>filterByName</code>) com um prefixo curto, o caso mais caro ao
+ * digitar.
+ *
+ * <p>Execução: <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.filter=NameSearch</code></p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final String[] PRENOMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gustavo",
+        "Helena", "Igor", "Júlia", "Lucas", "Marina", "Nicolas", "Otávio", "Paula", "Rafael"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Pereira", "Costa", "Rodrigues",
+        "Almeida", "Nascimento", "Lima", "Araújo", "Fernandes", "Carvalho", "Gomes", "Martins", "Rocha"};
+
+    @Param({"1000000"})
+    public int quantidade;
+
+    private AlunoRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        File arquivo = File.createTempFile("bench-busca", ".db");
+        arquivo.deleteOnExit();
+        System.setProperty("db.url", "jdbc:sqlite:" + arquivo.getAbsolutePath());
+        repository = new AlunoRepositoryImpl();
+
+        List<Aluno> lote = new ArrayList<>(10000);
+        for (int i = 0; i < quantidade; i++) {
+            String nome = PRENOMES[i % PRENOMES.length] + " " + SOBRENOMES[(i / 7) % SOBRENOMES.length]
+                    + " " + SOBRENOMES[(i / 131) % SOBRENOMES.length] + " " + i;
+            lote.add(new Aluno("Curso " + (i % 20), 1 + i % 10, 0, nome, 18 + i % 40));
+            if (lote.size() == 10000) {
+                repository.saveAll(lote);
+                lote.clear();
+            }
+        }
+        repository.saveAll(lote);
+    }
+
+    @Benchmark
+    public List<AlunoResumo> buscaTextual() {
+        return repository.searchByName("julia 4242", 50);
+    }
+
+    @Benchmark
+    public List<AlunoResumo> filtroIncremental() {
+        return repository.filterByName("ju", 500);
+    }
+
+    @Benchmark
+    public int buscaComLike() throws SQLException {
+        int encontrados = 0;
+        try (Connection conn = ConnectionFactory.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT id, nome FROM tb_alunos WHERE nome LIKE ? AND nome LIKE ? LIMIT 50")) {
+            stmt.setString(1, "%Júlia%");
+            stmt.setString(2, "%4242%");
+            try (ResultSet res = stmt.executeQuery()) {
+                while (res.next()) {
+                    encontrados++;
+                }
+            }
+        }
+        return encontrados;
+    }
+}
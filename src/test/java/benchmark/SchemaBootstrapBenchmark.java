@@ -0,0 +1,125 @@
+package benchmark;
+
+import db.ConnectionPool;
+import db.PoolConfig;
+import db.SchemaManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo por chamada de um <code>findById</code> com e sem a DDL que
+ * a antiga <code>ConnectionFactory.initializeTables</code> executava a cada
+ * conexão.
+ *
+ * <ul>
+ *   <li>{@link #conexaoNovaComDdl()} – comportamento original: nova conexão,
+ *       dois <code>CREATE TABLE IF NOT EXISTS</code> e a consulta;</li>
+ *   <li>{@link #poolComDdl()} – conexão do pool, mas ainda com a DDL;</li>
+ *   <li>{@link #poolSemDdl()} – comportamento atual: esquema preparado uma
+ *       vez pelo {@link SchemaManager} e apenas a consulta.</li>
+ * </ul>
+ *
+ * <p>Execução: <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.filter=SchemaBootstrap</code></p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaBootstrapBenchmark {
+
+    private static final String CREATE_ALUNOS =
+            "CREATE TABLE IF NOT EXISTS tb_alunos (id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, "
+            + "nome VARCHAR(250), idade INTEGER, curso VARCHAR(45), fase INTEGER)";
+
+    private static final String CREATE_PROFESSORES =
+            "CREATE TABLE IF NOT EXISTS tb_professores (id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT, "
+            + "nome VARCHAR(250), idade INTEGER, campus VARCHAR(45), cpf VARCHAR(14), "
+            + "contato VARCHAR(16), titulo VARCHAR(45), salario REAL)";
+
+    private static final String FIND_BY_ID = "SELECT * FROM tb_alunos WHERE id = ?";
+
+    private File arquivo;
+    private String url;
+    private ConnectionPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        arquivo = File.createTempFile("bench-schema", ".db");
+        url = "jdbc:sqlite:" + arquivo.getAbsolutePath();
+        SchemaManager.padrao().migrate(url);
+
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO tb_alunos(nome, idade, curso, fase) VALUES('Aluno', 20, 'Curso', 1)");
+        }
+
+        pool = new ConnectionPool(url, new PoolConfig(1, 1, 1000, 0, false, 1), null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+        arquivo.delete();
+    }
+
+    @Benchmark
+    public int conexaoNovaComDdl() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url)) {
+            executarDdl(conn);
+            return buscarPorId(conn);
+        }
+    }
+
+    @Benchmark
+    public int poolComDdl() throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            executarDdl(conn);
+            return buscarPorId(conn);
+        }
+    }
+
+    @Benchmark
+    public int poolSemDdl() throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            return buscarPorId(conn);
+        }
+    }
+
+    private static void executarDdl(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(CREATE_ALUNOS);
+            stmt.execute(CREATE_PROFESSORES);
+        }
+    }
+
+    private static int buscarPorId(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(FIND_BY_ID)) {
+            stmt.setInt(1, 1);
+            try (ResultSet res = stmt.executeQuery()) {
+                return res.next() ? res.getInt("idade") : -1;
+            }
+        }
+    }
+}
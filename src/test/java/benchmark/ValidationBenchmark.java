@@ -0,0 +1,142 @@
+package benchmark;
+
+import model.Aluno;
+import model.Professor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.exception.ValidacaoException;
+import service.validacao.CodigoViolacao;
+import service.validacao.RegrasAluno;
+import service.validacao.RegrasProfessor;
+import service.validacao.Validador;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara as regras pré-montadas de <code>service.validacao</code> com a
+ * validação anterior dos serviços (<code>String.matches</code>,
+ * <code>trim()</code> e <code>StringBuilder</code> por campo), reproduzida
+ * aqui sem alterações. A consulta de CPF ao banco fica de fora nos dois lados.
+ *
+ * <p>Execução: <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.filter=Validation</code>
+ * (acrescente <code>-prof gc</code> aos argumentos do JMH para ver as alocações).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final Aluno aluno = new Aluno("Ciências da Computação", 3, 0, "João da Silva Pereira", 20);
+    private final Professor professor = new Professor("Campus Tubarão", "123.456.789-01", "(48) 99999-8888",
+            "Doutor", 8500, 0, "Maria Fernanda Souza", 45);
+    private final Validador<Professor> regrasProfessor = RegrasProfessor.validador(null);
+
+    @Benchmark
+    public CodigoViolacao alunoComRegras() {
+        return RegrasAluno.VALIDADOR.primeiraViolacao(aluno);
+    }
+
+    @Benchmark
+    public Aluno alunoAnterior() {
+        validarAlunoAnterior(aluno);
+        return aluno;
+    }
+
+    @Benchmark
+    public CodigoViolacao professorComRegras() {
+        return regrasProfessor.primeiraViolacao(professor);
+    }
+
+    @Benchmark
+    public Professor professorAnterior() {
+        validarProfessorAnterior(professor);
+        return professor;
+    }
+
+    private static void validarAlunoAnterior(Aluno aluno) {
+        if (aluno == null) {
+            throw new ValidacaoException("Aluno não pode ser nulo.");
+        }
+        if (aluno.getNome() == null || aluno.getNome().trim().isEmpty()) {
+            throw new ValidacaoException("Nome é obrigatório.");
+        }
+        if (aluno.getNome().length() < 2) {
+            throw new ValidacaoException("Nome deve conter ao menos 2 caracteres.");
+        }
+        if (!aluno.getNome().matches(".*\\p{L}.*")) {
+            throw new ValidacaoException("Nome é inválido (deve conter ao menos uma letra).");
+        }
+        if (aluno.getIdade() < 11) {
+            throw new ValidacaoException("Idade inválida. Deve ser maior ou igual a 11 anos.");
+        }
+        if (aluno.getCurso() == null || aluno.getCurso().trim().isEmpty() || aluno.getCurso().equals("-")) {
+            throw new ValidacaoException("Curso é obrigatório.");
+        }
+        if (aluno.getFase() < 1 || aluno.getFase() > 10) {
+            throw new ValidacaoException("Fase deve estar entre 1 e 10.");
+        }
+    }
+
+    private static String validarFormatadoAnterior(String input) {
+        if (input == null) {
+            return "";
+        }
+        StringBuilder str = new StringBuilder();
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if ("0123456789".indexOf(c) >= 0) {
+                str.append(c);
+            }
+        }
+        return str.toString();
+    }
+
+    private static void validarProfessorAnterior(Professor professor) {
+        if (professor == null) {
+            throw new ValidacaoException("Professor não pode ser nulo.");
+        }
+        if (professor.getNome() == null || professor.getNome().trim().isEmpty()) {
+            throw new ValidacaoException("Nome é obrigatório.");
+        }
+        if (professor.getNome().length() < 2) {
+            throw new ValidacaoException("Nome deve conter ao menos 2 caracteres.");
+        }
+        if (professor.getCampus() == null || professor.getCampus().trim().isEmpty() || professor.getCampus().equals("-")) {
+            throw new ValidacaoException("Campus é obrigatório.");
+        }
+        if (professor.getCpf() == null || professor.getCpf().trim().isEmpty()) {
+            throw new ValidacaoException("CPF é obrigatório.");
+        }
+        if (validarFormatadoAnterior(professor.getCpf()).length() != 11) {
+            throw new ValidacaoException("O campo CPF deve possuir 11 caracteres numéricos.");
+        }
+        if (professor.getContato() == null || professor.getContato().trim().isEmpty()) {
+            throw new ValidacaoException("Contato é obrigatório.");
+        }
+        if (validarFormatadoAnterior(professor.getContato()).length() != 11) {
+            throw new ValidacaoException("O campo contato deve possuir 11 caracteres numéricos.");
+        }
+        if (professor.getIdade() < 11) {
+            throw new ValidacaoException("Idade inválida. Deve ser maior ou igual a 11 anos.");
+        }
+        if (professor.getSalario() <= 0) {
+            throw new ValidacaoException("Salário deve ser maior que zero.");
+        }
+        if (validarFormatadoAnterior(String.valueOf((int) professor.getSalario())).length() < 4) {
+            throw new ValidacaoException("O campo salário deve possuir no mínimo 4 caracteres numéricos.");
+        }
+        if (professor.getTitulo() == null || professor.getTitulo().trim().isEmpty() || professor.getTitulo().equals("-")) {
+            throw new ValidacaoException("Título é obrigatório.");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes de Integração - ConnectionPool")
+class ConnectionPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String url;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:sqlite:" + tempDir.resolve("pool.db");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 1: Fechar a conexão emprestada - deve devolvê-la ao pool e reaproveitá-la")
+    void testClose_DeveDevolverConexaoAoPool() throws SQLException {
+        AtomicInteger inicializacoes = new AtomicInteger();
+        pool = new ConnectionPool(url, new PoolConfig(2, 0, 1000, 0, true, 1),
+                conn -> inicializacoes.incrementAndGet());
+
+        for (int i = 0; i < 5; i++) {
+            try (Connection conn = pool.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("SELECT 1");
+            }
+        }
+
+        PoolStats stats = pool.getStats();
+        assertEquals(1, stats.getCreated());
+        assertEquals(5, stats.getBorrowed());
+        assertEquals(0, stats.getActive());
+        assertEquals(1, stats.getIdle());
+        assertEquals(1, inicializacoes.get());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Pool esgotado - deve lançar SQLException após o tempo de espera")
+    void testGetConnection_PoolEsgotado_DeveLancarExcecao() throws SQLException {
+        pool = new ConnectionPool(url, new PoolConfig(1, 0, 50, 0, true, 1), null);
+
+        try (Connection ignored = pool.getConnection()) {
+            SQLException exception = assertThrows(SQLException.class, () -> pool.getConnection());
+            assertTrue(exception.getMessage().contains("Tempo esgotado"));
+        }
+
+        assertEquals(1, pool.getStats().getTimeouts());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Usar conexão após devolvê-la - deve lançar SQLException")
+    void testConexaoDevolvida_NaoPodeSerUsada() throws SQLException {
+        pool = new ConnectionPool(url, new PoolConfig(1, 0, 1000, 0, true, 1), null);
+
+        Connection conn = pool.getConnection();
+        conn.close();
+
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+    }
+
+    @Test
+    @DisplayName("Caso 4: Conexão física fechada - deve ser descartada e substituída por uma nova")
+    void testGetConnection_ConexaoFisicaFechada_DeveSerSubstituida() throws SQLException {
+        pool = new ConnectionPool(url, new PoolConfig(1, 0, 1000, 0, true, 1), null);
+
+        Connection conn = pool.getConnection();
+        conn.unwrap(Connection.class).close();
+        conn.close();
+
+        try (Connection nova = pool.getConnection()) {
+            assertFalse(nova.isClosed());
+        }
+
+        PoolStats stats = pool.getStats();
+        assertEquals(2, stats.getCreated());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Conexões ociosas expiradas - devem ser removidas preservando o mínimo")
+    void testEvictIdle_DeveRemoverConexoesExpiradas() throws Exception {
+        pool = new ConnectionPool(url, new PoolConfig(3, 1, 1000, 1, true, 1), null);
+
+        Connection c1 = pool.getConnection();
+        Connection c2 = pool.getConnection();
+        Connection c3 = pool.getConnection();
+        c1.close();
+        c2.close();
+        c3.close();
+        Thread.sleep(10);
+
+        int removidas = pool.evictIdle();
+
+        assertEquals(2, removidas);
+        assertEquals(1, pool.getStats().getIdle());
+    }
+
+    @Test
+    @DisplayName("Caso 6: Transação pendente ao devolver - deve ser desfeita")
+    void testRelease_TransacaoPendente_DeveSerDesfeita() throws SQLException {
+        pool = new ConnectionPool(url, new PoolConfig(1, 0, 1000, 0, true, 1), null);
+
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE t (v INTEGER)");
+        }
+
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.execute("INSERT INTO t VALUES (1)");
+        }
+
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             java.sql.ResultSet res = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            assertTrue(conn.getAutoCommit());
+            assertTrue(res.next());
+            assertEquals(0, res.getInt(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 7: Empréstimos concorrentes - nunca devem ultrapassar o tamanho máximo")
+    void testGetConnection_Concorrente_RespeitaLimite() throws Exception {
+        pool = new ConnectionPool(url, new PoolConfig(3, 0, 5000, 0, true, 1), null);
+        AtomicInteger emUso = new AtomicInteger();
+        AtomicInteger pico = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            tarefas.add(executor.submit(() -> {
+                try (Connection ignored = pool.getConnection()) {
+                    int atual = emUso.incrementAndGet();
+                    pico.accumulateAndGet(atual, Math::max);
+                    Thread.sleep(2);
+                    emUso.decrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertTrue(pico.get() <= 3);
+        assertTrue(pool.getStats().getCreated() <= 3);
+        assertEquals(40, pool.getStats().getBorrowed());
+    }
+
+    @Test
+    @DisplayName("Caso 8: Configuração com tamanho inválido - deve lançar IllegalArgumentException")
+    void testPoolConfig_TamanhoInvalido_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new PoolConfig(0, 0, 1000, 0, true, 1));
+    }
+}
@@ -0,0 +1,79 @@
+package db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes de Integração - DataVersionProbe")
+class DataVersionProbeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String url;
+    private DataVersionProbe probe;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:sqlite:" + tempDir.resolve("versao.db");
+        executar("CREATE TABLE t (id INTEGER PRIMARY KEY, v INTEGER)");
+        probe = new DataVersionProbe(url, ConnectionInitializer.queryOnly());
+    }
+
+    @AfterEach
+    void tearDown() {
+        probe.close();
+    }
+
+    private void executar(String sql) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 1: Sem escritas - a versão deve permanecer a mesma")
+    void testCurrentVersion_SemEscritas_DevePermanecerIgual() throws SQLException {
+        long antes = probe.currentVersion();
+
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("SELECT COUNT(*) FROM t").close();
+        }
+
+        assertEquals(antes, probe.currentVersion());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Escrita confirmada por outra conexão - a versão deve mudar")
+    void testCurrentVersion_EscritaDeOutraConexao_DeveMudar() throws SQLException {
+        long antes = probe.currentVersion();
+
+        executar("INSERT INTO t (v) VALUES (1)");
+        long depois = probe.currentVersion();
+
+        assertNotEquals(antes, depois);
+        assertEquals(depois, probe.currentVersion());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Conexão reaberta - não deve repetir uma versão anterior")
+    void testCurrentVersion_ConexaoReaberta_NaoDeveRepetirVersao() throws SQLException {
+        long antes = probe.currentVersion();
+
+        probe.close();
+
+        assertNotEquals(antes, probe.currentVersion());
+    }
+}
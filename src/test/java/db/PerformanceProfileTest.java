@@ -0,0 +1,93 @@
+package db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes de Integração - PerformanceProfile")
+class PerformanceProfileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite:" + tempDir.resolve("perfil.db"));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        System.clearProperty("db.profile");
+        System.clearProperty("db.sqlite.cacheSize");
+    }
+
+    private String pragma(String nome) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet res = stmt.executeQuery("PRAGMA " + nome)) {
+            assertTrue(res.next());
+            return res.getString(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 1: Aplicar perfil balanced - deve configurar WAL, NORMAL, cache, temp_store e busy_timeout")
+    void testInitialize_PerfilBalanced_DeveAplicarPragmas() throws SQLException {
+        PerformanceProfile.BALANCED.initialize(connection);
+
+        assertEquals("wal", pragma("journal_mode"));
+        assertEquals("1", pragma("synchronous"));
+        assertEquals("-16000", pragma("cache_size"));
+        assertEquals("2", pragma("temp_store"));
+        assertEquals("5000", pragma("busy_timeout"));
+    }
+
+    @Test
+    @DisplayName("Caso 2: Aplicar perfil durable - deve usar synchronous FULL")
+    void testInitialize_PerfilDurable_DeveUsarSynchronousFull() throws SQLException {
+        PerformanceProfile.DURABLE.initialize(connection);
+
+        assertEquals("wal", pragma("journal_mode"));
+        assertEquals("2", pragma("synchronous"));
+    }
+
+    @Test
+    @DisplayName("Caso 3: Buscar perfis pelo nome - deve aceitar os três nomes pré-definidos")
+    void testPorNome_NomesConhecidos_DeveRetornarPerfis() {
+        assertSame(PerformanceProfile.DURABLE, PerformanceProfile.porNome("durable"));
+        assertSame(PerformanceProfile.BALANCED, PerformanceProfile.porNome("Balanced"));
+        assertSame(PerformanceProfile.BULK_LOAD, PerformanceProfile.porNome("bulk-load"));
+    }
+
+    @Test
+    @DisplayName("Caso 4: Buscar perfil com nome desconhecido - deve lançar IllegalArgumentException")
+    void testPorNome_NomeDesconhecido_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> PerformanceProfile.porNome("turbo"));
+    }
+
+    @Test
+    @DisplayName("Caso 5: Propriedades de sistema - devem escolher o perfil e sobrescrever valores")
+    void testFromSystemProperties_DeveAplicarSobrescritas() {
+        System.setProperty("db.profile", "bulk-load");
+        System.setProperty("db.sqlite.cacheSize", "-1000");
+
+        PerformanceProfile perfil = PerformanceProfile.fromSystemProperties();
+
+        assertEquals("bulk-load", perfil.getName());
+        assertEquals(PerformanceProfile.Synchronous.OFF, perfil.getSynchronous());
+        assertEquals(-1000, perfil.getCacheSize());
+    }
+}
@@ -0,0 +1,113 @@
+package db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes de Integração - SchemaManager")
+class SchemaManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite:" + tempDir.resolve("schema.db"));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private boolean tabelaExiste(String nome) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet res = stmt.executeQuery(
+                     "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = '" + nome + "'")) {
+            return res.next();
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 1: Banco vazio - deve criar as tabelas e registrar a última versão")
+    void testMigrate_BancoVazio_DeveCriarTabelasERegistrarVersao() throws SQLException {
+        SchemaManager manager = SchemaManager.padrao();
+
+        int versao = manager.migrate(connection);
+
+        assertEquals(manager.getLatestVersion(), versao);
+        assertEquals(manager.getLatestVersion(), SchemaManager.readVersion(connection));
+        assertTrue(tabelaExiste("tb_alunos"));
+        assertTrue(tabelaExiste("tb_professores"));
+    }
+
+    @Test
+    @DisplayName("Caso 2: Executar duas vezes - a segunda execução não deve aplicar migrações")
+    void testMigrate_SegundaExecucao_NaoReaplicaMigracoes() throws SQLException {
+        SchemaManager manager = new SchemaManager(Arrays.asList(
+                new Migration(1, "tabela", "CREATE TABLE t (v INTEGER)"),
+                new Migration(2, "dado", "INSERT INTO t VALUES (1)")));
+
+        manager.migrate(connection);
+        manager.migrate(connection);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet res = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            assertTrue(res.next());
+            assertEquals(1, res.getInt(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 3: Banco em versão intermediária - deve aplicar apenas as pendentes")
+    void testMigrate_VersaoIntermediaria_AplicaApenasPendentes() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE t (v INTEGER)");
+            stmt.execute("PRAGMA user_version = 1");
+        }
+        SchemaManager manager = new SchemaManager(Arrays.asList(
+                new Migration(1, "tabela", "CREATE TABLE t (v INTEGER)"),
+                new Migration(2, "coluna", "ALTER TABLE t ADD COLUMN w INTEGER")));
+
+        int versao = manager.migrate(connection);
+
+        assertEquals(2, versao);
+    }
+
+    @Test
+    @DisplayName("Caso 4: Migração com erro - deve desfazer a transação e manter a versão anterior")
+    void testMigrate_MigracaoComErro_DeveDesfazerTransacao() throws SQLException {
+        SchemaManager manager = new SchemaManager(Arrays.asList(
+                new Migration(1, "tabela", "CREATE TABLE t (v INTEGER)"),
+                new Migration(2, "quebrada", "CREATE TABLE u (v INTEGER)", "INSERT INTO inexistente VALUES (1)")));
+
+        SQLException exception = assertThrows(SQLException.class, () -> manager.migrate(connection));
+
+        assertTrue(exception.getMessage().contains("migração 2"));
+        assertEquals(1, SchemaManager.readVersion(connection));
+        assertTrue(tabelaExiste("t"));
+        assertFalse(tabelaExiste("u"));
+    }
+
+    @Test
+    @DisplayName("Caso 5: Versões repetidas - deve lançar IllegalArgumentException")
+    void testConstrutor_VersoesRepetidas_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaManager(Arrays.asList(
+                new Migration(1, "a", "SELECT 1"),
+                new Migration(1, "b", "SELECT 1"))));
+    }
+}
@@ -0,0 +1,134 @@
+package db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes de Integração - SingleWriter")
+class SingleWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String url;
+    private SingleWriter writer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:sqlite:" + tempDir.resolve("writer.db");
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE t (id INTEGER PRIMARY KEY AUTOINCREMENT, v INTEGER)");
+        }
+        writer = new SingleWriter(url, PerformanceProfile.BALANCED, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private int contar() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement();
+             ResultSet res = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            res.next();
+            return res.getInt(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 1: Escritas concorrentes - devem ser serializadas sem SQLITE_BUSY")
+    void testExecute_EscritasConcorrentes_DevemSerSerializadas() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int valor = i;
+            tarefas.add(executor.submit(() -> writer.execute(conn -> {
+                try (Statement stmt = conn.createStatement()) {
+                    return stmt.executeUpdate("INSERT INTO t(v) VALUES (" + valor + ")");
+                }
+            })));
+        }
+        for (Future<Integer> tarefa : tarefas) {
+            assertEquals(1, tarefa.get());
+        }
+        executor.shutdown();
+
+        assertEquals(200, contar());
+        assertEquals(200, writer.getCommittedCount());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Trabalho com erro - deve desfazer a transação e propagar a SQLException")
+    void testExecute_TrabalhoComErro_DeveDesfazerTransacao() throws SQLException {
+        assertThrows(SQLException.class, () -> writer.execute(conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("INSERT INTO t(v) VALUES (1)");
+                stmt.executeUpdate("INSERT INTO inexistente VALUES (1)");
+            }
+            return null;
+        }));
+
+        assertEquals(0, contar());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Escrita aninhada - deve executar na mesma transação sem travar")
+    void testExecute_EscritaAninhada_DeveExecutarNaMesmaTransacao() throws SQLException {
+        int total = writer.execute(conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("INSERT INTO t(v) VALUES (1)");
+            }
+            return writer.execute(interna -> {
+                try (Statement stmt = interna.createStatement()) {
+                    return stmt.executeUpdate("INSERT INTO t(v) VALUES (2)") + 1;
+                }
+            });
+        });
+
+        assertEquals(2, total);
+        assertEquals(2, contar());
+        assertEquals(1, writer.getCommittedCount());
+    }
+
+    @Test
+    @DisplayName("Caso 4: Escritor encerrado - deve recusar novas escritas")
+    void testExecute_EscritorEncerrado_DeveRecusar() {
+        writer.close();
+
+        assertThrows(SQLException.class, () -> writer.execute(conn -> null));
+    }
+
+    @Test
+    @DisplayName("Caso 5: Conexão de leitura - deve recusar escritas com query_only")
+    void testQueryOnly_ConexaoDeLeitura_DeveRecusarEscrita() throws SQLException {
+        ConnectionPool leitores = new ConnectionPool(url, new PoolConfig(2, 0, 1000, 0, true, 1),
+                PerformanceProfile.BALANCED.andThen(ConnectionInitializer.queryOnly()));
+        try (Connection conn = leitores.getConnection();
+             Statement stmt = conn.createStatement()) {
+            assertThrows(SQLException.class, () -> stmt.executeUpdate("INSERT INTO t(v) VALUES (1)"));
+            try (ResultSet res = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+                assertTrue(res.next());
+            }
+        } finally {
+            leitores.close();
+        }
+    }
+}
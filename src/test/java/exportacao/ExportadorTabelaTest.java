@@ -0,0 +1,167 @@
+package exportacao;
+
+import db.ConnectionFactory;
+import model.Aluno;
+import model.Professor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repository.AlunoRepository;
+import repository.AlunoRepositoryImpl;
+import repository.ProfessorRepository;
+import repository.ProfessorRepositoryImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes de Integração - ExportadorTabela")
+class ExportadorTabelaTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AlunoRepository alunoRepository;
+    private ProfessorRepository professorRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        alunoRepository = new AlunoRepositoryImpl();
+        professorRepository = new ProfessorRepositoryImpl();
+        limparTabelas();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        limparTabelas();
+    }
+
+    private void limparTabelas() throws SQLException {
+        try (Connection conn = ConnectionFactory.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM tb_alunos");
+            stmt.execute("DELETE FROM tb_professores");
+        }
+    }
+
+    private static String exportarParaTexto(ExportadorTabela exportador) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportador.exportar(saida);
+        return new String(saida.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Caso 1: Exportar alunos em CSV - deve escrever cabeçalho e aspas apenas onde necessário")
+    void testExportar_AlunosEmCsv_DeveEscreverCabecalhoEAspas() throws IOException {
+        alunoRepository.saveAll(Arrays.asList(new Aluno("Direito", 3, 0, "Silva, Ana", 20),
+                new Aluno("Artes \"Visuais\"", 1, 0, "Bruno", 19)));
+
+        String csv = exportarParaTexto(ExportadorTabela.alunos().comColunas("NOME", "curso", "fase"));
+
+        assertEquals("nome,curso,fase\r\n\"Silva, Ana\",Direito,3\r\nBruno,\"Artes \"\"Visuais\"\"\",1\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("Caso 2: Exportar professores em NDJSON - deve escrever um objeto por linha com tipos preservados")
+    void testExportar_ProfessoresEmNdjson_DevePreservarTipos() throws IOException {
+        Professor professor = new Professor("Tubarão", "123.456.789-01", "linha 1\nlinha 2", "Doutor", 8500.5, 0,
+                "Ana \"Prof\" Lima", 40);
+        professorRepository.save(professor);
+
+        String ndjson = exportarParaTexto(ExportadorTabela.professores().comFormato(FormatoExportacao.NDJSON)
+                .comColunas("nome", "idade", "contato", "salario"));
+
+        assertEquals("{\"nome\":\"Ana \\\"Prof\\\" Lima\",\"idade\":40,\"contato\":\"linha 1\\nlinha 2\","
+                + "\"salario\":8500.5}\n", ndjson);
+    }
+
+    @Test
+    @DisplayName("Caso 3: Exportar com gzip para arquivo - deve gerar arquivo compactado e remover o temporário")
+    void testExportar_ComGzip_DeveGerarArquivoCompactado() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            alunoRepository.save(new Aluno("Direito", 1 + i, 0, "Aluno " + i, 18 + i));
+        }
+        Path destino = tempDir.resolve("alunos.csv.gz");
+
+        long registros = ExportadorTabela.alunos().comColunas("nome").comGzip(true).comTamanhoDoBuffer(16)
+                .exportar(destino);
+
+        assertEquals(3, registros);
+        assertFalse(Files.exists(tempDir.resolve("alunos.csv.gz.tmp")));
+        ByteArrayOutputStream descompactado = new ByteArrayOutputStream();
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(destino)))) {
+            byte[] buffer = new byte[1024];
+            int lidos;
+            while ((lidos = entrada.read(buffer)) > 0) {
+                descompactado.write(buffer, 0, lidos);
+            }
+        }
+        assertEquals("nome\r\nAluno 0\r\nAluno 1\r\nAluno 2\r\n",
+                new String(descompactado.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Caso 4: Tabela vazia em CSV - deve escrever apenas o cabeçalho com todas as colunas")
+    void testExportar_TabelaVazia_DeveEscreverApenasCabecalho() throws IOException {
+        ExportadorTabela exportador = ExportadorTabela.professores().comDelimitador(';');
+
+        String csv = exportarParaTexto(exportador);
+
+        assertEquals("id;nome;idade;campus;cpf;contato;titulo;salario\r\n", csv);
+        List<String> colunas = exportador.getColunasDisponiveis();
+        assertEquals(8, colunas.size());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Coluna desconhecida ou repetida - deve lançar IllegalArgumentException")
+    void testComColunas_ColunaInvalida_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comColunas("salario"));
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comColunas("nome; DROP TABLE"));
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comColunas("nome", "Nome"));
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comColunas());
+    }
+
+    @Test
+    @DisplayName("Caso 6: Delimitador de aspas ou quebra de linha - deve lançar IllegalArgumentException")
+    void testComDelimitador_AspasOuQuebraDeLinha_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comDelimitador('"'));
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comDelimitador('\r'));
+        assertThrows(IllegalArgumentException.class, () -> ExportadorTabela.alunos().comDelimitador('\n'));
+        assertDoesNotThrow(() -> ExportadorTabela.alunos().comDelimitador(';'));
+    }
+
+    @Test
+    @DisplayName("Caso 7: Falha ao escrever o cabeçalho gzip - deve fechar o fluxo recebido")
+    void testExportar_FalhaNoCabecalhoGzip_DeveFecharSaida() {
+        boolean[] fechado = {false};
+        OutputStream saida = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disco cheio");
+            }
+
+            @Override
+            public void close() {
+                fechado[0] = true;
+            }
+        };
+
+        assertThrows(IOException.class, () -> ExportadorTabela.alunos().comGzip(true).comTamanhoDoBuffer(1)
+                .exportar(saida));
+        assertTrue(fechado[0]);
+    }
+}
@@ -0,0 +1,154 @@
+package importacao;
+
+import model.Aluno;
+import model.Professor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import service.AlunoService;
+import service.ProfessorService;
+import service.RelatorioImportacao;
+import service.exception.ValidacaoException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - ImportadorCsv")
+class ImportadorCsvTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private AlunoService alunoService;
+
+    private final List<Aluno> gravados = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(alunoService.salvarTodos(any())).thenAnswer(invocacao -> {
+            List<Aluno> lote = invocacao.getArgument(0);
+            List<Aluno> salvos = new ArrayList<>();
+            List<RelatorioImportacao.Rejeicao<Aluno>> rejeitados = new ArrayList<>();
+            for (int i = 0; i < lote.size(); i++) {
+                if (lote.get(i).getFase() > 10) {
+                    rejeitados.add(new RelatorioImportacao.Rejeicao<>(i, lote.get(i), "Fase deve estar entre 1 e 10."));
+                } else {
+                    salvos.add(lote.get(i));
+                }
+            }
+            gravados.addAll(salvos);
+            return new RelatorioImportacao<>(lote.size(), salvos, rejeitados);
+        });
+    }
+
+    private static String csvDeAlunos(int quantidade) {
+        StringBuilder csv = new StringBuilder("Nome;Idade;Curso;Fase\n");
+        for (int i = 1; i <= quantidade; i++) {
+            csv.append("Aluno ").append(i).append(';').append(18 + i % 40).append(";Direito;")
+                    .append(1 + i % 10).append('\n');
+        }
+        return csv.toString();
+    }
+
+    @Test
+    @DisplayName("Caso 1: Importar alunos - deve gravar em lotes e relatar recusas com o número da linha")
+    void testImportar_Alunos_DeveGravarEmLotesERelatarRecusas() throws IOException {
+        String csv = "fase;curso;nome;idade\n3;Direito;Ana Lima;20\n2;Direito;Bruno;vinte\n11;Direito;Carla;22\n"
+                + "1;Direito;Diego;23\n";
+        List<long[]> andamento = new ArrayList<>();
+
+        ResultadoImportacao resultado = ImportadorCsv.alunos(alunoService).comDelimitador(';').comTamanhoDoLote(2)
+                .comProgresso((processados, gravadosAteAgora, rejeitados) ->
+                        andamento.add(new long[]{processados, gravadosAteAgora, rejeitados}))
+                .importar(new StringReader(csv));
+
+        assertEquals(2, resultado.getGravados());
+        assertEquals(2, resultado.getRejeitados());
+        assertEquals(3, resultado.getErros().get(0).getLinha());
+        assertTrue(resultado.getErros().get(0).getMensagem().contains("idade"));
+        assertEquals(4, resultado.getErros().get(1).getLinha());
+        assertEquals("Fase deve estar entre 1 e 10.", resultado.getErros().get(1).getMensagem());
+        assertEquals("Ana Lima", gravados.get(0).getNome());
+        assertEquals(3, gravados.get(0).getFase());
+        assertEquals(2, andamento.size());
+        assertArrayEquals(new long[]{4, 2, 2}, andamento.get(1));
+    }
+
+    @Test
+    @DisplayName("Caso 2: Cabeçalho sem coluna obrigatória - deve lançar ValidacaoException")
+    void testImportar_CabecalhoIncompleto_DeveLancarExcecao() {
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+                () -> ImportadorCsv.alunos(alunoService).importar(new StringReader("nome,idade,curso\nAna,20,Direito\n")));
+
+        assertTrue(exception.getMessage().contains("fase"));
+        verifyNoInteractions(alunoService);
+    }
+
+    @Test
+    @DisplayName("Caso 3: Importação interrompida - deve retomar após os registros do checkpoint")
+    void testImportar_ComCheckpoint_DeveRetomarDeOndeParou() throws IOException {
+        Path arquivo = tempDir.resolve("alunos.csv");
+        Files.write(arquivo, csvDeAlunos(10).getBytes("UTF-8"));
+        Path checkpoint = tempDir.resolve("alunos.checkpoint");
+        new CheckpointImportacao(checkpoint).gravar(6);
+
+        ResultadoImportacao resultado = ImportadorCsv.alunos(alunoService).comDelimitador(';').comTamanhoDoLote(3)
+                .comCheckpoint(checkpoint).importar(arquivo);
+
+        assertEquals(6, resultado.getIgnorados());
+        assertEquals(4, resultado.getGravados());
+        assertEquals("Aluno 7", gravados.get(0).getNome());
+        assertFalse(Files.exists(checkpoint));
+    }
+
+    @Test
+    @DisplayName("Caso 4: Falha ao gravar um lote - deve interromper e manter o checkpoint do último lote gravado")
+    void testImportar_FalhaNaGravacao_DeveManterCheckpoint() throws IOException {
+        Path checkpoint = tempDir.resolve("falha.checkpoint");
+        doReturn(new RelatorioImportacao<>(2, new ArrayList<>(), Collections.emptyList()))
+                .doThrow(new IllegalStateException("banco indisponível"))
+                .when(alunoService).salvarTodos(any());
+
+        assertThrows(IllegalStateException.class, () -> ImportadorCsv.alunos(alunoService).comDelimitador(';')
+                .comTamanhoDoLote(2).comLotesPendentes(1).comCheckpoint(checkpoint)
+                .importar(new StringReader(csvDeAlunos(100))));
+
+        assertEquals(2, new CheckpointImportacao(checkpoint).ler());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Importar professores - deve converter salário com vírgula decimal")
+    void testImportar_Professores_DeveConverterSalario() throws IOException {
+        ProfessorService professorService = mock(ProfessorService.class);
+        List<Professor> recebidos = new ArrayList<>();
+        when(professorService.salvarTodos(any())).thenAnswer(invocacao -> {
+            List<Professor> lote = invocacao.getArgument(0);
+            recebidos.addAll(lote);
+            return new RelatorioImportacao<>(lote.size(), lote, Collections.emptyList());
+        });
+        String csv = "nome;idade;campus;cpf;contato;titulo;salario\n"
+                + "Ana Lima;40;Tubarão;123.456.789-01;(48) 99999-8888;Doutor;\"8.500,50\"\n";
+
+        ResultadoImportacao resultado = ImportadorCsv.professores(professorService).comDelimitador(';')
+                .importar(new StringReader(csv));
+
+        assertEquals(1, resultado.getGravados());
+        assertEquals(8500.50, recebidos.get(0).getSalario(), 0.001);
+        assertEquals("123.456.789-01", recebidos.get(0).getCpf());
+    }
+}
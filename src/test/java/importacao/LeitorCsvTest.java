@@ -0,0 +1,71 @@
+package importacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - LeitorCsv")
+class LeitorCsvTest {
+
+    private static List<String[]> lerTudo(String texto, int tamanhoDoBuffer) throws IOException {
+        List<String[]> registros = new ArrayList<>();
+        try (LeitorCsv leitor = new LeitorCsv(new StringReader(texto), ',', tamanhoDoBuffer)) {
+            String[] registro;
+            while ((registro = leitor.proximo()) != null) {
+                registros.add(registro);
+            }
+        }
+        return registros;
+    }
+
+    @Test
+    @DisplayName("Caso 1: Campos simples e entre aspas - devem ser separados conforme a RFC 4180")
+    void testProximo_CamposComAspas_DeveSepararCorretamente() throws IOException {
+        List<String[]> registros = lerTudo("nome,obs\r\n\"Silva, Ana\",\"disse \"\"oi\"\"\"\r\nBruno,\n", 64);
+
+        assertEquals(3, registros.size());
+        assertArrayEquals(new String[]{"Silva, Ana", "disse \"oi\""}, registros.get(1));
+        assertArrayEquals(new String[]{"Bruno", ""}, registros.get(2));
+    }
+
+    @Test
+    @DisplayName("Caso 2: Quebra de linha dentro de aspas - deve manter o campo e contar as linhas")
+    void testProximo_QuebraDeLinhaEntreAspas_DeveContarLinhas() throws IOException {
+        try (LeitorCsv leitor = new LeitorCsv(new StringReader("a,b\n\"linha 1\nlinha 2\",x\n\nfim,y"), ',')) {
+            leitor.proximo();
+            assertArrayEquals(new String[]{"linha 1\nlinha 2", "x"}, leitor.proximo());
+            assertEquals(2, leitor.getLinhaDoRegistro());
+            assertArrayEquals(new String[]{"fim", "y"}, leitor.proximo());
+            assertEquals(5, leitor.getLinhaDoRegistro());
+            assertNull(leitor.proximo());
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 3: Campos maiores que o vetor de leitura - devem ser lidos por inteiro")
+    void testProximo_CampoMaiorQueBuffer_DeveSerLidoPorInteiro() throws IOException {
+        StringBuilder longo = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longo.append("abcdefghij");
+        }
+
+        List<String[]> registros = lerTudo("﻿" + longo + ",\"" + longo + "\"\n" + longo, 7);
+
+        assertEquals(2, registros.size());
+        assertEquals(longo.toString(), registros.get(0)[0]);
+        assertEquals(longo.toString(), registros.get(0)[1]);
+        assertEquals(longo.toString(), registros.get(1)[0]);
+    }
+
+    @Test
+    @DisplayName("Caso 4: Delimitador inválido - deve lançar IllegalArgumentException")
+    void testConstrutor_DelimitadorInvalido_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new LeitorCsv(new StringReader(""), '"'));
+    }
+}
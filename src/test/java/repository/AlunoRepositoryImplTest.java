@@ -2,15 +2,20 @@ package repository;
 
 import db.ConnectionFactory;
 import model.Aluno;
+import model.AlunoResumo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import repository.criteria.AlunoCriteria;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -312,5 +317,330 @@ class AlunoRepositoryImplTest {
         assertNotNull(alunos);
         assertTrue(alunos.size() >= 2);
     }
-}
 
+    @Test
+    @DisplayName("Caso 13: Salvar alunos em lote com lote menor que a coleção - deve retornar IDs na ordem")
+    void testSaveAll_VariosLotes_DeveRetornarIdsNaOrdem() {
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno Lote " + i);
+            aluno.setIdade(18 + i % 10);
+            aluno.setCurso("Curso Lote");
+            aluno.setFase(1 + i % 10);
+            alunos.add(aluno);
+        }
+
+        List<Integer> ids = repository.saveAll(alunos, 10);
+
+        assertEquals(25, ids.size());
+        assertEquals(25, repository.findAll().size());
+        for (int i = 0; i < alunos.size(); i++) {
+            assertEquals(ids.get(i).intValue(), alunos.get(i).getId());
+            assertEquals("Aluno Lote " + i, repository.findById(ids.get(i)).getNome());
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 14: Salvar coleção vazia em lote - deve retornar lista vazia")
+    void testSaveAll_ColecaoVazia_DeveRetornarListaVazia() {
+        List<Integer> ids = repository.saveAll(new ArrayList<>());
+
+        assertTrue(ids.isEmpty());
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caso 15: Salvar em lote com tamanho de lote inválido - deve lançar IllegalArgumentException")
+    void testSaveAll_LoteInvalido_DeveLancarExcecao() {
+        Aluno aluno = new Aluno("Curso", 1, 0, "Aluno", 20);
+
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(Arrays.asList(aluno), 0));
+    }
+
+    @Test
+    @DisplayName("Caso 16: Salvar alunos em sequência - deve atribuir a cada objeto o ID gerado")
+    void testSave_VariosAlunos_DeveAtribuirIdGerado() {
+        Aluno primeiro = new Aluno("Direito", 1, 0, "Ana Souza", 19);
+        Aluno segundo = new Aluno("Direito", 2, 0, "Bruno Lima", 21);
+
+        assertTrue(repository.save(primeiro));
+        assertTrue(repository.save(segundo));
+
+        assertTrue(primeiro.getId() > 0, "ID gerado deve ser maior que zero");
+        assertTrue(segundo.getId() > primeiro.getId());
+        assertEquals("Ana Souza", repository.findById(primeiro.getId()).getNome());
+        assertEquals("Bruno Lima", repository.findById(segundo.getId()).getNome());
+    }
+
+    @Test
+    @DisplayName("Caso 17: Percorrer alunos por páginas ordenadas pelo ID - deve entregar todos sem repetir")
+    void testFindPage_OrdenacaoPorId_DevePercorrerTodosSemRepetir() {
+        for (int i = 0; i < 7; i++) {
+            repository.save(new Aluno("Engenharia", 1, 0, "Aluno " + i, 20 + i));
+        }
+
+        PageRequest pedido = PageRequest.of(3);
+        Page<Aluno> pagina = repository.findPage(pedido);
+        List<Integer> ids = new ArrayList<>();
+        List<Integer> tamanhos = new ArrayList<>();
+        while (true) {
+            tamanhos.add(pagina.getItems().size());
+            for (Aluno aluno : pagina.getItems()) {
+                ids.add(aluno.getId());
+            }
+            if (!pagina.hasNext()) {
+                break;
+            }
+            pagina = repository.findPage(pedido.next(pagina));
+        }
+
+        assertEquals(Arrays.asList(3, 3, 1), tamanhos);
+        assertEquals(7, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 18: Paginar alunos por nome decrescente com nomes repetidos e nulos - deve manter a ordem total")
+    void testFindPage_OrdenacaoPorNomeDesc_DeveManterOrdemTotal() {
+        String[] nomes = {"Bruno", null, "Ana", "Bruno", "Carla", null, "Ana"};
+        for (String nome : nomes) {
+            repository.save(new Aluno("Direito", 2, 0, nome, 22));
+        }
+
+        PageRequest pedido = PageRequest.of(2).sortBy("nome", PageRequest.Direction.DESC);
+        List<String> obtidos = new ArrayList<>();
+        Page<Aluno> pagina = repository.findPage(pedido);
+        obtidos.addAll(nomesDa(pagina));
+        while (pagina.hasNext()) {
+            pagina = repository.findPage(pedido.next(pagina));
+            obtidos.addAll(nomesDa(pagina));
+        }
+
+        assertEquals(Arrays.asList("Carla", "Bruno", "Bruno", "Ana", "Ana", null, null), obtidos);
+    }
+
+    @Test
+    @DisplayName("Caso 19: Paginar por coluna não permitida - deve lançar IllegalArgumentException")
+    void testFindPage_ColunaInvalida_DeveLancarExcecao() {
+        PageRequest pedido = PageRequest.of(10).sortBy("nome; DROP TABLE tb_alunos", PageRequest.Direction.ASC);
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findPage(pedido));
+    }
+
+    @Test
+    @DisplayName("Caso 20: Percorrer alunos com stream - deve entregar todos e devolver a conexão ao fechar")
+    void testStreamAll_DeveEntregarTodosEDevolverConexao() throws SQLException {
+        for (int i = 0; i < 5; i++) {
+            repository.save(new Aluno("Medicina", 4, 0, "Aluno Stream " + i, 25));
+        }
+        int ativasAntes = ConnectionFactory.getReadPoolStats().getActive();
+
+        long total;
+        try (Stream<Aluno> alunos = repository.streamAll()) {
+            assertEquals(ativasAntes + 1, ConnectionFactory.getReadPoolStats().getActive());
+            total = alunos.filter(a -> a.getNome().startsWith("Aluno Stream")).count();
+        }
+
+        assertEquals(5, total);
+        assertEquals(ativasAntes, ConnectionFactory.getReadPoolStats().getActive());
+    }
+
+    @Test
+    @DisplayName("Caso 21: Percorrer alunos com forEach - deve aplicar a ação a cada aluno")
+    void testForEach_DeveAplicarAcaoACadaAluno() {
+        repository.save(new Aluno("Medicina", 1, 0, "Primeiro", 18));
+        repository.save(new Aluno("Medicina", 2, 0, "Segundo", 19));
+
+        List<String> nomes = new ArrayList<>();
+        repository.forEach(aluno -> nomes.add(aluno.getNome()));
+
+        assertEquals(2, nomes.size());
+        assertTrue(nomes.containsAll(Arrays.asList("Primeiro", "Segundo")));
+    }
+
+    @Test
+    @DisplayName("Caso 22: Buscar resumos de alunos - deve trazer as colunas da listagem")
+    void testFindAllSummaries_DeveTrazerColunasDaListagem() {
+        Aluno aluno = new Aluno("Arquitetura", 5, 0, "Helena Costa", 23);
+        repository.save(aluno);
+
+        List<AlunoResumo> resumos = repository.findAllSummaries();
+
+        assertEquals(1, resumos.size());
+        AlunoResumo resumo = resumos.get(0);
+        assertEquals(aluno.getId(), resumo.getId());
+        assertEquals("Helena Costa", resumo.getNome());
+        assertEquals(23, resumo.getIdade());
+        assertEquals("Arquitetura", resumo.getCurso());
+        assertEquals(5, resumo.getFase());
+    }
+
+    @Test
+    @DisplayName("Caso 23: Paginar resumos de alunos por fase - deve seguir a ordenação pedida")
+    void testFindSummaryPage_OrdenacaoPorFase_DeveSeguirOrdenacao() {
+        int[] fases = {3, 1, 2};
+        for (int fase : fases) {
+            repository.save(new Aluno("Arquitetura", fase, 0, "Aluno Fase " + fase, 20));
+        }
+
+        Page<AlunoResumo> pagina = repository.findSummaryPage(PageRequest.of(2).sortBy("fase", PageRequest.Direction.ASC));
+
+        assertEquals(2, pagina.getItems().size());
+        assertEquals(1, pagina.getItems().get(0).getFase());
+        assertEquals(2, pagina.getItems().get(1).getFase());
+        assertTrue(pagina.hasNext());
+    }
+
+    @Test
+    @DisplayName("Caso 24: Buscar alunos por parte do nome sem acentos - deve encontrar ignorando acentos e caixa")
+    void testSearchByName_PrefixoSemAcento_DeveEncontrar() {
+        repository.save(new Aluno("Letras", 1, 0, "João da Silva", 20));
+        repository.save(new Aluno("Letras", 1, 0, "Joana Souza", 21));
+        repository.save(new Aluno("Letras", 1, 0, "Pedro Almeida", 22));
+
+        List<String> nomes = new ArrayList<>();
+        for (AlunoResumo resumo : repository.searchByName("JOAO sil", 10)) {
+            nomes.add(resumo.getNome());
+        }
+
+        assertEquals(Arrays.asList("João da Silva"), nomes);
+        assertEquals(2, repository.searchByName("jo", 10).size());
+    }
+
+    @Test
+    @DisplayName("Caso 25: Buscar alunos por nome - deve ordenar pela relevância")
+    void testSearchByName_DeveOrdenarPorRelevancia() {
+        repository.save(new Aluno("Letras", 1, 0, "Ana Beatriz Carolina de Souza Mendes", 20));
+        repository.save(new Aluno("Letras", 1, 0, "Ana Lima", 21));
+
+        List<AlunoResumo> resultado = repository.searchByName("ana", 10);
+
+        assertEquals(2, resultado.size());
+        assertEquals("Ana Lima", resultado.get(0).getNome());
+    }
+
+    @Test
+    @DisplayName("Caso 26: Buscar aluno após renomear e excluir - o índice textual deve acompanhar a tabela")
+    void testSearchByName_AposUpdateEDelete_DeveAcompanharTabela() {
+        Aluno aluno = new Aluno("Letras", 1, 0, "Marcos Prado", 20);
+        repository.save(aluno);
+
+        aluno.setNome("Mateus Prado");
+        repository.update(aluno);
+        assertTrue(repository.searchByName("marcos", 10).isEmpty());
+        assertEquals(1, repository.searchByName("mateus", 10).size());
+
+        repository.delete(aluno.getId());
+        assertTrue(repository.searchByName("prado", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caso 27: Buscar com texto sem palavras ou com sintaxe do FTS - não deve lançar exceção")
+    void testSearchByName_TextoSemPalavras_DeveRetornarVazio() {
+        repository.save(new Aluno("Letras", 1, 0, "Lucas Reis", 20));
+
+        assertTrue(repository.searchByName("  *\"()  ", 10).isEmpty());
+        assertEquals(1, repository.searchByName("\"lucas*(", 10).size());
+        assertThrows(IllegalArgumentException.class, () -> repository.searchByName("lucas", 0));
+    }
+
+    @Test
+    @DisplayName("Caso 28: Filtrar alunos por curso, fase e faixa de idade - deve retornar apenas os que atendem")
+    void testFindBy_CursoFaseEIdade_DeveRetornarApenasOsQueAtendem() {
+        repository.save(new Aluno("Direito", 3, 0, "Alvo Um", 20));
+        repository.save(new Aluno("Direito", 3, 0, "Velho Demais", 40));
+        repository.save(new Aluno("Direito", 4, 0, "Outra Fase", 20));
+        repository.save(new Aluno("Medicina", 3, 0, "Outro Curso", 20));
+        repository.save(new Aluno("Direito", 3, 0, "Alvo Dois", 25));
+
+        List<Aluno> alunos = repository.findBy(new AlunoCriteria().curso("Direito").fase(3).idadeEntre(18, 30));
+
+        assertEquals(2, alunos.size());
+        assertEquals("Alvo Um", alunos.get(0).getNome());
+        assertEquals("Alvo Dois", alunos.get(1).getNome());
+    }
+
+    @Test
+    @DisplayName("Caso 29: Contar alunos - deve retornar a quantidade de registros da tabela")
+    void testCount_DeveRetornarQuantidadeDeRegistros() {
+        assertEquals(0, repository.count());
+
+        repository.saveAll(Arrays.asList(new Aluno("Direito", 1, 0, "Ana", 20), new Aluno("Direito", 2, 0, "Bruno", 21)));
+
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    @DisplayName("Caso 30: Buscar página a partir de uma posição - deve começar no registro da posição e permitir continuar")
+    void testFindSummaryPageAt_Posicao_DeveComecarNoRegistroDaPosicao() {
+        String[] nomes = {"Elisa", "Ana", "Diego", "Carla", "Bruno", "Fábio"};
+        for (String nome : nomes) {
+            repository.save(new Aluno("Direito", 1, 0, nome, 20));
+        }
+        PageRequest pedido = PageRequest.of(2).sortBy("nome", PageRequest.Direction.ASC);
+
+        Page<AlunoResumo> pagina = repository.findSummaryPageAt(pedido, 2);
+        Page<AlunoResumo> seguinte = repository.findSummaryPage(pedido.next(pagina));
+
+        assertEquals("Carla", pagina.getItems().get(0).getNome());
+        assertEquals("Diego", pagina.getItems().get(1).getNome());
+        assertEquals("Elisa", seguinte.getItems().get(0).getNome());
+        assertEquals("Ana", repository.findSummaryPageAt(pedido, 0).getItems().get(0).getNome());
+        assertTrue(repository.findSummaryPageAt(pedido, 6).getItems().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repository.findSummaryPageAt(pedido, -1));
+    }
+
+    @Test
+    @DisplayName("Caso 31: Filtrar alunos pelo início do nome - deve retornar em ordem de ID até o limite")
+    void testFilterByName_Prefixo_DeveRetornarEmOrdemDeIdAteLimite() {
+        repository.save(new Aluno("Letras", 1, 0, "Mariana Souza", 20));
+        repository.save(new Aluno("Letras", 1, 0, "Pedro Alves", 21));
+        repository.save(new Aluno("Letras", 1, 0, "Mário Lima", 22));
+        repository.save(new Aluno("Letras", 1, 0, "Ana Maria", 23));
+
+        List<AlunoResumo> resultado = repository.filterByName("mar", 10);
+
+        assertEquals(3, resultado.size());
+        assertEquals("Mariana Souza", resultado.get(0).getNome());
+        assertEquals("Mário Lima", resultado.get(1).getNome());
+        assertEquals("Ana Maria", resultado.get(2).getNome());
+        assertEquals(2, repository.filterByName("mar", 2).size());
+        assertTrue(repository.filterByName("   ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caso 32: Paginar alunos por nome crescente com nulos - deve passar dos nulos aos nomes sem repetir")
+    void testFindPage_OrdenacaoPorNomeAscComNulos_DeveAtravessarFronteira() {
+        String[] nomes = {"Bruno", null, "Ana", null, "Carla", null};
+        for (String nome : nomes) {
+            repository.save(new Aluno("Direito", 2, 0, nome, 22));
+        }
+
+        PageRequest pedido = PageRequest.of(2).sortBy("nome", PageRequest.Direction.ASC);
+        List<String> obtidos = new ArrayList<>();
+        List<Integer> tamanhos = new ArrayList<>();
+        Page<Aluno> pagina = repository.findPage(pedido);
+        while (true) {
+            obtidos.addAll(nomesDa(pagina));
+            tamanhos.add(pagina.getItems().size());
+            if (!pagina.hasNext()) {
+                break;
+            }
+            pagina = repository.findPage(pedido.next(pagina));
+        }
+
+        assertEquals(Arrays.asList(null, null, null, "Ana", "Bruno", "Carla"), obtidos);
+        assertEquals(Arrays.asList(2, 2, 2), tamanhos);
+    }
+
+    private List<String> nomesDa(Page<Aluno> pagina) {
+        List<String> nomes = new ArrayList<>();
+        for (Aluno aluno : pagina.getItems()) {
+            nomes.add(aluno.getNome());
+        }
+        return nomes;
+    }
+}
@@ -2,14 +2,20 @@ package repository;
 
 import db.ConnectionFactory;
 import model.Professor;
+import model.ProfessorResumo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import repository.criteria.ProfessorCriteria;
+import repository.exception.DuplicateKeyException;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -345,5 +351,210 @@ class ProfessorRepositoryImplTest {
         assertNotNull(professores);
         assertTrue(professores.size() >= 2);
     }
-}
 
+    @Test
+    @DisplayName("Caso 12: Salvar professores em lote - deve persistir todos e atribuir os IDs gerados")
+    void testSaveAll_VariosProfessores_DevePersistirTodos() {
+        List<Professor> professores = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            professores.add(new Professor("Campus Lote", String.format("000.000.000-%02d", i), "(48) 99999-0000",
+                    "Mestre", 5000 + i, 0, "Professor Lote " + i, 30 + i));
+        }
+
+        List<Integer> ids = repository.saveAll(professores, 5);
+
+        assertEquals(12, ids.size());
+        assertEquals(12, repository.findAll().size());
+        for (int i = 0; i < professores.size(); i++) {
+            assertEquals(ids.get(i).intValue(), professores.get(i).getId());
+        }
+        assertEquals("Professor Lote 7", repository.findById(ids.get(7)).getNome());
+    }
+
+    @Test
+    @DisplayName("Caso 13: Salvar lote nulo - deve lançar IllegalArgumentException")
+    void testSaveAll_ColecaoNula_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+    }
+
+    @Test
+    @DisplayName("Caso 14: Salvar professor - deve atribuir ao objeto o ID gerado")
+    void testSave_ProfessorValido_DeveAtribuirIdGerado() {
+        Professor professor = new Professor("Campus Norte", "111.222.333-44", "(48) 98888-7777",
+                "Doutor", 8000, 0, "Carla Mendes", 45);
+
+        assertTrue(repository.save(professor));
+
+        assertTrue(professor.getId() > 0, "ID gerado deve ser maior que zero");
+        Professor salvo = repository.findById(professor.getId());
+        assertNotNull(salvo);
+        assertEquals("111.222.333-44", salvo.getCpf());
+    }
+
+    @Test
+    @DisplayName("Caso 15: Paginar professores por salário crescente - deve seguir salário e ID")
+    void testFindPage_OrdenacaoPorSalario_DeveSeguirSalarioEId() {
+        double[] salarios = {7000, 5000, 7000, 6000, 5000};
+        for (int i = 0; i < salarios.length; i++) {
+            repository.save(new Professor("Campus Sul", String.format("222.333.444-%02d", i), "(48) 97777-0000",
+                    "Mestre", salarios[i], 0, "Professor Página " + i, 40));
+        }
+
+        PageRequest pedido = PageRequest.of(2).sortBy("salario", PageRequest.Direction.ASC);
+        List<String> nomes = new ArrayList<>();
+        Page<Professor> pagina = repository.findPage(pedido);
+        while (true) {
+            for (Professor professor : pagina.getItems()) {
+                nomes.add(professor.getNome());
+            }
+            if (!pagina.hasNext()) {
+                break;
+            }
+            pagina = repository.findPage(pedido.next(pagina));
+        }
+
+        assertEquals(Arrays.asList("Professor Página 1", "Professor Página 4", "Professor Página 3",
+                "Professor Página 0", "Professor Página 2"), nomes);
+    }
+
+    @Test
+    @DisplayName("Caso 16: Percorrer professores com forEach - deve visitar cada professor uma vez")
+    void testForEach_DeveVisitarCadaProfessor() {
+        for (int i = 0; i < 4; i++) {
+            repository.save(new Professor("Campus Leste", String.format("333.444.555-%02d", i), "(48) 96666-0000",
+                    "Doutor", 9000, 0, "Professor Stream " + i, 50));
+        }
+
+        double[] soma = {0};
+        int[] visitados = {0};
+        repository.forEach(professor -> {
+            soma[0] += professor.getSalario();
+            visitados[0]++;
+        });
+
+        assertEquals(4, visitados[0]);
+        assertEquals(36000, soma[0], 0.001);
+    }
+
+    @Test
+    @DisplayName("Caso 17: Buscar resumos de professores - deve trazer as colunas da listagem")
+    void testFindAllSummaries_DeveTrazerColunasDaListagem() {
+        Professor professor = new Professor("Campus Oeste", "444.555.666-77", "(48) 95555-4444",
+                "Especialista", 4500.5, 0, "Rafael Nunes", 38);
+        repository.save(professor);
+
+        List<ProfessorResumo> resumos = repository.findAllSummaries();
+
+        assertEquals(1, resumos.size());
+        ProfessorResumo resumo = resumos.get(0);
+        assertEquals(professor.getId(), resumo.getId());
+        assertEquals("Rafael Nunes", resumo.getNome());
+        assertEquals(38, resumo.getIdade());
+        assertEquals("Campus Oeste", resumo.getCampus());
+        assertEquals("444.555.666-77", resumo.getCpf());
+        assertEquals("(48) 95555-4444", resumo.getContato());
+        assertEquals("Especialista", resumo.getTitulo());
+        assertEquals(4500.5, resumo.getSalario(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Caso 18: Buscar professores por nome - deve ignorar acentos e aceitar prefixos")
+    void testSearchByName_DeveIgnorarAcentosEAceitarPrefixos() {
+        repository.save(new Professor("Campus Centro", "555.666.777-88", "(48) 94444-3333",
+                "Doutor", 9500, 0, "Cecília Araújo", 52));
+        repository.save(new Professor("Campus Centro", "555.666.777-99", "(48) 94444-2222",
+                "Mestre", 6500, 0, "Celso Moraes", 47));
+
+        List<ProfessorResumo> resultado = repository.searchByName("cecilia arau", 5);
+
+        assertEquals(1, resultado.size());
+        assertEquals("Cecília Araújo", resultado.get(0).getNome());
+        assertEquals(2, repository.searchByName("ce", 5).size());
+    }
+
+    @Test
+    @DisplayName("Caso 19: Filtrar professores por título e faixa salarial - deve retornar apenas os que atendem")
+    void testFindBy_TituloESalario_DeveRetornarApenasOsQueAtendem() {
+        repository.save(new Professor("Campus Norte", "666.777.888-01", "(48) 93333-0001", "Doutor", 9000, 0, "Doutor Alto", 50));
+        repository.save(new Professor("Campus Norte", "666.777.888-02", "(48) 93333-0002", "Doutor", 4000, 0, "Doutor Baixo", 50));
+        repository.save(new Professor("Campus Norte", "666.777.888-03", "(48) 93333-0003", "Mestre", 9000, 0, "Mestre Alto", 50));
+
+        List<Professor> professores = repository.findBy(new ProfessorCriteria().titulo("Doutor").salarioEntre(5000.0, null));
+
+        assertEquals(1, professores.size());
+        assertEquals("Doutor Alto", professores.get(0).getNome());
+        assertEquals(3, repository.findBy(new ProfessorCriteria()).size());
+    }
+
+    @Test
+    @DisplayName("Caso 20: Gravar por CPF inexistente - deve inserir e atribuir o ID gerado")
+    void testUpsertByCpf_CpfNovo_DeveInserir() {
+        Professor professor = new Professor("Campus Norte", "777.888.999-01", "(48) 94444-0001", "Mestre", 6000, 0, "Nova Professora", 35);
+
+        int id = repository.upsertByCpf(professor);
+
+        assertTrue(id > 0);
+        assertEquals(id, professor.getId());
+        assertEquals("Nova Professora", repository.findById(id).getNome());
+    }
+
+    @Test
+    @DisplayName("Caso 21: Gravar por CPF já cadastrado - deve atualizar o registro existente")
+    void testUpsertByCpf_CpfExistente_DeveAtualizar() {
+        Professor original = new Professor("Campus Norte", "777.888.999-02", "(48) 94444-0002", "Mestre", 6000, 0, "Nome Antigo", 35);
+        repository.save(original);
+
+        Professor novosDados = new Professor("Campus Sul", "777.888.999-02", "(48) 94444-9999", "Doutor", 9500, 0, "Nome Novo", 36);
+        int id = repository.upsertByCpf(novosDados);
+
+        assertEquals(original.getId(), id);
+        assertEquals(1, repository.findAll().size());
+        Professor gravado = repository.findById(id);
+        assertEquals("Nome Novo", gravado.getNome());
+        assertEquals("Campus Sul", gravado.getCampus());
+        assertEquals(9500, gravado.getSalario(), 0.01);
+    }
+
+    @Test
+    @DisplayName("Caso 22: Salvar professor com CPF repetido - deve lançar DuplicateKeyException")
+    void testSave_CpfRepetido_DeveLancarDuplicateKeyException() {
+        repository.save(new Professor("Campus Norte", "777.888.999-03", "(48) 94444-0003", "Mestre", 6000, 0, "Primeiro", 35));
+
+        assertThrows(DuplicateKeyException.class, () -> repository.save(
+                new Professor("Campus Norte", "777.888.999-03", "(48) 94444-0004", "Mestre", 6000, 0, "Segundo", 35)));
+    }
+
+    @Test
+    @DisplayName("Caso 23: Buscar página de professores a partir de uma posição - deve seguir a ordem pedida")
+    void testFindSummaryPageAt_OrdemDecrescente_DeveSeguirOrdemPedida() {
+        for (int i = 1; i <= 5; i++) {
+            repository.save(new Professor("Campus Norte", "777.888.000-0" + i, "(48) 94444-000" + i, "Mestre",
+                    5000 + i, 0, "Professor " + i, 30 + i));
+        }
+        PageRequest pedido = new PageRequest(2, null, PageRequest.Direction.DESC, null);
+
+        Page<ProfessorResumo> pagina = repository.findSummaryPageAt(pedido, 3);
+
+        assertEquals(5, repository.count());
+        assertEquals(2, pagina.getItems().size());
+        assertEquals("Professor 2", pagina.getItems().get(0).getNome());
+        assertEquals("Professor 1", pagina.getItems().get(1).getNome());
+        assertFalse(pagina.hasNext());
+    }
+
+    @Test
+    @DisplayName("Caso 24: Buscar CPFs cadastrados em uma lista maior que uma consulta - deve devolver só os existentes")
+    void testFindExistingCpfs_ListaGrande_DeveDevolverSomenteExistentes() {
+        repository.save(new Professor("Campus Norte", "777.888.999-01", "(48) 94444-0001", "Mestre", 6000, 0, "Primeiro", 35));
+        repository.save(new Professor("Campus Norte", "777.888.999-02", "(48) 94444-0002", "Mestre", 6000, 0, "Segundo", 35));
+        List<String> cpfs = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            cpfs.add(String.format("%011d", i));
+        }
+        cpfs.add("777.888.999-02");
+        cpfs.add("777.888.999-01");
+
+        assertEquals(new HashSet<>(Arrays.asList("777.888.999-01", "777.888.999-02")), repository.findExistingCpfs(cpfs));
+        assertTrue(repository.findExistingCpfs(new ArrayList<>()).isEmpty());
+    }
+}
@@ -0,0 +1,206 @@
+package repository;
+
+import db.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, com <code>EXPLAIN QUERY PLAN</code>, que as consultas dos
+ * repositórios usam a chave primária ou um índice secundário em vez de
+ * percorrer a tabela inteira. As listagens completas (<code>findAll</code>,
+ * <code>streamAll</code>) leem todas as linhas por definição e não são
+ * verificadas aqui.
+ */
+@DisplayName("Testes de Integração - Planos de consulta dos repositórios")
+class QueryPlanTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite:" + tempDir.resolve("plano.db"));
+        SchemaManager.padrao().migrate(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private String plano(String sql) throws SQLException {
+        StringBuilder plano = new StringBuilder();
+        try (PreparedStatement stmt = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parametros = stmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parametros; i++) {
+                stmt.setObject(i, 1);
+            }
+            try (ResultSet res = stmt.executeQuery()) {
+                while (res.next()) {
+                    plano.append(res.getString("detail")).append('\n');
+                }
+            }
+        }
+        return plano.toString();
+    }
+
+    private void assertBuscaIndexada(String sql) throws SQLException {
+        String plano = plano(sql);
+        assertTrue(plano.startsWith("SEARCH "), "Consulta deveria usar índice: " + sql + "\n" + plano);
+        assertFalse(plano.contains("TEMP B-TREE"), "Consulta não deveria ordenar em memória: " + sql + "\n" + plano);
+    }
+
+    private void assertOrdenacaoPorIndice(String sql, String indice) throws SQLException {
+        String plano = plano(sql);
+        assertTrue(plano.contains(indice), "Consulta deveria usar " + indice + ": " + sql + "\n" + plano);
+        assertFalse(plano.contains("TEMP B-TREE"), "Consulta não deveria ordenar em memória: " + sql + "\n" + plano);
+    }
+
+    @Test
+    @DisplayName("Caso 1: Buscas por ID - devem usar a chave primária")
+    void testPlano_BuscasPorId_DevemUsarChavePrimaria() throws SQLException {
+        assertBuscaIndexada("SELECT * FROM tb_alunos WHERE id = ?");
+        assertBuscaIndexada("SELECT * FROM tb_professores WHERE id = ?");
+        assertBuscaIndexada("UPDATE tb_alunos SET nome = ?, idade = ?, curso = ?, fase = ? WHERE id = ?");
+        assertBuscaIndexada("UPDATE tb_professores SET nome = ?, idade = ?, campus = ?, cpf = ?, contato = ?, "
+                + "titulo = ?, salario = ? WHERE id = ?");
+        assertBuscaIndexada("DELETE FROM tb_alunos WHERE id = ?");
+        assertBuscaIndexada("DELETE FROM tb_professores WHERE id = ?");
+    }
+
+    @Test
+    @DisplayName("Caso 2: Busca por CPF - deve usar o índice único de cpf")
+    void testPlano_BuscaPorCpf_DeveUsarIndiceUnico() throws SQLException {
+        String sql = "SELECT * FROM tb_professores WHERE cpf = ?";
+
+        assertBuscaIndexada(sql);
+        assertTrue(plano(sql).contains("ux_professores_cpf"));
+    }
+
+    @Test
+    @DisplayName("Caso 3: Maior ID - deve ser obtido pela chave primária")
+    void testPlano_MaiorId_DeveUsarChavePrimaria() throws SQLException {
+        assertBuscaIndexada("SELECT MAX(id) as max_id FROM tb_alunos");
+        assertBuscaIndexada("SELECT MAX(id) as max_id FROM tb_professores");
+    }
+
+    @Test
+    @DisplayName("Caso 4: Páginas seguintes ordenadas pelo ID - devem posicionar pela chave primária")
+    void testPlano_PaginaPorId_DevePosicionarPelaChavePrimaria() throws SQLException {
+        assertBuscaIndexada("SELECT * FROM tb_alunos WHERE id > ? ORDER BY id ASC LIMIT ?");
+        assertBuscaIndexada("SELECT * FROM tb_professores WHERE id < ? ORDER BY id DESC LIMIT ?");
+    }
+
+    @Test
+    @DisplayName("Caso 5: Páginas ordenadas por colunas indexadas - devem seguir o índice sem ordenar em memória")
+    void testPlano_PaginaPorColunaIndexada_DeveSeguirIndice() throws SQLException {
+        assertOrdenacaoPorIndice("SELECT * FROM tb_alunos WHERE (nome, id) > (?, ?) "
+                + "ORDER BY nome ASC, id ASC LIMIT ?", "idx_alunos_nome");
+        assertOrdenacaoPorIndice("SELECT * FROM tb_professores ORDER BY nome DESC, id DESC LIMIT ?",
+                "idx_professores_nome");
+        assertOrdenacaoPorIndice("SELECT * FROM tb_professores WHERE (campus, id) > (?, ?) "
+                + "ORDER BY campus ASC, id ASC LIMIT ?", "idx_professores_campus");
+        assertOrdenacaoPorIndice("SELECT * FROM tb_professores WHERE (titulo, id) > (?, ?) "
+                + "ORDER BY titulo ASC, id ASC LIMIT ?", "idx_professores_titulo");
+    }
+
+    @Test
+    @DisplayName("Caso 6: Filtro por curso e fase - deve usar o índice composto")
+    void testPlano_FiltroPorCursoEFase_DeveUsarIndiceComposto() throws SQLException {
+        String sql = "SELECT * FROM tb_alunos WHERE curso = ? AND fase = ?";
+
+        assertBuscaIndexada(sql);
+        assertTrue(plano(sql).contains("idx_alunos_curso_fase"));
+    }
+
+    @Test
+    @DisplayName("Caso 7: Busca textual por nome - deve usar o índice FTS5 e a chave primária")
+    void testPlano_BuscaTextual_DeveUsarIndiceFts() throws SQLException {
+        String sql = "SELECT id, nome FROM tb_alunos "
+                + "JOIN (SELECT rowid, rank FROM fts_alunos WHERE fts_alunos MATCH ? ORDER BY rank LIMIT ?) f "
+                + "ON tb_alunos.id = f.rowid ORDER BY f.rank";
+
+        String plano = plano(sql);
+
+        assertTrue(plano.contains("VIRTUAL TABLE INDEX"), plano);
+        assertTrue(plano.contains("SEARCH tb_alunos USING INTEGER PRIMARY KEY"), plano);
+    }
+
+    @Test
+    @DisplayName("Caso 8: Salto para uma posição - deve percorrer apenas o índice da coluna de ordenação")
+    void testPlano_SaltoParaPosicao_DevePercorrerApenasIndice() throws SQLException {
+        String plano = plano("SELECT nome, id FROM tb_alunos ORDER BY nome ASC, id ASC LIMIT 1 OFFSET ?");
+
+        assertTrue(plano.contains("COVERING INDEX idx_alunos_nome"), plano);
+        assertFalse(plano.contains("TEMP B-TREE"), plano);
+    }
+
+    @Test
+    @DisplayName("Caso 9: Filtro por nome sem relevância - deve ler o índice FTS5 em ordem de rowid")
+    void testPlano_FiltroPorNome_DeveLerIndiceFtsSemOrdenar() throws SQLException {
+        String sql = "SELECT id, nome FROM tb_alunos "
+                + "WHERE id IN (SELECT rowid FROM fts_alunos WHERE fts_alunos MATCH ? ORDER BY rowid LIMIT ?) "
+                + "ORDER BY id";
+
+        String plano = plano(sql);
+
+        assertTrue(plano.contains("VIRTUAL TABLE INDEX"), plano);
+        assertTrue(plano.contains("SEARCH tb_alunos USING INTEGER PRIMARY KEY"), plano);
+        assertFalse(plano.contains("TEMP B-TREE"), plano);
+    }
+
+    @Test
+    @DisplayName("Caso 10: Ordenação por qualquer coluna das telas - as consultas geradas devem seguir um índice")
+    void testPlano_OrdenacaoPelasColunasDasTelas_DeveSeguirIndice() throws SQLException {
+        String[][] colunasPorTabela = {
+            {"tb_alunos", "nome", "idade", "curso", "fase"},
+            {"tb_professores", "nome", "idade", "campus", "cpf", "contato", "titulo", "salario"}
+        };
+
+        for (String[] colunas : colunasPorTabela) {
+            String tabela = colunas[0];
+            for (int i = 1; i < colunas.length; i++) {
+                for (boolean crescente : new boolean[]{true, false}) {
+                    for (AbstractRepository.KeysetQuery consulta : AbstractRepository.buildKeysetQueries(
+                            tabela, "*", colunas[i], crescente, null)) {
+                        assertOrdenacaoPorIndice(consulta.sql, "INDEX");
+                    }
+                    List<AbstractRepository.KeysetQuery> seguintes = AbstractRepository.buildKeysetQueries(
+                            tabela, "*", colunas[i], crescente, new PageCursor("valor", 500));
+                    for (AbstractRepository.KeysetQuery consulta : seguintes) {
+                        assertBuscaIndexada(consulta.sql);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 11: Páginas por coluna a partir de um cursor - cada trecho deve posicionar a busca no índice")
+    void testPlano_PaginaPorColunaComCursor_DevePosicionarNoIndice() throws SQLException {
+        for (PageCursor cursor : new PageCursor[]{new PageCursor(30, 500), new PageCursor(null, 500)}) {
+            for (boolean crescente : new boolean[]{true, false}) {
+                for (AbstractRepository.KeysetQuery consulta : AbstractRepository.buildKeysetQueries(
+                        "tb_alunos", "*", "idade", crescente, cursor)) {
+                    assertBuscaIndexada(consulta.sql);
+                    assertTrue(plano(consulta.sql).contains("idx_alunos_idade"), consulta.sql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package repository.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - BloomFilter")
+class BloomFilterTest {
+
+    private static String cpf(int i) {
+        return String.format("%011d", i * 7919L);
+    }
+
+    @Test
+    @DisplayName("Caso 1: Chaves inseridas - nunca devem ser dadas como ausentes")
+    void testMightContain_ChavesInseridas_DevemSerEncontradas() {
+        BloomFilter filtro = new BloomFilter(5000, 0.01);
+        for (int i = 0; i < 5000; i++) {
+            filtro.put(cpf(i));
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(filtro.mightContain(cpf(i)), cpf(i));
+        }
+        assertEquals(5000, filtro.getInsertions());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Chaves não inseridas - falsos positivos devem ficar próximos da taxa configurada")
+    void testMightContain_ChavesAusentes_DeveRespeitarTaxaConfigurada() {
+        BloomFilter filtro = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filtro.put(cpf(i));
+        }
+
+        int falsosPositivos = 0;
+        for (int i = 10000; i < 110000; i++) {
+            if (filtro.mightContain(cpf(i))) {
+                falsosPositivos++;
+            }
+        }
+
+        assertTrue(falsosPositivos < 2000, "Falsos positivos: " + falsosPositivos);
+        assertEquals(0.01, filtro.getEstimatedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    @DisplayName("Caso 3: Dimensionamento - deve seguir a fórmula de bits e funções de hash")
+    void testConstrutor_DeveDimensionarPelaTaxa() {
+        BloomFilter filtro = new BloomFilter(1000, 0.01);
+
+        assertEquals(9586, filtro.getBitSize());
+        assertEquals(7, filtro.getHashFunctions());
+        assertEquals(150 * Long.BYTES, filtro.getMemoryBytes());
+        assertEquals(0.0, filtro.getEstimatedFalsePositiveRate());
+    }
+
+    @Test
+    @DisplayName("Caso 4: Parâmetros inválidos - deve lançar IllegalArgumentException")
+    void testConstrutor_ParametrosInvalidos_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
@@ -0,0 +1,124 @@
+package repository.cache;
+
+import model.Aluno;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import repository.AlunoRepository;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - CachingAlunoRepository")
+class CachingAlunoRepositoryTest {
+
+    @Mock
+    private AlunoRepository delegate;
+
+    private CachingAlunoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingAlunoRepository(delegate, 10, 0);
+    }
+
+    @Test
+    @DisplayName("Caso 1: Buscar o mesmo ID duas vezes - deve consultar o banco uma única vez")
+    void testFindById_DuasVezes_DeveConsultarUmaVez() {
+        when(delegate.findById(7)).thenReturn(new Aluno("Direito", 2, 7, "Ana", 20));
+
+        Aluno primeiro = repository.findById(7);
+        Aluno segundo = repository.findById(7);
+
+        verify(delegate, times(1)).findById(7);
+        assertEquals("Ana", segundo.getNome());
+        assertNotSame(primeiro, segundo);
+        assertEquals(1, repository.getStats().getHits());
+        assertEquals(1, repository.getStats().getMisses());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Alterar o objeto devolvido - não deve afetar o valor em cache")
+    void testFindById_AlterarObjetoDevolvido_NaoDeveAfetarCache() {
+        when(delegate.findById(7)).thenReturn(new Aluno("Direito", 2, 7, "Ana", 20));
+
+        repository.findById(7).setNome("Alterado");
+
+        assertEquals("Ana", repository.findById(7).getNome());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Atualizar aluno - deve invalidar a entrada e reler do banco")
+    void testUpdate_DeveInvalidarEntrada() {
+        Aluno aluno = new Aluno("Direito", 2, 7, "Ana", 20);
+        when(delegate.findById(7)).thenReturn(aluno);
+        when(delegate.update(aluno)).thenReturn(true);
+        repository.findById(7);
+
+        assertTrue(repository.update(aluno));
+        repository.findById(7);
+
+        verify(delegate, times(2)).findById(7);
+    }
+
+    @Test
+    @DisplayName("Caso 4: Excluir aluno - deve invalidar a entrada")
+    void testDelete_DeveInvalidarEntrada() {
+        when(delegate.findById(7)).thenReturn(new Aluno("Direito", 2, 7, "Ana", 20)).thenReturn(null);
+        when(delegate.delete(7)).thenReturn(true);
+        repository.findById(7);
+
+        assertTrue(repository.delete(7));
+
+        assertNull(repository.findById(7));
+    }
+
+    @Test
+    @DisplayName("Caso 5: ID inexistente - não deve ser guardado no cache")
+    void testFindById_Inexistente_NaoDeveSerGuardado() {
+        when(delegate.findById(99)).thenReturn(null);
+
+        assertNull(repository.findById(99));
+        assertNull(repository.findById(99));
+
+        verify(delegate, times(2)).findById(99);
+        assertEquals(0, repository.getStats().getSize());
+    }
+
+    @Test
+    @DisplayName("Caso 6: Listar todos sem escritas no banco - deve reler a tabela apenas uma vez")
+    void testFindAll_SemEscritas_DeveLerUmaVez() {
+        AtomicLong versao = new AtomicLong(1);
+        CachingAlunoRepository comListagens = new CachingAlunoRepository(delegate, 10, 0, versao::get);
+        when(delegate.findAll()).thenReturn(Arrays.asList(new Aluno("Direito", 2, 7, "Ana", 20)));
+
+        comListagens.findAll().get(0).setNome("Alterado");
+        assertEquals("Ana", comListagens.findAll().get(0).getNome());
+        verify(delegate, times(1)).findAll();
+
+        versao.incrementAndGet();
+        comListagens.findAll();
+        verify(delegate, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso 7: Exclusão concluída durante uma leitura sem cache - não deve guardar o registro excluído")
+    void testFindById_ExclusaoDuranteLeitura_NaoDeveGuardarRegistro() {
+        when(delegate.findById(7)).thenAnswer(invocacao -> {
+            repository.delete(7);
+            return new Aluno("Direito", 2, 7, "Ana", 20);
+        }).thenReturn(null);
+
+        assertNotNull(repository.findById(7));
+
+        assertNull(repository.findById(7));
+        assertEquals(0, repository.getStats().getSize());
+    }
+}
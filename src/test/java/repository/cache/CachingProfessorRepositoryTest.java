@@ -0,0 +1,160 @@
+package repository.cache;
+
+import model.Professor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import repository.ProfessorRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - CachingProfessorRepository")
+class CachingProfessorRepositoryTest {
+
+    @Mock
+    private ProfessorRepository delegate;
+
+    private CachingProfessorRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProfessorRepository(delegate, 1, 0);
+    }
+
+    private Professor professor(int id) {
+        return new Professor("Campus", "000.000.000-0" + id, "(48) 90000-0000", "Mestre", 5000, id, "Prof " + id, 40);
+    }
+
+    @Test
+    @DisplayName("Caso 1: Cache cheio - deve descartar o professor menos usado e contar a remoção")
+    void testFindById_CacheCheio_DeveDescartarMenosUsado() {
+        when(delegate.findById(1)).thenReturn(professor(1));
+        when(delegate.findById(2)).thenReturn(professor(2));
+
+        repository.findById(1);
+        repository.findById(2);
+        repository.findById(1);
+
+        verify(delegate, times(2)).findById(1);
+        verify(delegate, times(1)).findById(2);
+        assertEquals(2, repository.getStats().getEvictions());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Atualizar professor - deve invalidar a entrada")
+    void testUpdate_DeveInvalidarEntrada() {
+        Professor professor = professor(1);
+        when(delegate.findById(1)).thenReturn(professor);
+        repository.findById(1);
+
+        repository.update(professor);
+        repository.findById(1);
+
+        verify(delegate, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("Caso 3: CPF certamente ausente do filtro - não deve consultar o banco")
+    void testFindByCpf_CpfAusenteDoFiltro_NaoDeveConsultarBanco() {
+        doAnswer(invocacao -> {
+            Consumer<Professor> acao = invocacao.getArgument(0);
+            acao.accept(professor(1));
+            return null;
+        }).when(delegate).forEach(any());
+        repository.enableCpfFilter(100, 0.01);
+
+        assertNull(repository.findByCpf("999.888.777-66"));
+
+        verify(delegate, never()).findByCpf(anyString());
+        assertEquals(1, repository.getCpfFilterStats().getSkippedLookups());
+    }
+
+    @Test
+    @DisplayName("Caso 4: CPF cadastrado com ou sem máscara - deve ser confirmado no banco")
+    void testFindByCpf_CpfCadastrado_DeveConsultarBanco() {
+        doAnswer(invocacao -> {
+            Consumer<Professor> acao = invocacao.getArgument(0);
+            acao.accept(professor(1));
+            return null;
+        }).when(delegate).forEach(any());
+        repository.enableCpfFilter(100, 0.01);
+        when(delegate.findByCpf("00000000001")).thenReturn(null);
+
+        assertNull(repository.findByCpf("00000000001"));
+
+        verify(delegate).findByCpf("00000000001");
+        assertEquals(1, repository.getCpfFilterStats().getDatabaseLookups());
+        assertEquals(1, repository.getCpfFilterStats().getFalsePositives());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Professor salvo pelo decorador - seu CPF deve passar a ser consultado no banco")
+    void testSave_DeveMarcarCpfNoFiltro() {
+        repository.enableCpfFilter(100, 0.01);
+        Professor novo = professor(5);
+        when(delegate.findByCpf(novo.getCpf())).thenReturn(novo);
+
+        repository.save(novo);
+
+        assertSame(novo, repository.findByCpf(novo.getCpf()));
+        assertNull(repository.findByCpf("123.456.789-00"));
+    }
+
+    @Test
+    @DisplayName("Caso 6: Filtro não criado - deve repassar a busca e não ter estatísticas")
+    void testFindByCpf_SemFiltro_DeveRepassarBusca() {
+        repository.findByCpf("123.456.789-00");
+
+        verify(delegate).findByCpf("123.456.789-00");
+        assertNull(repository.getCpfFilterStats());
+    }
+
+    @Test
+    @DisplayName("Caso 7: Atualização concluída durante uma leitura sem cache - não deve guardar a versão antiga")
+    void testFindById_AtualizacaoDuranteLeitura_NaoDeveGuardarVersaoAntiga() {
+        Professor antigo = professor(1);
+        Professor novo = professor(1);
+        novo.setNome("Renomeado");
+        when(delegate.findById(1)).thenAnswer(invocacao -> {
+            repository.update(novo);
+            return antigo;
+        }).thenReturn(novo);
+
+        assertEquals("Prof 1", repository.findById(1).getNome());
+
+        assertEquals("Renomeado", repository.findById(1).getNome());
+        verify(delegate, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("Caso 8: Filtro carregado em segundo plano - deve ir ao banco até o fim da carga e incluir os CPFs salvos durante ela")
+    void testEnableCpfFilterInBackground_DeveIrAoBancoAteTerminarEIncluirSalvos() {
+        List<Runnable> tarefas = new ArrayList<>();
+        Professor salvoDuranteACarga = professor(5);
+        when(delegate.findByCpf(anyString())).thenAnswer(invocacao ->
+                salvoDuranteACarga.getCpf().equals(invocacao.getArgument(0)) ? salvoDuranteACarga : null);
+
+        CompletableFuture<Void> carga = repository.enableCpfFilterInBackground(100, 0.01, tarefas::add);
+        repository.save(salvoDuranteACarga);
+
+        assertNull(repository.findByCpf("123.456.789-00"));
+        verify(delegate).findByCpf("123.456.789-00");
+
+        tarefas.forEach(Runnable::run);
+
+        assertTrue(carga.isDone());
+        assertNull(repository.findByCpf("987.654.321-00"));
+        verify(delegate, never()).findByCpf("987.654.321-00");
+        assertSame(salvoDuranteACarga, repository.findByCpf(salvoDuranteACarga.getCpf()));
+    }
+}
@@ -0,0 +1,98 @@
+package repository.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - LruCache")
+class LruCacheTest {
+
+    @Test
+    @DisplayName("Caso 1: Exceder a capacidade - deve descartar a entrada usada há mais tempo")
+    void testPut_ExcederCapacidade_DeveDescartarMenosUsada() {
+        LruCache<Integer, String> cache = new LruCache<>(2, 0);
+        cache.put(1, "um");
+        cache.put(2, "dois");
+        cache.get(1);
+
+        cache.put(3, "três");
+
+        assertEquals("um", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("três", cache.get(3));
+        assertEquals(1, cache.getStats().getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Entrada com tempo de vida vencido - deve ser tratada como ausente")
+    void testGet_EntradaExpirada_DeveRetornarNull() {
+        AtomicLong agora = new AtomicLong(1000);
+        LruCache<Integer, String> cache = new LruCache<>(10, 50, agora::get);
+        cache.put(1, "um");
+
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertEquals("um", cache.get(1));
+
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(cache.get(1));
+        assertEquals(1, cache.getStats().getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Consultas com e sem acerto - devem ser contadas nas estatísticas")
+    void testGetStats_DeveContarAcertosEFalhas() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 0);
+        cache.put(1, "um");
+
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(2.0 / 3, stats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Caso 4: Invalidar e limpar expiradas - devem remover as entradas")
+    void testInvalidate_DeveRemoverEntradas() {
+        AtomicLong agora = new AtomicLong(0);
+        LruCache<Integer, String> cache = new LruCache<>(10, 10, agora::get);
+        cache.put(1, "um");
+        cache.put(2, "dois");
+
+        cache.invalidate(1);
+        assertNull(cache.get(1));
+
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(1, cache.purgeExpired());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Capacidade inválida - deve lançar IllegalArgumentException")
+    void testConstrutor_CapacidadeInvalida_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<Integer, String>(0, 0));
+    }
+
+    @Test
+    @DisplayName("Caso 6: Gravar após uma invalidação ocorrida durante a leitura - deve recusar o valor")
+    void testPutIfNotInvalidated_InvalidacaoDuranteLeitura_DeveRecusar() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 0);
+        long antesDaLeitura = cache.getInvalidationCount();
+
+        cache.invalidate(1);
+
+        assertFalse(cache.putIfNotInvalidated(1, "antigo", antesDaLeitura));
+        assertNull(cache.get(1));
+        assertTrue(cache.putIfNotInvalidated(1, "novo", cache.getInvalidationCount()));
+        assertEquals("novo", cache.get(1));
+    }
+}
@@ -0,0 +1,116 @@
+package repository.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - SnapshotCache")
+class SnapshotCacheTest {
+
+    @Test
+    @DisplayName("Caso 1: Versão inalterada - deve devolver a cópia sem recarregar")
+    void testGet_VersaoInalterada_NaoDeveRecarregar() {
+        AtomicInteger cargas = new AtomicInteger();
+        SnapshotCache<String> cache = new SnapshotCache<>(() -> 1L, () -> {
+            cargas.incrementAndGet();
+            return Arrays.asList("a", "b");
+        });
+
+        List<String> primeira = cache.get();
+        List<String> segunda = cache.get();
+
+        assertSame(primeira, segunda);
+        assertEquals(1, cargas.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getReloads());
+        assertThrows(UnsupportedOperationException.class, () -> segunda.add("c"));
+    }
+
+    @Test
+    @DisplayName("Caso 2: Versão alterada - deve recarregar a listagem")
+    void testGet_VersaoAlterada_DeveRecarregar() {
+        AtomicLong versao = new AtomicLong(1);
+        AtomicInteger cargas = new AtomicInteger();
+        SnapshotCache<Integer> cache = new SnapshotCache<>(versao::get,
+                () -> Arrays.asList(cargas.incrementAndGet()));
+
+        assertEquals(Arrays.asList(1), cache.get());
+        versao.incrementAndGet();
+
+        assertEquals(Arrays.asList(2), cache.get());
+        assertEquals(Arrays.asList(2), cache.get());
+        assertEquals(2, cache.getReloads());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Chamadas concorrentes - devem compartilhar uma única recarga")
+    void testGet_ChamadasConcorrentes_DevemCompartilharRecarga() throws Exception {
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        AtomicInteger cargas = new AtomicInteger();
+        SnapshotCache<String> cache = new SnapshotCache<>(() -> 7L, () -> {
+            cargas.incrementAndGet();
+            try {
+                liberarCarga.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Arrays.asList("x");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] tarefas = new Future<?>[8];
+            for (int i = 0; i < tarefas.length; i++) {
+                tarefas[i] = executor.submit(cache::get);
+            }
+            Thread.sleep(100);
+            liberarCarga.countDown();
+            for (Future<?> tarefa : tarefas) {
+                assertEquals(Arrays.asList("x"), tarefa.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Caso 4: Falha na carga - deve propagar a exceção e tentar de novo na próxima chamada")
+    void testGet_FalhaNaCarga_DevePropagarETentarDeNovo() {
+        AtomicInteger cargas = new AtomicInteger();
+        SnapshotCache<String> cache = new SnapshotCache<>(() -> 1L, () -> {
+            if (cargas.incrementAndGet() == 1) {
+                throw new IllegalStateException("banco indisponível");
+            }
+            return Arrays.asList("ok");
+        });
+
+        assertThrows(IllegalStateException.class, cache::get);
+        assertEquals(Arrays.asList("ok"), cache.get());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Invalidar - deve forçar a recarga mesmo sem mudança de versão")
+    void testInvalidate_DeveForcarRecarga() {
+        AtomicInteger cargas = new AtomicInteger();
+        SnapshotCache<Integer> cache = new SnapshotCache<>(() -> 1L,
+                () -> Arrays.asList(cargas.incrementAndGet()));
+        cache.get();
+
+        cache.invalidate();
+
+        assertEquals(Arrays.asList(2), cache.get());
+    }
+}
@@ -0,0 +1,66 @@
+package repository.criteria;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - CriteriaCompiler")
+class CriteriaCompilerTest {
+
+    @Test
+    @DisplayName("Caso 1: Critério sem filtros - deve gerar consulta sem WHERE ordenada pelo ID")
+    void testCompile_SemFiltros_DeveGerarConsultaSemWhere() {
+        CompiledQuery consulta = CriteriaCompiler.compile("SELECT * FROM tb_alunos", new AlunoCriteria());
+
+        assertEquals("SELECT * FROM tb_alunos ORDER BY id", consulta.getSql());
+        assertEquals(Collections.emptyList(), consulta.getParameters());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Filtros informados fora de ordem - devem seguir a ordem fixa das colunas")
+    void testCompile_FiltrosForaDeOrdem_DevemSeguirOrdemFixa() {
+        AlunoCriteria criteria = new AlunoCriteria().idadeEntre(18, 30).fase(2).curso("Direito");
+
+        CompiledQuery consulta = CriteriaCompiler.compile("SELECT * FROM tb_alunos", criteria);
+
+        assertEquals("SELECT * FROM tb_alunos WHERE curso = ? AND fase = ? AND idade >= ? AND idade <= ? "
+                + "ORDER BY id", consulta.getSql());
+        assertEquals(Arrays.asList("Direito", 2, 18, 30), consulta.getParameters());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Faixa aberta - deve gerar apenas o limite informado")
+    void testCompile_FaixaAberta_DeveGerarApenasLimiteInformado() {
+        ProfessorCriteria criteria = new ProfessorCriteria().titulo("Doutor").salarioEntre(5000.0, null);
+
+        CompiledQuery consulta = CriteriaCompiler.compile("SELECT * FROM tb_professores", criteria);
+
+        assertEquals("SELECT * FROM tb_professores WHERE titulo = ? AND salario >= ? ORDER BY id", consulta.getSql());
+        assertEquals(Arrays.asList("Doutor", 5000.0), consulta.getParameters());
+    }
+
+    @Test
+    @DisplayName("Caso 4: Critérios com o mesmo formato - devem reaproveitar o SQL do cache")
+    void testCompile_MesmoFormato_DeveReaproveitarSql() {
+        CompiledQuery primeira = CriteriaCompiler.compile("SELECT * FROM tb_professores",
+                new ProfessorCriteria().campus("Norte").idadeEntre(30, null));
+        int tamanho = CriteriaCompiler.getCacheSize();
+
+        CompiledQuery segunda = CriteriaCompiler.compile("SELECT * FROM tb_professores",
+                new ProfessorCriteria().idadeEntre(45, null).campus("Sul"));
+
+        assertSame(primeira.getSql(), segunda.getSql());
+        assertEquals(tamanho, CriteriaCompiler.getCacheSize());
+        assertEquals(Arrays.asList("Sul", 45), segunda.getParameters());
+    }
+
+    @Test
+    @DisplayName("Caso 5: Critério nulo - deve lançar IllegalArgumentException")
+    void testCompile_CriterioNulo_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> CriteriaCompiler.compile("SELECT * FROM tb_alunos", null));
+    }
+}
@@ -1,6 +1,7 @@
 package service;
 
 import model.Aluno;
+import model.AlunoResumo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import repository.AlunoRepository;
+import repository.Page;
+import repository.PageCursor;
+import repository.PageRequest;
+import repository.criteria.AlunoCriteria;
+import repository.exception.DataAccessException;
 import service.exception.ValidacaoException;
+import service.validacao.CodigoViolacao;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Calendar;
 import java.util.List;
@@ -465,4 +473,134 @@ class AlunoServiceImplTest {
 
         verify(alunoRepository, times(1)).save(alunoValido);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso 20: Listar página de alunos - deve delegar ao repository.findPage()")
+    void testListarPagina_DeveDelegarAoRepository() {
+        PageRequest pedido = PageRequest.of(2).sortBy("nome", PageRequest.Direction.DESC);
+        Page<Aluno> paginaMock = new Page<>(Arrays.asList(new Aluno(), new Aluno()), new PageCursor("Ana", 7));
+        when(alunoRepository.findPage(pedido)).thenReturn(paginaMock);
+
+        Page<Aluno> resultado = alunoService.listarPagina(pedido);
+
+        verify(alunoRepository, times(1)).findPage(pedido);
+        assertSame(paginaMock, resultado);
+        assertTrue(resultado.hasNext());
+    }
+
+    @Test
+    @DisplayName("Caso 21: Listar resumos de alunos - deve delegar ao repository.findAllSummaries()")
+    void testListarResumos_DeveDelegarAoRepository() {
+        List<AlunoResumo> resumosMock = Arrays.asList(new AlunoResumo(1, "Ana", 20, "Direito", 1));
+        when(alunoRepository.findAllSummaries()).thenReturn(resumosMock);
+
+        List<AlunoResumo> resultado = alunoService.listarResumos();
+
+        verify(alunoRepository, times(1)).findAllSummaries();
+        assertEquals(resumosMock, resultado);
+    }
+
+    @Test
+    @DisplayName("Caso 22: Buscar alunos por nome - deve delegar ao repository.searchByName()")
+    void testBuscarPorNome_DeveDelegarAoRepository() {
+        List<AlunoResumo> resumosMock = Arrays.asList(new AlunoResumo(1, "Ana", 20, "Direito", 1));
+        when(alunoRepository.searchByName("ana", 20)).thenReturn(resumosMock);
+
+        List<AlunoResumo> resultado = alunoService.buscarPorNome("ana", 20);
+
+        verify(alunoRepository, times(1)).searchByName("ana", 20);
+        assertEquals(resumosMock, resultado);
+    }
+
+    @Test
+    @DisplayName("Caso 23: Filtrar alunos - deve delegar ao repository.findBy()")
+    void testFiltrar_DeveDelegarAoRepository() {
+        AlunoCriteria criteria = new AlunoCriteria().curso("Direito");
+        List<Aluno> listaMock = Arrays.asList(new Aluno());
+        when(alunoRepository.findBy(criteria)).thenReturn(listaMock);
+
+        List<Aluno> resultado = alunoService.filtrar(criteria);
+
+        verify(alunoRepository, times(1)).findBy(criteria);
+        assertEquals(listaMock, resultado);
+    }
+
+    @Test
+    @DisplayName("Caso 24: Salvar lista com alunos válidos e inválidos - deve gravar os válidos e relatar os recusados")
+    void testSalvarTodos_ListaMista_DeveGravarValidosERelatarRecusados() {
+        Aluno semNome = new Aluno("Direito", 2, 0, "", 20);
+        Aluno faseInvalida = new Aluno("Direito", 11, 0, "Maria Souza", 20);
+        List<Aluno> alunos = Arrays.asList(alunoValido, semNome, faseInvalida, null);
+
+        RelatorioImportacao<Aluno> relatorio = alunoService.salvarTodos(alunos);
+
+        verify(alunoRepository, times(1)).saveAll(Arrays.asList(alunoValido));
+        assertEquals(4, relatorio.getTotal());
+        assertEquals(Arrays.asList(alunoValido), relatorio.getSalvos());
+        assertEquals(3, relatorio.getRejeitados().size());
+        assertEquals(1, relatorio.getRejeitados().get(0).getIndice());
+        assertEquals("Nome é obrigatório.", relatorio.getRejeitados().get(0).getMensagem());
+        assertEquals("Fase deve estar entre 1 e 10.", relatorio.getRejeitados().get(1).getMensagem());
+        assertEquals("Aluno não pode ser nulo.", relatorio.getRejeitados().get(2).getMensagem());
+        assertFalse(relatorio.isSemErros());
+    }
+
+    @Test
+    @DisplayName("Caso 25: Salvar lista grande - deve validar todos e gravar em transações limitadas")
+    void testSalvarTodos_ListaGrande_DeveGravarEmVariasTransacoes() {
+        List<Aluno> alunos = new java.util.ArrayList<>();
+        for (int i = 0; i < ImportacaoEmLote.TAMANHO_TRANSACAO + 1; i++) {
+            alunos.add(new Aluno("Direito", 1 + i % 10, 0, "Aluno " + i, 18 + i % 40));
+        }
+
+        RelatorioImportacao<Aluno> relatorio = alunoService.salvarTodos(alunos);
+
+        verify(alunoRepository, times(2)).saveAll(any());
+        assertTrue(relatorio.isSemErros());
+        assertEquals(alunos, relatorio.getSalvos());
+    }
+
+    @Test
+    @DisplayName("Caso 26: Salvar lista nula - deve lançar ValidacaoException")
+    void testSalvarTodos_ListaNula_DeveLancarExcecao() {
+        assertThrows(ValidacaoException.class, () -> alunoService.salvarTodos(null));
+        verifyNoInteractions(alunoRepository);
+    }
+
+    @Test
+    @DisplayName("Caso 27: Listar páginas de resumos e contar - deve delegar ao repository")
+    void testListarPaginaDeResumos_DeveDelegarAoRepository() {
+        PageRequest pedido = PageRequest.of(100);
+        Page<AlunoResumo> primeira = new Page<>(Arrays.asList(new AlunoResumo(1, "Ana", 20, "Direito", 1)), null);
+        Page<AlunoResumo> naPosicao = new Page<>(Arrays.asList(new AlunoResumo(301, "Bruno", 21, "Direito", 2)), null);
+        when(alunoRepository.findSummaryPage(pedido)).thenReturn(primeira);
+        when(alunoRepository.findSummaryPageAt(pedido, 300)).thenReturn(naPosicao);
+        when(alunoRepository.count()).thenReturn(450);
+
+        assertSame(primeira, alunoService.listarPaginaDeResumos(pedido));
+        assertSame(naPosicao, alunoService.listarPaginaDeResumos(pedido, 300));
+        assertEquals(450, alunoService.contar());
+    }
+
+    @Test
+    @DisplayName("Caso 28: Falha do banco na segunda transação - deve devolver o relatório parcial com a falha")
+    void testSalvarTodos_FalhaNaSegundaTransacao_DeveDevolverRelatorioParcial() {
+        List<Aluno> alunos = new java.util.ArrayList<>();
+        for (int i = 0; i < ImportacaoEmLote.TAMANHO_TRANSACAO + 2; i++) {
+            alunos.add(new Aluno("Direito", 1 + i % 10, 0, "Aluno " + i, 18 + i % 40));
+        }
+        DataAccessException falha = new DataAccessException("Erro ao salvar alunos em lote: disk I/O error", null);
+        doReturn(Collections.emptyList()).doThrow(falha).when(alunoRepository).saveAll(any());
+
+        RelatorioImportacao<Aluno> relatorio = alunoService.salvarTodos(alunos);
+
+        assertSame(falha, relatorio.getFalha());
+        assertFalse(relatorio.isSemErros());
+        assertEquals(alunos.subList(0, ImportacaoEmLote.TAMANHO_TRANSACAO), relatorio.getSalvos());
+        assertEquals(2, relatorio.getRejeitados().size());
+        assertEquals(ImportacaoEmLote.TAMANHO_TRANSACAO, relatorio.getRejeitados().get(0).getIndice());
+        assertEquals(CodigoViolacao.IMPORTACAO_INTERROMPIDA.getMensagem(),
+                relatorio.getRejeitados().get(1).getMensagem());
+        verify(alunoRepository, never()).save(any());
+    }
+}
@@ -1,6 +1,7 @@
 package service;
 
 import model.Professor;
+import model.ProfessorResumo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,10 +10,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import repository.ProfessorRepository;
+import repository.Page;
+import repository.PageCursor;
+import repository.PageRequest;
+import repository.criteria.ProfessorCriteria;
+import repository.exception.DuplicateKeyException;
 import service.exception.ValidacaoException;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -556,5 +565,167 @@ class ProfessorServiceImplTest {
         
         assertEquals("12345678901", resultado);
     }
-}
 
+    @Test
+    @DisplayName("Caso 37: Listar página de professores - deve delegar ao repository.findPage()")
+    void testListarPagina_DeveDelegarAoRepository() {
+        PageRequest pedido = PageRequest.of(2).sortBy("nome", PageRequest.Direction.DESC);
+        Page<Professor> paginaMock = new Page<>(Arrays.asList(new Professor(), new Professor()), new PageCursor("Ana", 7));
+        when(professorRepository.findPage(pedido)).thenReturn(paginaMock);
+
+        Page<Professor> resultado = professorService.listarPagina(pedido);
+
+        verify(professorRepository, times(1)).findPage(pedido);
+        assertSame(paginaMock, resultado);
+        assertTrue(resultado.hasNext());
+    }
+
+    @Test
+    @DisplayName("Caso 38: Listar resumos de professores - deve delegar ao repository.findAllSummaries()")
+    void testListarResumos_DeveDelegarAoRepository() {
+        List<ProfessorResumo> resumosMock = Arrays.asList(new ProfessorResumo(1, "Ana", 40, "Campus", "000.000.000-00", "(48) 90000-0000", "Mestre", 5000));
+        when(professorRepository.findAllSummaries()).thenReturn(resumosMock);
+
+        List<ProfessorResumo> resultado = professorService.listarResumos();
+
+        verify(professorRepository, times(1)).findAllSummaries();
+        assertEquals(resumosMock, resultado);
+    }
+
+    @Test
+    @DisplayName("Caso 39: Buscar professores por nome - deve delegar ao repository.searchByName()")
+    void testBuscarPorNome_DeveDelegarAoRepository() {
+        List<ProfessorResumo> resumosMock = Arrays.asList(new ProfessorResumo(1, "Ana", 40, "Campus", "000.000.000-00", "(48) 90000-0000", "Mestre", 5000));
+        when(professorRepository.searchByName("ana", 20)).thenReturn(resumosMock);
+
+        List<ProfessorResumo> resultado = professorService.buscarPorNome("ana", 20);
+
+        verify(professorRepository, times(1)).searchByName("ana", 20);
+        assertEquals(resumosMock, resultado);
+    }
+
+    @Test
+    @DisplayName("Caso 40: Filtrar professores - deve delegar ao repository.findBy()")
+    void testFiltrar_DeveDelegarAoRepository() {
+        ProfessorCriteria criteria = new ProfessorCriteria().titulo("Doutor");
+        List<Professor> listaMock = Arrays.asList(new Professor());
+        when(professorRepository.findBy(criteria)).thenReturn(listaMock);
+
+        List<Professor> resultado = professorService.filtrar(criteria);
+
+        verify(professorRepository, times(1)).findBy(criteria);
+        assertEquals(listaMock, resultado);
+    }
+
+    @Test
+    @DisplayName("Caso 41: Salvar por CPF um professor válido - deve gravar com upsertByCpf sem consultar o CPF")
+    void testSalvarPorCpf_ProfessorValido_DeveChamarUpsertSemConsultarCpf() throws ValidacaoException {
+        professorService.salvarPorCpf(professorValido);
+
+        verify(professorRepository, times(1)).upsertByCpf(professorValido);
+        verify(professorRepository, never()).findByCpf(any());
+    }
+
+    @Test
+    @DisplayName("Caso 42: Salvar por CPF um professor inválido - deve lançar ValidacaoException sem gravar")
+    void testSalvarPorCpf_ProfessorInvalido_DeveLancarExcecao() {
+        professorValido.setNome("");
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+                () -> professorService.salvarPorCpf(professorValido));
+
+        assertEquals("Nome é obrigatório.", exception.getMessage());
+        verify(professorRepository, never()).upsertByCpf(any());
+    }
+
+    @Test
+    @DisplayName("Caso 43: CPF cadastrado entre a validação e a gravação - deve lançar ValidacaoException")
+    void testSalvar_ConflitoDeCpfNaGravacao_DeveLancarValidacaoException() {
+        when(professorRepository.findByCpf(professorValido.getCpf())).thenReturn(null);
+        when(professorRepository.save(professorValido))
+                .thenThrow(new DuplicateKeyException("Erro ao salvar professor: UNIQUE constraint failed", null));
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+                () -> professorService.salvar(professorValido));
+
+        assertEquals("CPF já cadastrado no sistema.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Caso 44: Atualizar para um CPF de outro professor - deve lançar ValidacaoException")
+    void testAtualizar_ConflitoDeCpfNaGravacao_DeveLancarValidacaoException() {
+        professorValido.setId(3);
+        when(professorRepository.findByCpf(professorValido.getCpf())).thenReturn(null);
+        when(professorRepository.update(professorValido))
+                .thenThrow(new DuplicateKeyException("Erro ao atualizar professor: UNIQUE constraint failed", null));
+
+        assertThrows(ValidacaoException.class, () -> professorService.atualizar(professorValido));
+    }
+
+    private Professor professorComCpf(String nome, String cpf) {
+        return new Professor("Tubarão", cpf, "47912345678", "Doutor", 5000.0, 0, nome, 30);
+    }
+
+    @Test
+    @DisplayName("Caso 45: Salvar lista com CPF repetido - deve gravar a primeira ocorrência e recusar a segunda")
+    void testSalvarTodos_CpfRepetidoNaLista_DeveRecusarSegundaOcorrencia() {
+        Professor primeiro = professorComCpf("Ana Lima", "11122233344");
+        Professor repetido = professorComCpf("Bruno Lima", "11122233344");
+        Professor cadastrado = professorComCpf("Carla Lima", "55566677788");
+        when(professorRepository.findExistingCpfs(any())).thenReturn(Collections.singleton("55566677788"));
+
+        RelatorioImportacao<Professor> relatorio = professorService.salvarTodos(
+                Arrays.asList(primeiro, repetido, cadastrado));
+
+        verify(professorRepository, times(1)).saveAll(Arrays.asList(primeiro));
+        assertEquals(Arrays.asList(primeiro), relatorio.getSalvos());
+        assertEquals("CPF repetido na lista de importação.", relatorio.getRejeitados().get(0).getMensagem());
+        assertEquals("CPF já cadastrado no sistema.", relatorio.getRejeitados().get(1).getMensagem());
+        assertEquals(2, relatorio.getRejeitados().get(1).getIndice());
+    }
+
+    @Test
+    @DisplayName("Caso 46: CPF gravado por outro cadastro durante a importação - deve recusar apenas o conflitante")
+    void testSalvarTodos_ConflitoNaGravacao_DeveGravarUmAUm() {
+        Professor livre = professorComCpf("Ana Lima", "11122233344");
+        Professor conflitante = professorComCpf("Bruno Lima", "99988877766");
+        when(professorRepository.saveAll(any()))
+                .thenThrow(new DuplicateKeyException("Erro ao salvar professores em lote: UNIQUE", null));
+        when(professorRepository.save(any())).thenAnswer(invocacao -> {
+            if (invocacao.getArgument(0) == conflitante) {
+                throw new DuplicateKeyException("Erro ao salvar professor: UNIQUE", null);
+            }
+            return true;
+        });
+
+        RelatorioImportacao<Professor> relatorio = professorService.salvarTodos(Arrays.asList(livre, conflitante));
+
+        verify(professorRepository).save(livre);
+        assertEquals(Arrays.asList(livre), relatorio.getSalvos());
+        assertEquals(1, relatorio.getRejeitados().size());
+        assertEquals("CPF já cadastrado no sistema.", relatorio.getRejeitados().get(0).getMensagem());
+    }
+
+    @Test
+    @DisplayName("Caso 47: Salvar lista de professores - deve consultar os CPFs uma vez por transação, sem findByCpf")
+    void testSalvarTodos_DeveConsultarCpfsEmLote() {
+        Professor ana = professorComCpf("Ana Lima", "11122233344");
+        Professor bruno = professorComCpf("Bruno Lima", "99988877766");
+        Professor invalido = professorComCpf("Carla Lima", "123");
+
+        RelatorioImportacao<Professor> relatorio = professorService.salvarTodos(Arrays.asList(ana, bruno, invalido));
+
+        verify(professorRepository, times(1)).findExistingCpfs(Arrays.asList("11122233344", "99988877766"));
+        verify(professorRepository, never()).findByCpf(any());
+        assertEquals(Arrays.asList(ana, bruno), relatorio.getSalvos());
+        assertEquals(2, relatorio.getRejeitados().get(0).getIndice());
+    }
+
+    @Test
+    @DisplayName("Caso 48: Validar formatado com input contendo apenas dígitos - deve devolver a mesma instância, sem copiar")
+    void testValidarFormatado_InputApenasDigitos_DeveDevolverMesmaInstancia() {
+        String input = "12345678901";
+
+        assertSame(input, professorService.validarFormatado(input));
+    }
+}
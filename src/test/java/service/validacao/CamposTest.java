@@ -0,0 +1,48 @@
+package service.validacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - Campos")
+class CamposTest {
+
+    private static final String[] AMOSTRAS = {"", " ", "a", "1", "José", "  Ana  ", "123", "12a", "\t\n", "Ana\nSilva",
+        "Ana\r", "Ção", "日本", "_-.", "x y", " ", "Ñ1", "𝐀"};
+
+    @Test
+    @DisplayName("Caso 1: Verificação de letra - deve concordar com matches(\".*\\\\p{L}.*\")")
+    void testContemLetra_DeveConcordarComExpressaoRegular() {
+        for (String amostra : AMOSTRAS) {
+            assertEquals(amostra.matches(".*\\p{L}.*"), Campos.contemLetra(amostra), "Amostra: " + amostra);
+        }
+    }
+
+    @Test
+    @DisplayName("Caso 2: Verificação de vazio - deve concordar com trim().isEmpty()")
+    void testVazio_DeveConcordarComTrim() {
+        for (String amostra : AMOSTRAS) {
+            assertEquals(amostra.trim().isEmpty(), Campos.vazio(amostra), "Amostra: " + amostra);
+        }
+        assertTrue(Campos.vazio(null));
+    }
+
+    @Test
+    @DisplayName("Caso 3: Contagem de dígitos - deve contar apenas dígitos de 0 a 9")
+    void testContarDigitos_DeveContarApenasDigitosAscii() {
+        assertEquals(11, Campos.contarDigitos("123.456.789-01"));
+        assertEquals(11, Campos.contarDigitos("(48) 99999-8888"));
+        assertEquals(0, Campos.contarDigitos("١٢٣"));
+        assertEquals(0, Campos.contarDigitos(null));
+    }
+
+    @Test
+    @DisplayName("Caso 4: Campo de seleção - deve tratar vazio e \"-\" como não selecionado")
+    void testNaoSelecionado_DeveTratarMarcadorComoVazio() {
+        assertTrue(Campos.naoSelecionado("-"));
+        assertTrue(Campos.naoSelecionado(" "));
+        assertTrue(Campos.naoSelecionado(null));
+        assertFalse(Campos.naoSelecionado("Doutor"));
+    }
+}
@@ -0,0 +1,58 @@
+package service.validacao;
+
+import model.Aluno;
+import model.Professor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.exception.ValidacaoException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - Validador")
+class ValidadorTest {
+
+    private static Professor professorValido() {
+        return new Professor("Tubarão", "123.456.789-01", "(48) 99999-8888", "Doutor", 5000, 0, "Ana Lima", 40);
+    }
+
+    @Test
+    @DisplayName("Caso 1: Aluno válido - não deve apresentar violação")
+    void testPrimeiraViolacao_AlunoValido_DeveRetornarNull() {
+        assertNull(RegrasAluno.VALIDADOR.primeiraViolacao(new Aluno("Direito", 3, 0, "João Silva", 20)));
+    }
+
+    @Test
+    @DisplayName("Caso 2: Aluno com vários erros - deve informar o código da primeira regra violada")
+    void testPrimeiraViolacao_AlunoComVariosErros_DeveRetornarPrimeira() {
+        Aluno aluno = new Aluno("-", 0, 0, "123", 5);
+
+        assertEquals(CodigoViolacao.NOME_SEM_LETRA, RegrasAluno.VALIDADOR.primeiraViolacao(aluno));
+        assertEquals(CodigoViolacao.ALUNO_NULO, RegrasAluno.VALIDADOR.primeiraViolacao(null));
+    }
+
+    @Test
+    @DisplayName("Caso 3: Validar com violação - deve lançar ValidacaoException com código e mensagem")
+    void testValidar_ComViolacao_DeveLancarExcecaoComCodigo() {
+        Professor professor = professorValido();
+        professor.setSalario(999.99);
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+                () -> RegrasProfessor.validador(null).validar(professor));
+
+        assertEquals(CodigoViolacao.SALARIO_FORMATO_INVALIDO, exception.getCodigo());
+        assertEquals("O campo salário deve possuir no mínimo 4 caracteres numéricos.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Caso 4: Regra de CPF informada - deve ser verificada após o formato e antes do contato")
+    void testValidador_RegraDeCpf_DeveSerVerificadaNaOrdem() {
+        Validador<Professor> validador = RegrasProfessor.validador(p -> CodigoViolacao.CPF_JA_CADASTRADO);
+        Professor professor = professorValido();
+        professor.setContato("");
+
+        assertEquals(CodigoViolacao.CPF_JA_CADASTRADO, validador.primeiraViolacao(professor));
+
+        professor.setCpf("123");
+        assertEquals(CodigoViolacao.CPF_FORMATO_INVALIDO, validador.primeiraViolacao(professor));
+    }
+}
@@ -0,0 +1,47 @@
+package view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.SwingUtilities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - CampoDeBusca")
+class CampoDeBuscaTest {
+
+    @Test
+    @DisplayName("Caso 1: Digitação em sequência - deve buscar uma única vez com o texto final")
+    void testDigitacao_EmSequencia_DeveBuscarUmaVezComTextoFinal() throws Exception {
+        List<String> buscas = Collections.synchronizedList(new ArrayList<>());
+        CampoDeBusca[] campo = new CampoDeBusca[1];
+
+        SwingUtilities.invokeAndWait(() -> {
+            campo[0] = new CampoDeBusca(buscas::add, 100);
+            campo[0].setText("j");
+            campo[0].setText("jo");
+            campo[0].setText("joa");
+        });
+        Thread.sleep(400);
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(Collections.singletonList("joa"), buscas);
+    }
+
+    @Test
+    @DisplayName("Caso 2: Enter - deve buscar imediatamente sem esperar")
+    void testEnter_DeveBuscarImediatamente() throws Exception {
+        List<String> buscas = new ArrayList<>();
+
+        SwingUtilities.invokeAndWait(() -> {
+            CampoDeBusca campo = new CampoDeBusca(buscas::add, 10000);
+            campo.setText("maria");
+            campo.postActionEvent();
+        });
+
+        assertEquals(Collections.singletonList("maria"), buscas);
+    }
+}
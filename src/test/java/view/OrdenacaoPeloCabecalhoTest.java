@@ -0,0 +1,96 @@
+package view;
+
+import model.AlunoResumo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import repository.Page;
+import repository.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.JTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - OrdenacaoPeloCabecalho")
+class OrdenacaoPeloCabecalhoTest {
+
+    /** Fonte que registra a ordenação de cada página pedida. */
+    private static class FonteOrdenada implements PaginadoTableModel.Fonte<AlunoResumo> {
+        final List<String> pedidos = new ArrayList<>();
+
+        @Override
+        public int contar() {
+            return 1;
+        }
+
+        @Override
+        public Page<AlunoResumo> pagina(PageRequest pedido) {
+            pedidos.add(pedido.getSortColumn() + " " + pedido.getDirection());
+            return new Page<>(Collections.singletonList(new AlunoResumo(1, "Ana", 20, "Direito", 1)), null);
+        }
+
+        @Override
+        public Page<AlunoResumo> paginaNaPosicao(PageRequest pedido, int posicao) {
+            return pagina(pedido);
+        }
+
+        @Override
+        public List<AlunoResumo> filtrar(String consulta, int limite) {
+            return Collections.emptyList();
+        }
+    }
+
+    private FonteOrdenada fonte;
+    private JTable tabela;
+    private OrdenacaoPeloCabecalho ordenacao;
+
+    @BeforeEach
+    void setUp() {
+        fonte = new FonteOrdenada();
+        AlunoTableModel modelo = new AlunoTableModel(fonte, 10, 3, Runnable::run);
+        tabela = new JTable(modelo);
+        ordenacao = OrdenacaoPeloCabecalho.instalar(tabela, modelo);
+    }
+
+    private String titulo(int coluna) {
+        return (String) tabela.getColumnModel().getColumn(coluna).getHeaderValue();
+    }
+
+    @Test
+    @DisplayName("Caso 1: Cliques na mesma coluna - devem pedir ao banco a ordem crescente e depois a decrescente")
+    void testOrdenarPelaColuna_MesmaColuna_DeveAlternarSentido() {
+        ordenacao.ordenarPelaColuna(1);
+        assertEquals("Nome ▲", titulo(1));
+
+        ordenacao.ordenarPelaColuna(1);
+
+        assertEquals("Nome ▼", titulo(1));
+        assertEquals(Arrays.asList("nome ASC", "nome DESC"), fonte.pedidos);
+    }
+
+    @Test
+    @DisplayName("Caso 2: Clique em outra coluna - deve ordenar de forma crescente e limpar a seta anterior")
+    void testOrdenarPelaColuna_OutraColuna_DeveOrdenarCrescenteELimparSeta() {
+        ordenacao.ordenarPelaColuna(1);
+        ordenacao.ordenarPelaColuna(1);
+
+        ordenacao.ordenarPelaColuna(4);
+
+        assertEquals("Nome", titulo(1));
+        assertEquals("Fase ▲", titulo(4));
+        assertEquals("fase ASC", fonte.pedidos.get(fonte.pedidos.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Caso 3: Clique no ID na ordem padrão - deve inverter para decrescente")
+    void testOrdenarPelaColuna_IdNaOrdemPadrao_DeveInverter() {
+        ordenacao.ordenarPelaColuna(0);
+
+        assertEquals("ID ▼", titulo(0));
+        assertEquals("id DESC", fonte.pedidos.get(0));
+    }
+}
@@ -0,0 +1,236 @@
+package view;
+
+import model.AlunoResumo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import repository.Page;
+import repository.PageCursor;
+import repository.PageRequest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - PaginadoTableModel")
+class PaginadoTableModelTest {
+
+    /** Fonte em memória que registra como cada página foi pedida. */
+    private static class FonteEmMemoria implements PaginadoTableModel.Fonte<AlunoResumo> {
+        final List<AlunoResumo> alunos = new ArrayList<>();
+        final List<String> pedidos = new ArrayList<>();
+
+        FonteEmMemoria(int quantidade) {
+            for (int i = 0; i < quantidade; i++) {
+                alunos.add(new AlunoResumo(i + 1, "Aluno " + i, 18 + i % 40, "Direito", 1 + i % 10));
+            }
+        }
+
+        @Override
+        public int contar() {
+            return alunos.size();
+        }
+
+        @Override
+        public Page<AlunoResumo> pagina(PageRequest pedido) {
+            int inicio = pedido.getAfter() == null ? 0 : pedido.getAfter().getLastId();
+            pedidos.add("cursor:" + inicio);
+            return fatia(inicio, pedido.getSize());
+        }
+
+        @Override
+        public Page<AlunoResumo> paginaNaPosicao(PageRequest pedido, int posicao) {
+            pedidos.add("posicao:" + posicao);
+            return fatia(posicao, pedido.getSize());
+        }
+
+        @Override
+        public List<AlunoResumo> filtrar(String consulta, int limite) {
+            pedidos.add("filtro:" + consulta);
+            List<AlunoResumo> encontrados = new ArrayList<>();
+            for (AlunoResumo aluno : alunos) {
+                if (encontrados.size() < limite && aluno.getNome().contains(consulta)) {
+                    encontrados.add(aluno);
+                }
+            }
+            return encontrados;
+        }
+
+        private Page<AlunoResumo> fatia(int inicio, int tamanho) {
+            int fim = Math.min(alunos.size(), inicio + tamanho);
+            List<AlunoResumo> itens = new ArrayList<>(alunos.subList(Math.min(inicio, fim), fim));
+            return new Page<>(itens, fim < alunos.size() ? new PageCursor(null, fim) : null);
+        }
+    }
+
+    private FonteEmMemoria fonte;
+    private AlunoTableModel modelo;
+
+    @BeforeEach
+    void setUp() {
+        fonte = new FonteEmMemoria(1000);
+        modelo = criarModelo(fonte);
+    }
+
+    /** Modelo de alunos com páginas de 10 registros, 3 páginas em memória e busca na própria thread. */
+    private static AlunoTableModel criarModelo(FonteEmMemoria fonte) {
+        return new AlunoTableModel(fonte, 10, 3, Runnable::run);
+    }
+
+    private static void aguardarEventos() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    @Test
+    @DisplayName("Caso 1: Recarregar - deve conhecer o total e exibir a primeira página com um único evento")
+    void testRecarregar_DeveConhecerTotalEPrimeiraPagina() throws Exception {
+        List<TableModelEvent> eventos = new ArrayList<>();
+        modelo.addTableModelListener(eventos::add);
+
+        modelo.recarregar();
+        aguardarEventos();
+
+        assertEquals(1000, modelo.getRowCount());
+        assertEquals(1, eventos.size());
+        assertEquals(1, modelo.getValueAt(0, 0));
+        assertEquals("2ª", modelo.getValueAt(1, 4));
+        assertEquals(1, modelo.getPaginasEmMemoria());
+    }
+
+    @Test
+    @DisplayName("Caso 2: Linha fora da memória - deve devolver nulo e buscar a página pelo cursor")
+    void testGetValueAt_PaginaSeguinte_DeveBuscarPeloCursor() throws Exception {
+        modelo.recarregar();
+        aguardarEventos();
+        List<TableModelEvent> eventos = new ArrayList<>();
+        modelo.addTableModelListener(eventos::add);
+
+        assertNull(modelo.getValueAt(15, 1));
+        aguardarEventos();
+
+        assertEquals("Aluno 15", modelo.getValueAt(15, 1));
+        assertEquals("cursor:10", fonte.pedidos.get(fonte.pedidos.size() - 1));
+        assertEquals(10, eventos.get(0).getFirstRow());
+        assertEquals(19, eventos.get(0).getLastRow());
+    }
+
+    @Test
+    @DisplayName("Caso 3: Salto para o meio da tabela - deve buscar pela posição e manter poucas páginas em memória")
+    void testGetValueAt_Salto_DeveBuscarPelaPosicaoELimitarMemoria() throws Exception {
+        modelo.recarregar();
+        aguardarEventos();
+
+        for (int linha : new int[]{505, 705, 905, 915}) {
+            modelo.getValueAt(linha, 1);
+            aguardarEventos();
+        }
+
+        assertTrue(fonte.pedidos.contains("posicao:500"));
+        assertTrue(fonte.pedidos.contains("cursor:910"));
+        assertEquals(3, modelo.getPaginasEmMemoria());
+        assertNull(modelo.getRegistro(505));
+    }
+
+    @Test
+    @DisplayName("Caso 4: Falha na busca - deve avisar uma única vez e parar de buscar até recarregar")
+    void testGetValueAt_FalhaNaBusca_DeveAvisarUmaVez() throws Exception {
+        List<Throwable> falhas = new ArrayList<>();
+        FonteEmMemoria comFalha = new FonteEmMemoria(1000) {
+            @Override
+            public Page<AlunoResumo> paginaNaPosicao(PageRequest pedido, int posicao) {
+                pedidos.add("falha:" + posicao);
+                throw new IllegalStateException("banco indisponível");
+            }
+        };
+        AlunoTableModel comErro = criarModelo(comFalha);
+        comErro.setAoFalhar(falhas::add);
+        comErro.recarregar();
+        aguardarEventos();
+
+        comErro.getValueAt(500, 0);
+        aguardarEventos();
+        comErro.getValueAt(600, 0);
+        aguardarEventos();
+
+        assertEquals(1, falhas.size());
+        assertEquals("banco indisponível", falhas.get(0).getMessage());
+        assertNotNull(comErro.getValueAt(0, 0));
+        assertFalse(comFalha.pedidos.contains("falha:600"));
+    }
+
+    @Test
+    @DisplayName("Caso 5: Filtrar por nome - deve exibir só os encontrados e voltar às páginas ao limpar")
+    void testFiltrar_DeveExibirEncontradosEVoltarAsPaginas() throws Exception {
+        modelo.recarregar();
+        aguardarEventos();
+
+        modelo.filtrar(" Aluno 99 ");
+        aguardarEventos();
+
+        assertEquals(11, modelo.getRowCount());
+        assertEquals("Aluno 99", modelo.getValueAt(0, 1));
+        assertEquals("Aluno 999", modelo.getValueAt(10, 1));
+        assertEquals("Aluno 99", modelo.getFiltro());
+
+        modelo.filtrar("");
+        aguardarEventos();
+
+        assertEquals(1000, modelo.getRowCount());
+        assertEquals("Aluno 0", modelo.getValueAt(0, 1));
+    }
+
+    @Test
+    @DisplayName("Caso 6: Digitação rápida - deve consultar apenas o texto mais recente")
+    void testFiltrar_DigitacaoRapida_DeveConsultarApenasTextoMaisRecente() throws Exception {
+        List<Runnable> fila = new ArrayList<>();
+        AlunoTableModel comFila = new AlunoTableModel(fonte, 10, 3, fila::add);
+
+        comFila.filtrar("Aluno 1");
+        comFila.filtrar("Aluno 12");
+        comFila.filtrar("Aluno 123");
+        for (Runnable busca : fila) {
+            busca.run();
+        }
+        aguardarEventos();
+
+        assertEquals(1, fonte.pedidos.size());
+        assertEquals("filtro:Aluno 123", fonte.pedidos.get(0));
+        assertEquals(1, comFila.getRowCount());
+        assertEquals(124, comFila.getValueAt(0, 0));
+    }
+
+    @Test
+    @DisplayName("Caso 7: Várias páginas pedidas de uma vez - a barra deve mostrar quantas já chegaram e sumir ao final")
+    void testIndicador_VariasPaginas_DeveMostrarProgresso() throws Exception {
+        List<Runnable> fila = new ArrayList<>();
+        AlunoTableModel comFila = new AlunoTableModel(fonte, 10, 3, fila::add);
+        JProgressBar barra = new JProgressBar();
+        comFila.setIndicadorDeCarga(barra);
+        comFila.recarregar();
+        fila.remove(0).run();
+        aguardarEventos();
+
+        for (int linha : new int[]{500, 510, 520}) {
+            comFila.getValueAt(linha, 1);
+        }
+        assertTrue(barra.isVisible());
+        assertEquals("0 de 3", barra.getString());
+
+        fila.remove(0).run();
+        aguardarEventos();
+        assertEquals(1, barra.getValue());
+        assertEquals(3, barra.getMaximum());
+        assertEquals("1 de 3", barra.getString());
+
+        while (!fila.isEmpty()) {
+            fila.remove(0).run();
+        }
+        aguardarEventos();
+        assertFalse(barra.isVisible());
+    }
+}